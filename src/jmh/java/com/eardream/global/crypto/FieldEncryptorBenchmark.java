@@ -0,0 +1,66 @@
+package com.eardream.global.crypto;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Base64;
+
+/**
+ * 필드 암호화 처리량 벤치마크
+ * UserService 프로필 조회(getMyProfile: 전화번호/주소 복호화 2회)와
+ * 프로필 수정(updateMyProfile: 암호화 2회) 경로의 암호화 비용을 측정한다.
+ */
+@State(Scope.Benchmark)
+public class FieldEncryptorBenchmark {
+
+    private static final String PHONE = "010-1234-5678";
+    private static final String ADDRESS = "서울특별시 강남구 테헤란로 123, 이어드림빌딩 10층 1001호";
+
+    private FieldEncryptor encryptor;
+    private String encryptedPhone;
+    private String encryptedAddress;
+
+    @Setup
+    public void setUp() {
+        byte[] key = new byte[32];
+        for (int i = 0; i < key.length; i++) {
+            key[i] = (byte) i;
+        }
+        encryptor = new FieldEncryptor(Base64.getEncoder().encodeToString(key));
+        encryptedPhone = encryptor.encrypt(PHONE);
+        encryptedAddress = encryptor.encrypt(ADDRESS);
+    }
+
+    @Benchmark
+    public String encryptPhone() {
+        return encryptor.encrypt(PHONE);
+    }
+
+    @Benchmark
+    public String decryptPhone() {
+        return encryptor.decrypt(encryptedPhone);
+    }
+
+    @Benchmark
+    public void readProfile(Blackhole blackhole) {
+        blackhole.consume(encryptor.decrypt(encryptedPhone));
+        blackhole.consume(encryptor.decrypt(encryptedAddress));
+    }
+
+    @Benchmark
+    public void updateProfile(Blackhole blackhole) {
+        blackhole.consume(encryptor.encrypt(PHONE));
+        blackhole.consume(encryptor.encrypt(ADDRESS));
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void readProfileConcurrent(Blackhole blackhole) {
+        blackhole.consume(encryptor.decrypt(encryptedPhone));
+        blackhole.consume(encryptor.decrypt(encryptedAddress));
+    }
+}
@@ -3,7 +3,6 @@ package com.eardream.domain.auth.controller;
 import com.eardream.domain.auth.dto.KakaoAuthRequest;
 import com.eardream.domain.auth.dto.AuthResponse;
 import com.eardream.domain.auth.service.KakaoAuthService;
-import com.eardream.domain.user.dto.UserDto;
 import com.eardream.global.common.ApiResponse;
 
 import lombok.RequiredArgsConstructor;
@@ -11,6 +10,7 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 
 import jakarta.validation.Valid;
 
@@ -39,17 +39,15 @@ public class AuthController {
     /**
      *
      * 카카오 콜백 처리 - 인증 코드를 받아 JWT 토큰 발급 (POST)
+     * Mono 반환으로 비동기 처리되어 카카오 응답을 기다리는 동안 요청 스레드를 점유하지 않는다.
      */
     @PostMapping("/kakao/token")
     @Operation(summary = "카카오 콜백 처리 (POST)", description = "카카오 인증코드를 받아 EarDream JWT를 발급합니다.")
-    public ResponseEntity<ApiResponse<AuthResponse>> kakaoCallback(@Valid @RequestBody KakaoAuthRequest request) {
-        try {
-//            AuthResponse authResponse = kakaoAuthService.authenticateWithKakao(request.getCode());
-            return ResponseEntity.ok(ApiResponse.success(AuthResponse.builder().userInfo(UserDto.builder().userId(2L).build()).build(), "인증 성공"));
-        } catch (Exception e) {
-            return ResponseEntity.badRequest()
-                    .body(ApiResponse.error("KAKAO_AUTH_FAILED", "카카오 인증 처리 중 오류가 발생했습니다: " + e.getMessage()));
-        }
+    public Mono<ResponseEntity<ApiResponse<AuthResponse>>> kakaoCallback(@Valid @RequestBody KakaoAuthRequest request) {
+        return kakaoAuthService.authenticateWithKakaoAsync(request.getCode())
+                .map(authResponse -> ResponseEntity.ok(ApiResponse.success(authResponse, "인증 성공")))
+                .onErrorResume(e -> Mono.just(ResponseEntity.badRequest()
+                        .body(ApiResponse.error("KAKAO_AUTH_FAILED", "카카오 인증 처리 중 오류가 발생했습니다: " + e.getMessage()))));
     }
     
     /**
@@ -3,31 +3,40 @@ package com.eardream.domain.auth.service;
 import com.eardream.domain.auth.dto.AuthResponse;
 import com.eardream.domain.user.dto.CreateUserRequest;
 import com.eardream.domain.user.dto.UserDto;
+import com.eardream.domain.user.dto.UserUpsertResult;
 import com.eardream.domain.user.service.UserService;
 import com.eardream.global.jwt.JwtTokenProvider;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.*;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
 
+import java.net.ConnectException;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
-import java.text.SimpleDateFormat;
+import java.time.Duration;
 import java.time.LocalDate;
-import java.time.ZoneId;
-import java.util.Date;
-import java.util.HashMap;
+import java.time.format.DateTimeFormatter;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Predicate;
 
 /**
  * 카카오 OAuth 인증 서비스
@@ -39,8 +48,7 @@ public class KakaoAuthService {
     
     private final UserService userService;
     private final JwtTokenProvider jwtTokenProvider;
-    private final RestTemplate restTemplate;
-    private final ObjectMapper objectMapper;
+    private final WebClient kakaoWebClient;
     
     @Value("${kakao.client-id}")
     private String kakaoClientId;
@@ -51,12 +59,28 @@ public class KakaoAuthService {
     @Value("${kakao.redirect-uri}")
     private String kakaoRedirectUri;
     
-    private static final String KAKAO_AUTH_URL = "https://kauth.kakao.com/oauth/authorize";
-    private static final String KAKAO_TOKEN_URL = "https://kauth.kakao.com/oauth/token";
-    private static final String KAKAO_USER_INFO_URL = "https://kapi.kakao.com/v2/user/me";
+    @Value("${kakao.auth-base-url:https://kauth.kakao.com}")
+    private String kakaoAuthBaseUrl;
     
-    // JWT 토큰 저장소 (실제 구현에서는 Redis 등 사용 권장)
-    private final Map<String, String> tokenStorage = new HashMap<>();
+    @Value("${kakao.api-base-url:https://kapi.kakao.com}")
+    private String kakaoApiBaseUrl;
+    
+    // 카카오 호출별 타임아웃 및 재시도 예산
+    @Value("${kakao.client.call-timeout-ms:5000}")
+    private long callTimeoutMs;
+    
+    @Value("${kakao.client.max-retries:2}")
+    private int maxRetries;
+    
+    @Value("${kakao.client.retry-backoff-ms:100}")
+    private long retryBackoffMs;
+    
+    private static final String KAKAO_AUTH_PATH = "/oauth/authorize";
+    private static final String KAKAO_TOKEN_PATH = "/oauth/token";
+    private static final String KAKAO_USER_INFO_PATH = "/v2/user/me";
+    
+    // JWT 토큰 저장소 (실제 구현에서는 Redis 등 사용 권장, 리액터 스레드에서도 기록하므로 동시성 맵 사용)
+    private final Map<String, String> tokenStorage = new ConcurrentHashMap<>();
     
     /**
      * 카카오 인증 URL 생성
@@ -66,7 +90,7 @@ public class KakaoAuthService {
             String encodedRedirectUri = URLEncoder.encode(kakaoRedirectUri, StandardCharsets.UTF_8);
             String state = generateRandomState();
             
-            return KAKAO_AUTH_URL + 
+            return kakaoAuthBaseUrl + KAKAO_AUTH_PATH + 
                    "?client_id=" + kakaoClientId +
                    "&redirect_uri=" + encodedRedirectUri +
                    "&response_type=code" +
@@ -77,38 +101,50 @@ public class KakaoAuthService {
     }
     
     /**
-     * 카카오 인증 코드로 JWT 토큰 발급
+     * 카카오 인증 코드로 JWT 토큰 발급 (동기 호출용)
+     * 카카오 응답을 기다리는 동안 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public AuthResponse authenticateWithKakao(String code) {
-        try {
-            // 1. 카카오 액세스 토큰 획득
-            String kakaoAccessToken = getKakaoAccessToken(code);
-            
-            // 2. 카카오 사용자 정보 조회
-            KakaoUserInfo kakaoUserInfo = getKakaoUserInfo(kakaoAccessToken);
-            
-            // 3. 사용자 조회 또는 생성
-            UserDto user = findOrCreateUser(kakaoUserInfo);
-            
-            // 4. JWT 토큰 생성
-            String accessToken = jwtTokenProvider.generateAccessToken(
-                user.getUserId(), user.getKakaoId(), user.getName());
-            String refreshToken = jwtTokenProvider.generateRefreshToken(user.getUserId());
-            
-            // 5. 토큰 저장 (실제로는 Redis 등 사용)
-            tokenStorage.put(accessToken, user.getUserId().toString());
-            
-            // 6. 응답 생성
-            long expiresIn = jwtTokenProvider.getAccessTokenExpiration() / 1000; // 초 단위
-            boolean isNewUser = kakaoUserInfo.isNewUser;
-            
-            return isNewUser 
-                ? AuthResponse.ofNewUser(accessToken, refreshToken, expiresIn, user)
-                : AuthResponse.of(accessToken, refreshToken, expiresIn, user);
-                
-        } catch (Exception e) {
-            throw new RuntimeException("카카오 인증 처리 실패: " + e.getMessage(), e);
-        }
+        return authenticateWithKakaoAsync(code).block();
+    }
+    
+    /**
+     * 카카오 인증 코드로 JWT 토큰 발급
+     * 카카오 호출은 논블로킹으로 처리하고, DB 작업(사용자 upsert)만 boundedElastic 스레드에서 수행한다.
+     * 트랜잭션은 호출 스레드에 묶이므로 Mono 조립 시점에 열지 않고, upsert 는 UserService 트랜잭션에서 처리한다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Mono<AuthResponse> authenticateWithKakaoAsync(String code) {
+        return getKakaoAccessToken(code)                                 // 1. 카카오 액세스 토큰 획득
+                .flatMap(this::getKakaoUserInfo)                         // 2. 카카오 사용자 정보 조회
+                .flatMap(kakaoUserInfo -> Mono.fromCallable(() -> issueTokens(kakaoUserInfo))
+                        .subscribeOn(Schedulers.boundedElastic()))       // 3~6. 사용자 upsert 및 JWT 발급
+                .onErrorMap(e -> new RuntimeException("카카오 인증 처리 실패: " + e.getMessage(), e));
+    }
+    
+    /**
+     * 사용자 조회/생성 후 JWT 발급
+     */
+    private AuthResponse issueTokens(KakaoUserInfo kakaoUserInfo) {
+        // 3. 사용자 조회 또는 생성
+        UserDto user = findOrCreateUser(kakaoUserInfo);
+        
+        // 4. JWT 토큰 생성
+        String accessToken = jwtTokenProvider.generateAccessToken(
+            user.getUserId(), user.getKakaoId(), user.getName());
+        String refreshToken = jwtTokenProvider.generateRefreshToken(user.getUserId());
+        
+        // 5. 토큰 저장 (실제로는 Redis 등 사용)
+        tokenStorage.put(accessToken, user.getUserId().toString());
+        
+        // 6. 응답 생성
+        long expiresIn = jwtTokenProvider.getAccessTokenExpiration() / 1000; // 초 단위
+        boolean isNewUser = kakaoUserInfo.isNewUser;
+        
+        return isNewUser 
+            ? AuthResponse.ofNewUser(accessToken, refreshToken, expiresIn, user)
+            : AuthResponse.of(accessToken, refreshToken, expiresIn, user);
     }
     
     /**
@@ -158,11 +194,9 @@ public class KakaoAuthService {
     
     /**
      * 카카오 액세스 토큰 획득
+     * 인가 코드는 1회용이므로 요청이 전송되지 않은 연결 실패에 한해서만 재시도한다.
      */
-    private String getKakaoAccessToken(String code) {
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
-        
+    private Mono<String> getKakaoAccessToken(String code) {
         MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
         params.add("grant_type", "authorization_code");
         params.add("client_id", kakaoClientId);
@@ -170,100 +204,119 @@ public class KakaoAuthService {
         params.add("redirect_uri", kakaoRedirectUri);
         params.add("code", code);
         
-        HttpEntity<MultiValueMap<String, String>> request = new HttpEntity<>(params, headers);
-
-        try {
-            ResponseEntity<String> response = restTemplate.postForEntity(KAKAO_TOKEN_URL, request, String.class);
-            
-            if (response.getStatusCode() == HttpStatus.OK) {
-                JsonNode jsonNode = objectMapper.readTree(response.getBody());
-                return jsonNode.get("access_token").asText();
-            } else {
-                throw new RuntimeException("카카오 토큰 획득 실패: " + response.getStatusCode());
-            }
-        } catch (Exception e) {
-            throw new RuntimeException("카카오 토큰 요청 처리 실패", e);
-        }
+        return kakaoWebClient.post()
+                .uri(kakaoAuthBaseUrl + KAKAO_TOKEN_PATH)
+                .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                .body(BodyInserters.fromFormData(params))
+                .retrieve()
+                .bodyToMono(JsonNode.class)
+                .timeout(Duration.ofMillis(callTimeoutMs))
+                .retryWhen(retrySpec(KakaoAuthService::isConnectFailure))
+                .map(jsonNode -> {
+                    JsonNode token = jsonNode.get("access_token");
+                    if (token == null) {
+                        throw new IllegalStateException("카카오 토큰 획득 실패: access_token 없음");
+                    }
+                    return token.asText();
+                });
+    }
+    
+    /**
+     * 카카오 사용자 정보 조회 (조회 요청이므로 일시 장애 시 재시도)
+     */
+    private Mono<KakaoUserInfo> getKakaoUserInfo(String accessToken) {
+        return kakaoWebClient.get()
+                .uri(kakaoApiBaseUrl + KAKAO_USER_INFO_PATH)
+                .headers(headers -> headers.setBearerAuth(accessToken))
+                .retrieve()
+                .bodyToMono(JsonNode.class)
+                .timeout(Duration.ofMillis(callTimeoutMs))
+                .retryWhen(retrySpec(KakaoAuthService::isTransientFailure))
+                .map(this::toKakaoUserInfo);
     }
     
     /**
-     * 카카오 사용자 정보 조회
+     * 카카오 사용자 정보 응답 파싱
      */
-    private KakaoUserInfo getKakaoUserInfo(String accessToken) {
-        HttpHeaders headers = new HttpHeaders();
-        headers.setBearerAuth(accessToken);
+    private KakaoUserInfo toKakaoUserInfo(JsonNode jsonNode) {
+        String kakaoId = jsonNode.get("id").asText();
+        JsonNode properties = jsonNode.path("properties");
+        JsonNode kakaoAccount = jsonNode.path("kakao_account");
         
-        HttpEntity<String> request = new HttpEntity<>(headers);
+        String profileImage = properties.has("profile_image")
+            ? properties.get("profile_image").asText() : null;
+        String name = kakaoAccount.has("name")
+            ? kakaoAccount.get("name").asText() : null;
+        String phoneNumber = kakaoAccount.has("phone_number")
+            ? kakaoAccount.get("phone_number").asText() : null;
+        String birthYear = kakaoAccount.has("birthyear")
+            ? kakaoAccount.get("birthyear").asText() : null;
+        String birthDay = kakaoAccount.has("birthday")
+            ? kakaoAccount.get("birthday").asText() : null;
         
-        try {
-            ResponseEntity<String> response = restTemplate.exchange(
-                KAKAO_USER_INFO_URL, HttpMethod.GET, request, String.class);
-            
-            if (response.getStatusCode() == HttpStatus.OK) {
-                JsonNode jsonNode = objectMapper.readTree(response.getBody());
-                
-                String kakaoId = jsonNode.get("id").asText();
-                JsonNode properties = jsonNode.get("properties");
-                JsonNode kakaoAccount = jsonNode.get("kakao_account");
-                
-                String profileImage = properties.has("profile_image")
-                    ? properties.get("profile_image").asText() : null;
-                String name = kakaoAccount.has("name")
-                    ? kakaoAccount.get("name").asText() : null;
-                String phoneNumber = kakaoAccount.has("phone_number")
-                    ? kakaoAccount.get("phone_number").asText() : null;
-                String birthYear = kakaoAccount.has("birthyear")
-                    ? kakaoAccount.get("birthyear").asText() : null;
-                String birthDay = kakaoAccount.has("birthday")
-                    ? kakaoAccount.get("birthday").asText() : null;
-                
-                // birth date 안전하게 파싱
-                LocalDate birthDate = null;
-                if (birthYear != null && birthDay != null) {
-                    try {
-                        birthDate = new SimpleDateFormat("yyyyMMdd").parse(birthYear + birthDay)
-                                .toInstant().atZone(ZoneId.systemDefault()).toLocalDate();
-                    } catch (Exception e) {
-                        // 파싱 실패 시 null로 처리
-                        birthDate = null;
-                    }
-                }
-                
-                return KakaoUserInfo.builder()
-                        .kakaoId(kakaoId)
-                        .name(name)
-                        .phoneNumber(phoneNumber)
-                        .birthDate(birthDate)
-                        .profileImage(profileImage)
-                        .build();
-            } else {
-                throw new RuntimeException("카카오 사용자 정보 조회 실패: " + response.getStatusCode());
+        // birth date 안전하게 파싱
+        LocalDate birthDate = null;
+        if (birthYear != null && birthDay != null) {
+            try {
+                birthDate = LocalDate.parse(birthYear + birthDay, DateTimeFormatter.BASIC_ISO_DATE);
+            } catch (Exception e) {
+                // 파싱 실패 시 null로 처리
+                birthDate = null;
             }
-        } catch (Exception e) {
-            throw new RuntimeException("카카오 사용자 정보 요청 처리 실패", e);
         }
+        
+        return KakaoUserInfo.builder()
+                .kakaoId(kakaoId)
+                .name(name)
+                .phoneNumber(phoneNumber)
+                .birthDate(birthDate)
+                .profileImage(profileImage)
+                .build();
     }
     
     /**
-     * 사용자 조회 또는 생성
+     * 재시도 정책 (지수 백오프 + 지터, 최대 재시도 횟수 제한)
      */
-    public UserDto findOrCreateUser(KakaoUserInfo kakaoUserInfo) {
-        try {
-            // 기존 사용자 조회
-            return userService.getUserByKakaoId(kakaoUserInfo.kakaoId);
-        } catch (IllegalArgumentException e) {
-            // 신규 사용자 생성
-            CreateUserRequest createRequest = CreateUserRequest.builder()
-                    .kakaoId(kakaoUserInfo.kakaoId)
-                    .name(kakaoUserInfo.name)
-                    .birthDate(kakaoUserInfo.birthDate)
-                    .phoneNumber(kakaoUserInfo.phoneNumber)
-                    .profileImageUrl(kakaoUserInfo.profileImage)
-                    .build();
-            
-            kakaoUserInfo.isNewUser = true;
-            return userService.createUser(createRequest);
+    private Retry retrySpec(Predicate<Throwable> retryable) {
+        return Retry.backoff(maxRetries, Duration.ofMillis(retryBackoffMs))
+                .jitter(0.5)
+                .filter(retryable)
+                .onRetryExhaustedThrow((spec, signal) -> signal.failure());
+    }
+    
+    /**
+     * 요청이 전송되기 전 연결 단계 실패 여부
+     */
+    private static boolean isConnectFailure(Throwable e) {
+        return e instanceof WebClientRequestException && e.getCause() instanceof ConnectException;
+    }
+    
+    /**
+     * 일시 장애 여부 (연결 실패, 타임아웃, 5xx/429)
+     */
+    private static boolean isTransientFailure(Throwable e) {
+        if (e instanceof WebClientResponseException responseException) {
+            int status = responseException.getStatusCode().value();
+            return status >= 500 || status == 429;
         }
+        return e instanceof WebClientRequestException || e instanceof TimeoutException;
+    }
+    
+    /**
+     * 사용자 조회 또는 생성 (MERGE 기반 upsert - 예외로 신규 여부를 판단하지 않음)
+     */
+    public UserDto findOrCreateUser(KakaoUserInfo kakaoUserInfo) {
+        CreateUserRequest createRequest = CreateUserRequest.builder()
+                .kakaoId(kakaoUserInfo.kakaoId)
+                .name(kakaoUserInfo.name)
+                .birthDate(kakaoUserInfo.birthDate)
+                .phoneNumber(kakaoUserInfo.phoneNumber)
+                .profileImageUrl(kakaoUserInfo.profileImage)
+                .build();
+        
+        UserUpsertResult result = userService.upsertKakaoUser(createRequest);
+        kakaoUserInfo.isNewUser = result.isNew();
+        return result.getUser();
     }
     
     /**
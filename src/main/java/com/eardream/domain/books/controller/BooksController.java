@@ -4,11 +4,13 @@ import com.eardream.domain.books.dto.BookDto;
 import com.eardream.domain.books.dto.CreateBookRequest;
 import com.eardream.domain.books.dto.RenameBookRequest;
 import com.eardream.domain.books.service.BookService;
+import com.eardream.global.auth.RequireFamilyMember;
 import com.eardream.global.common.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.MediaType;
@@ -17,6 +19,7 @@ import com.eardream.global.util.FileUtils;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -26,16 +29,25 @@ import java.util.List;
 @Tag(name = "Books", description = "소식 책자 API")
 public class BooksController {
 
+	// 가족 구성원 전용 데이터이므로 공유 캐시 금지, 매번 ETag 로 재검증
+	private static final CacheControl LIST_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
 	private final BookService bookService;
 
 	@Value("${file.upload.path}")
 	private String uploadPath;
 
 	@GetMapping("/books")
+	@RequireFamilyMember("familyId")
 	@Operation(summary = "소식 책자 목록", description = "가족의 모든 책자를 조회합니다.")
-	public ResponseEntity<ApiResponse<List<BookDto>>> list(@RequestParam("familyId") Long familyId) {
+	public ResponseEntity<ApiResponse<List<BookDto>>> list(@RequestParam("familyId") Long familyId, WebRequest request) {
+		// 목록이 바뀌지 않았으면 책자를 읽지 않고 304 응답
+		String etag = bookService.getBooksVersion(familyId).toEtag("books");
+		if (request.checkNotModified(etag)) {
+			return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(LIST_CACHE_CONTROL).build();
+		}
 		var list = bookService.getBooks(familyId);
-		return ResponseEntity.ok(ApiResponse.success(list));
+		return ResponseEntity.ok().eTag(etag).cacheControl(LIST_CACHE_CONTROL).body(ApiResponse.success(list));
 	}
 
 	@GetMapping("/book")
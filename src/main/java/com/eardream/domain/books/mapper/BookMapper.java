@@ -1,6 +1,7 @@
 package com.eardream.domain.books.mapper;
 
 import com.eardream.domain.books.entity.Book;
+import com.eardream.global.common.ListVersion;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
@@ -16,9 +17,15 @@ public interface BookMapper {
 
 	List<Book> findByFamilyId(@Param("familyId") Long familyId);
 
+	ListVersion findListVersionByFamilyId(@Param("familyId") Long familyId);
+
 	int renameBook(@Param("id") Long id, @Param("name") String name);
 
+	List<Long> findPdfOnlyBookIds(@Param("limit") int limit);
+
 	int updateBookFiles(@Param("id") Long id, @Param("pdfUrl") String pdfUrl, @Param("imageUrl") String imageUrl);
+
+	int markCoverFailed(@Param("id") Long id);
 }
 
 
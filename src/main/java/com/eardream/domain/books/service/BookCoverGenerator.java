@@ -0,0 +1,145 @@
+package com.eardream.domain.books.service;
+
+import com.eardream.domain.books.dto.BookDto;
+import com.eardream.global.util.ImageUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.rendering.ImageType;
+import org.apache.pdfbox.rendering.PDFRenderer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * 책자 PDF 첫 페이지 표지 썸네일 생성
+ * PDF 만 올라온 책자는 커밋 후 이미지 전처리 풀에서 첫 페이지를 JPEG 으로 렌더링해
+ * image_url 로 기록하므로, 책자 목록은 PDF 를 내려받지 않고 표지를 보여줄 수 있다.
+ */
+@Slf4j
+@Component
+public class BookCoverGenerator {
+
+	private static final String COVER_SUB_DIR = "images/covers";
+	private static final String UPLOAD_URL_PREFIX = "/uploads/";
+	private static final int SCREEN_DPI = 72;
+
+	private final BookService bookService;
+	private final TaskExecutor executor;
+	private final Path uploadBase;
+	private final int widthPx;
+	private final float jpegQuality;
+	private final int backfillLimit;
+
+	public BookCoverGenerator(BookService bookService,
+			@Qualifier("imagePreprocessExecutor") TaskExecutor executor,
+			@Value("${file.upload.path}") String uploadPath,
+			@Value("${books.cover.width-px:600}") int widthPx,
+			@Value("${books.cover.jpeg-quality:0.85}") float jpegQuality,
+			@Value("${books.cover.backfill-limit:200}") int backfillLimit) {
+		this.bookService = bookService;
+		this.executor = executor;
+		this.uploadBase = Paths.get(uploadPath).toAbsolutePath().normalize();
+		this.widthPx = widthPx;
+		this.jpegQuality = jpegQuality;
+		this.backfillLimit = backfillLimit;
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onBookPdfUploaded(BookPdfUploadedEvent event) {
+		submit(event.bookId());
+	}
+
+	/**
+	 * 기동 시 표지가 없는 기존 PDF 책자 보충 (backfillLimit 건까지)
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void backfill() {
+		if (backfillLimit <= 0) {
+			return;
+		}
+		bookService.getPdfOnlyBookIds(backfillLimit).forEach(this::submit);
+	}
+
+	private void submit(Long bookId) {
+		try {
+			executor.execute(() -> {
+				try {
+					generate(bookId);
+				} catch (Exception e) {
+					log.warn("책자 표지 생성 실패 - bookId: {}", bookId, e);
+					markFailed(bookId);
+				}
+			});
+		} catch (TaskRejectedException e) {
+			log.warn("이미지 전처리 대기열이 가득 차 책자 표지 생성을 건너뜁니다 - bookId: {}", bookId);
+		}
+	}
+
+	/**
+	 * 첫 페이지 썸네일을 만들고 책자 image_url 에 기록
+	 * PDF 파일이 없거나 페이지가 없으면 실패로 기록해 다음 기동 때 다시 보충하지 않는다.
+	 *
+	 * @return 표지 URL, 이미 표지가 있거나 PDF 를 읽을 수 없으면 null
+	 */
+	String generate(Long bookId) throws IOException {
+		BookDto book = bookService.getBook(bookId);
+		if (book.getImageUrl() != null || book.getPdfUrl() == null || !book.getPdfUrl().startsWith(UPLOAD_URL_PREFIX)) {
+			return null;
+		}
+		Path pdf = uploadBase.resolve(book.getPdfUrl().substring(UPLOAD_URL_PREFIX.length())).normalize();
+		if (!pdf.startsWith(uploadBase) || !Files.isRegularFile(pdf)) {
+			log.warn("책자 PDF 파일이 없어 표지를 만들 수 없습니다 - bookId: {}, url: {}", bookId, book.getPdfUrl());
+			markFailed(bookId);
+			return null;
+		}
+
+		Path cover = uploadBase.resolve(COVER_SUB_DIR).resolve(bookId + ".jpg");
+		Files.createDirectories(cover.getParent());
+		Path temp = Files.createTempFile(cover.getParent(), "cover-", ".tmp");
+		try {
+			try (PDDocument document = Loader.loadPDF(pdf.toFile())) {
+				if (document.getNumberOfPages() == 0) {
+					markFailed(bookId);
+					return null;
+				}
+				PDPage page = document.getPage(0);
+				PDRectangle box = page.getCropBox();
+				// 90/270도 회전된 페이지는 렌더링 결과의 가로가 원래 세로
+				float pageWidth = page.getRotation() % 180 != 0 ? box.getHeight() : box.getWidth();
+				BufferedImage image = new PDFRenderer(document).renderImage(0, widthPx / pageWidth, ImageType.RGB);
+				ImageUtils.writeJpeg(image, temp, jpegQuality, SCREEN_DPI);
+			}
+			Files.move(temp, cover, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} finally {
+			Files.deleteIfExists(temp);
+		}
+
+		String imageUrl = UPLOAD_URL_PREFIX + COVER_SUB_DIR + "/" + bookId + ".jpg";
+		bookService.updateBookFiles(bookId, book.getPdfUrl(), imageUrl);
+		log.info("책자 표지 생성 - bookId: {}, url: {}", bookId, imageUrl);
+		return imageUrl;
+	}
+
+	private void markFailed(Long bookId) {
+		try {
+			bookService.markCoverFailed(bookId);
+		} catch (RuntimeException e) {
+			log.warn("책자 표지 실패 기록 실패 - bookId: {}", bookId, e);
+		}
+	}
+}
@@ -0,0 +1,7 @@
+package com.eardream.domain.books.service;
+
+/**
+ * 표지 이미지 없이 PDF 만 업로드된 책자 이벤트 (표지 썸네일 생성용)
+ */
+public record BookPdfUploadedEvent(Long bookId) {
+}
@@ -5,8 +5,10 @@ import com.eardream.domain.books.dto.CreateBookRequest;
 import com.eardream.domain.books.dto.RenameBookRequest;
 import com.eardream.domain.books.entity.Book;
 import com.eardream.domain.books.mapper.BookMapper;
+import com.eardream.global.common.ListVersion;
 import com.eardream.global.exception.ResourceNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,11 +21,20 @@ import java.util.stream.Collectors;
 public class BookService {
 
 	private final BookMapper bookMapper;
+	private final ApplicationEventPublisher eventPublisher;
 
 	public List<BookDto> getBooks(Long familyId) {
 		return bookMapper.findByFamilyId(familyId).stream().map(this::toDto).collect(Collectors.toList());
 	}
 
+	/**
+	 * 가족 책자 목록 버전 (조건부 GET 용, 책자를 읽지 않는 집계 한 번)
+	 */
+	public ListVersion getBooksVersion(Long familyId) {
+		ListVersion version = bookMapper.findListVersionByFamilyId(familyId);
+		return version != null ? version : new ListVersion(0L, null);
+	}
+
 	public BookDto getBook(Long id) {
 		Book book = bookMapper.findById(id).orElseThrow(() -> new ResourceNotFoundException("책자를 찾을 수 없습니다: " + id));
 		return toDto(book);
@@ -39,6 +50,10 @@ public class BookService {
 				.build();
 		int result = bookMapper.insertBook(book);
 		if (result == 0) throw new IllegalStateException("책자 생성 실패");
+		if (book.getPdfUrl() != null && book.getImageUrl() == null) {
+			// 커밋 후 PDF 첫 페이지로 표지 썸네일 생성
+			eventPublisher.publishEvent(new BookPdfUploadedEvent(book.getId()));
+		}
 		return toDto(book);
 	}
 
@@ -55,6 +70,21 @@ public class BookService {
 		bookMapper.updateBookFiles(bookId, pdfUrl, imageUrl);
 	}
 
+	/**
+	 * 표지 생성 실패 기록 (같은 PDF 로는 다시 보충하지 않음)
+	 */
+	@Transactional
+	public void markCoverFailed(Long bookId) {
+		bookMapper.markCoverFailed(bookId);
+	}
+
+	/**
+	 * 표지 이미지 없이 업로드 PDF 만 있고 표지 생성에 실패한 적 없는 책자 ID (표지 보충용)
+	 */
+	public List<Long> getPdfOnlyBookIds(int limit) {
+		return bookMapper.findPdfOnlyBookIds(limit);
+	}
+
 	private BookDto toDto(Book b) {
 		return BookDto.builder()
 				.id(b.getId())
@@ -0,0 +1,35 @@
+package com.eardream.domain.dashboard.controller;
+
+import com.eardream.domain.dashboard.dto.FamilyDashboardDto;
+import com.eardream.domain.dashboard.service.DashboardService;
+import com.eardream.domain.user.dto.UserDto;
+import com.eardream.global.auth.RequireFamilyMember;
+import com.eardream.global.common.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/families")
+@RequiredArgsConstructor
+@Tag(name = "Dashboard", description = "가족 홈 대시보드 API")
+public class DashboardController {
+
+	private final DashboardService dashboardService;
+
+	@GetMapping("/{id}/dashboard")
+	@RequireFamilyMember
+	@Operation(summary = "가족 홈 대시보드", description = "가족 정보, 멤버, 대기 초대, 이번 달 소식, 구독 현황을 한 번에 조회합니다.")
+	public ResponseEntity<ApiResponse<FamilyDashboardDto>> getDashboard(
+			@PathVariable("id") Long familyId,
+			@AuthenticationPrincipal UserDto user) {
+		FamilyDashboardDto dashboard = dashboardService.getDashboard(familyId, user.getUserId());
+		return ResponseEntity.ok(ApiResponse.success(dashboard));
+	}
+}
@@ -0,0 +1,33 @@
+package com.eardream.domain.dashboard.dto;
+
+import com.eardream.domain.families.dto.FamilyDto;
+import com.eardream.domain.families.dto.FamilyMemberDto;
+import com.eardream.domain.families.dto.InvitationReviewDto;
+import com.eardream.domain.posts.dto.PostDto;
+import com.eardream.domain.subscription.dto.SubscriptionResponse;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 가족 홈 대시보드 응답 (홈 화면 한 번의 요청으로 구성)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FamilyDashboardDto {
+
+	private FamilyDto family;
+	private List<FamilyMemberDto> members;
+	/** 대기 중인 초대 (리더에게만 제공, 그 외 빈 목록) */
+	private List<InvitationReviewDto> pendingInvitations;
+	/** 이번 달 소식 */
+	private String postMonth;
+	private List<PostDto> posts;
+	/** 활성 구독 (없으면 null) */
+	private SubscriptionResponse subscription;
+}
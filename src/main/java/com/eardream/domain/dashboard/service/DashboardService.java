@@ -0,0 +1,109 @@
+package com.eardream.domain.dashboard.service;
+
+import com.eardream.domain.dashboard.dto.FamilyDashboardDto;
+import com.eardream.domain.families.dto.FamilyDto;
+import com.eardream.domain.families.dto.FamilyMemberDto;
+import com.eardream.domain.families.dto.InvitationReviewDto;
+import com.eardream.domain.families.service.FamilyMembershipIndex;
+import com.eardream.domain.families.service.FamilyService;
+import com.eardream.domain.posts.dto.PostDto;
+import com.eardream.domain.posts.service.PostService;
+import com.eardream.domain.subscription.dto.SubscriptionResponse;
+import com.eardream.domain.subscription.service.SubscriptionService;
+import com.eardream.global.exception.BusinessException;
+import com.eardream.global.exception.ErrorCode;
+import com.eardream.global.util.DateUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 가족 홈 대시보드 서비스
+ * 가족 정보, 멤버, 대기 초대, 이번 달 소식, 구독 현황을 제한된 스레드 풀에서 동시에 조회해 한 번에 반환한다.
+ * 섹션마다 각 서비스의 읽기 전용 트랜잭션을 그대로 사용하므로 이 클래스에는 트랜잭션을 두지 않는다.
+ */
+@Slf4j
+@Service
+public class DashboardService {
+
+	private final FamilyService familyService;
+	private final PostService postService;
+	private final SubscriptionService subscriptionService;
+	private final FamilyMembershipIndex familyMembershipIndex;
+	private final TaskExecutor dashboardExecutor;
+	private final long timeoutMillis;
+
+	public DashboardService(FamilyService familyService,
+	                        PostService postService,
+	                        SubscriptionService subscriptionService,
+	                        FamilyMembershipIndex familyMembershipIndex,
+	                        @Qualifier("dashboardExecutor") TaskExecutor dashboardExecutor,
+	                        @Value("${dashboard.timeout-ms:3000}") long timeoutMillis) {
+		this.familyService = familyService;
+		this.postService = postService;
+		this.subscriptionService = subscriptionService;
+		this.familyMembershipIndex = familyMembershipIndex;
+		this.dashboardExecutor = dashboardExecutor;
+		this.timeoutMillis = timeoutMillis;
+	}
+
+	public FamilyDashboardDto getDashboard(Long familyId, Long userId) {
+		String postMonth = DateUtils.getCurrentMonthString();
+		boolean leader = familyMembershipIndex.isLeader(userId, familyId);
+
+		CompletableFuture<FamilyDto> family = async(() -> familyService.getFamily(familyId));
+		CompletableFuture<List<FamilyMemberDto>> members = async(() -> familyService.getMembers(familyId));
+		CompletableFuture<List<InvitationReviewDto>> invitations = leader
+				? async(() -> familyService.getPendingInvitations(familyId))
+				: CompletableFuture.completedFuture(List.of());
+		CompletableFuture<List<PostDto>> posts = async(() -> postService.getPostsByFamilyAndMonth(familyId, postMonth));
+		CompletableFuture<SubscriptionResponse> subscription =
+				async(() -> subscriptionService.findMySubscription(familyId).orElse(null));
+
+		await(CompletableFuture.allOf(family, members, invitations, posts, subscription), familyId);
+
+		return FamilyDashboardDto.builder()
+				.family(family.join())
+				.members(members.join())
+				.pendingInvitations(invitations.join())
+				.postMonth(postMonth)
+				.posts(posts.join())
+				.subscription(subscription.join())
+				.build();
+	}
+
+	private <T> CompletableFuture<T> async(Supplier<T> section) {
+		return CompletableFuture.supplyAsync(section, dashboardExecutor);
+	}
+
+	/**
+	 * 전체 섹션 완료 대기 (섹션 예외는 원래 예외 그대로 전달)
+	 */
+	private void await(CompletableFuture<Void> all, Long familyId) {
+		try {
+			all.get(timeoutMillis, TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			log.warn("대시보드 조회 시간 초과 - familyId: {}, {}ms", familyId, timeoutMillis);
+			throw new BusinessException(ErrorCode.DASHBOARD_TIMEOUT);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new BusinessException(ErrorCode.DASHBOARD_TIMEOUT);
+		} catch (ExecutionException | CompletionException e) {
+			Throwable cause = e.getCause() != null ? e.getCause() : e;
+			if (cause instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw new IllegalStateException(cause);
+		}
+	}
+}
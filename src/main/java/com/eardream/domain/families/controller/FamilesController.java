@@ -2,19 +2,31 @@ package com.eardream.domain.families.controller;
 
 import com.eardream.domain.families.dto.CreateFamilyRequest;
 import com.eardream.domain.families.dto.FamilyDto;
+import com.eardream.domain.families.service.FamilyArchiveExporter;
 import com.eardream.domain.families.service.FamilyService;
+import com.eardream.domain.user.dto.UserDto;
+import com.eardream.global.auth.RequireFamilyMember;
 import com.eardream.global.common.ApiResponse;
+import com.eardream.global.exception.ForbiddenException;
+import com.eardream.global.exception.UnauthorizedException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.time.LocalDate;
+
 @RestController
 @RequestMapping("/api/v1/families")
 @RequiredArgsConstructor
@@ -22,6 +34,7 @@ import org.springframework.web.bind.annotation.*;
 public class FamilesController {
 
 	private final FamilyService familyService;
+	private final FamilyArchiveExporter familyArchiveExporter;
 
     
 	@PostMapping
@@ -54,27 +67,50 @@ public class FamilesController {
 	}*/
 
 	@GetMapping("/user/{userId}")
-	@Operation(summary = "가족 단건 조회", description = "만든 사람의 사용자 ID로 가족 정보를 조회합니다.")
+	@Operation(summary = "가족 단건 조회", description = "만든 사람의 사용자 ID로 가족 정보를 조회합니다. 본인의 사용자 ID만 조회할 수 있습니다.")
 	@ApiResponses({
 			@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공",
 					content = @Content(schema = @Schema(implementation = FamilyDto.class))),
+			@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "다른 사용자의 가족"),
 			@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "미존재 리소스")
 	})
-	public ResponseEntity<ApiResponse<FamilyDto>> getFamilyByUser(@PathVariable("userId") Long userId) {
+	public ResponseEntity<ApiResponse<FamilyDto>> getFamilyByUser(@PathVariable("userId") Long userId,
+			@AuthenticationPrincipal UserDto user) {
+		if (user == null) {
+			throw new UnauthorizedException();
+		}
+		if (!user.getUserId().equals(userId)) {
+			throw new ForbiddenException("본인의 가족 정보만 조회할 수 있습니다.");
+		}
 		FamilyDto family = familyService.getFamilyByUserId(userId);
 		return ResponseEntity.ok(ApiResponse.success(family));
 	}
 
 
 	@GetMapping("/{id}/members")
+	@RequireFamilyMember
 	@Operation(summary = "멤버 목록 (리더용)", description = "가족 그룹의 멤버 목록을 조회합니다.")
 	public ResponseEntity<ApiResponse<java.util.List<com.eardream.domain.families.dto.FamilyMemberDto>>> getMembers(@PathVariable("id") Long familyId) {
 		var members = familyService.getMembers(familyId);
 		return ResponseEntity.ok(ApiResponse.success(members));
 	}
+
+	@GetMapping("/{id}/export")
+	@RequireFamilyMember
+	@Operation(summary = "가족 아카이브 내보내기", description = "모든 소식(JSON), 사진, 책자 파일을 ZIP으로 스트리밍합니다.")
+	public void exportArchive(@PathVariable("id") Long familyId, HttpServletResponse response) throws IOException {
+		// 크기를 미리 알 수 없으므로 Content-Length 없이 응답 스트림에 바로 기록
+		response.setContentType("application/zip");
+		response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+				.filename("eardream-family-" + familyId + "-" + LocalDate.now() + ".zip")
+				.build()
+				.toString());
+		familyArchiveExporter.export(familyId, response.getOutputStream());
+	}
 	
 
 	@GetMapping("/{id}/invitations/pending")
+	@RequireFamilyMember(leaderOnly = true)
 	@Operation(summary = "초대 요청 목록", description = "리더가 검토할 대기 초대 목록을 조회합니다.")
 	public ResponseEntity<ApiResponse<java.util.List<com.eardream.domain.families.dto.InvitationReviewDto>>> getPendingInvitations(@PathVariable("id") Long familyId) {
 		var list = familyService.getPendingInvitations(familyId);
@@ -82,6 +118,7 @@ public class FamilesController {
 	}
 
 	@PostMapping("/{id}/members/invite")
+	@RequireFamilyMember
 	@Operation(summary = "초대 발급", description = "가족의 초대코드가 없으면 생성하고, 코드와 가족정보를 반환합니다.")
 	public ResponseEntity<ApiResponse<com.eardream.domain.families.dto.InviteIssueResponse>> issueInvite(@PathVariable("id") Long familyId) {
 		var res = familyService.issueInvite(familyId);
@@ -96,6 +133,7 @@ public class FamilesController {
 	}
 
 	@PostMapping("/{id}/invitations/approve")
+	@RequireFamilyMember(leaderOnly = true)
 	@Operation(summary = "초대 승인", description = "리더가 관계를 지정하여 초대를 승인합니다.")
 	public ResponseEntity<ApiResponse<Void>> approveInvitation(
 			@PathVariable("id") Long familyId,
@@ -105,14 +143,28 @@ public class FamilesController {
 		return ResponseEntity.ok(ApiResponse.success(null, "승인되었습니다"));
 	}
 
-	@PostMapping("/invitations/{invitationId}/reject")
-	@Operation(summary = "초대 거부", description = "초대 요청을 거부합니다.")
-	public ResponseEntity<ApiResponse<Void>> rejectInvitation(@PathVariable Long invitationId) {
-		familyService.rejectInvitation(invitationId);
+	@PostMapping("/{id}/invitations/bulk")
+	@RequireFamilyMember(leaderOnly = true)
+	@Operation(summary = "초대 일괄 승인/거부", description = "리더가 여러 초대를 한 번에 승인하거나 거부합니다. 하나라도 유효하지 않으면 전체가 취소됩니다.")
+	public ResponseEntity<ApiResponse<com.eardream.domain.families.dto.BulkInvitationDecisionResponse>> decideInvitations(
+			@PathVariable("id") Long familyId,
+			@Valid @RequestBody com.eardream.domain.families.dto.BulkInvitationDecisionRequest request
+	) {
+		var res = familyService.decideInvitations(familyId, request);
+		return ResponseEntity.ok(ApiResponse.success(res, "처리되었습니다"));
+	}
+
+	@PostMapping("/{id}/invitations/{invitationId}/reject")
+	@RequireFamilyMember(leaderOnly = true)
+	@Operation(summary = "초대 거부", description = "리더가 가족의 대기 중인 초대 요청을 거부합니다.")
+	public ResponseEntity<ApiResponse<Void>> rejectInvitation(@PathVariable("id") Long familyId,
+			@PathVariable("invitationId") Long invitationId) {
+		familyService.rejectInvitation(familyId, invitationId);
 		return ResponseEntity.ok(ApiResponse.success(null, "거부되었습니다"));
 	}
 
 	@DeleteMapping("/{id}/members/{userId}")
+	@RequireFamilyMember(leaderOnly = true)
 	@Operation(summary = "멤버 내보내기", description = "가족 그룹에서 특정 멤버를 제거합니다.")
 	public ResponseEntity<ApiResponse<Void>> removeMember(@PathVariable("id") Long familyId,
 			@PathVariable("userId") Long userId) {
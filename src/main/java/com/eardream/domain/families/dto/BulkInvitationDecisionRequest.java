@@ -0,0 +1,33 @@
+package com.eardream.domain.families.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 초대 일괄 승인/거부 요청
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkInvitationDecisionRequest {
+
+	// 한 번에 처리 가능한 최대 초대 수 (Oracle IN 목록 제한 이내)
+	public static final int MAX_BATCH_SIZE = 100;
+
+	@Valid
+	@Builder.Default
+	@Size(max = MAX_BATCH_SIZE)
+	private List<ApproveInvitationRequest> approvals = new ArrayList<>();
+
+	@Builder.Default
+	@Size(max = MAX_BATCH_SIZE)
+	private List<Long> rejections = new ArrayList<>();
+}
@@ -0,0 +1,19 @@
+package com.eardream.domain.families.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 초대 일괄 승인/거부 결과
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkInvitationDecisionResponse {
+
+	private int approvedCount;
+	private int rejectedCount;
+}
@@ -4,6 +4,7 @@ import com.eardream.domain.families.entity.Family;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,17 +19,34 @@ public interface FamilyMapper {
 
 	Optional<Family> findByInviteCode(@Param("inviteCode") String inviteCode);
 
+	List<Family> findAllInviteCodes();
+
+	List<Family> findInviteCodesUpdatedSince(@Param("since") LocalDateTime since);
+
+	long nextInviteCodeBlock();
+
 	List<Family> findAll(@Param("offset") int offset, @Param("limit") int limit);
 
 	int countAll();
 
+	List<com.eardream.domain.families.entity.FamilyMember> findMembershipsByUserId(@Param("userId") Long userId);
+
 	List<com.eardream.domain.families.dto.FamilyMemberDto> findMembersByFamilyId(@Param("familyId") Long familyId);
 
 	java.util.List<com.eardream.domain.families.dto.InvitationReviewDto> findPendingInvitations(@Param("familyId") Long familyId);
 
 	int approveInvitation(@Param("invitationId") Long invitationId);
 
-	int rejectInvitation(@Param("invitationId") Long invitationId);
+	int rejectInvitation(@Param("familyId") Long familyId, @Param("invitationId") Long invitationId);
+
+	List<com.eardream.domain.families.entity.Invitation> findPendingInvitationsByIds(@Param("familyId") Long familyId,
+	                                                                                 @Param("invitationIds") List<Long> invitationIds);
+
+	int approveInvitations(@Param("invitationIds") List<Long> invitationIds);
+
+	int rejectInvitations(@Param("invitationIds") List<Long> invitationIds);
+
+	int expireInvitations(@Param("legacyCutoff") java.time.LocalDateTime legacyCutoff, @Param("limit") int limit);
 
 	int insertInvitation(com.eardream.domain.families.entity.Invitation invitation);
 
@@ -37,6 +55,8 @@ public interface FamilyMapper {
 	                      @Param("relationship") String relationship,
 	                      @Param("role") String role);
 
+	int insertFamilyMembers(@Param("members") List<com.eardream.domain.families.entity.FamilyMember> members);
+
 	int updateFamilyInviteCode(@Param("familyId") Long familyId, @Param("inviteCode") String inviteCode);
 
 	Optional<com.eardream.domain.families.entity.Invitation> findInvitationById(@Param("invitationId") Long invitationId);
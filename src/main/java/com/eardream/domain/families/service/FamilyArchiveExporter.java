@@ -0,0 +1,262 @@
+package com.eardream.domain.families.service;
+
+import com.eardream.domain.books.dto.BookDto;
+import com.eardream.domain.books.service.BookService;
+import com.eardream.domain.posts.dto.PostAuthorDto;
+import com.eardream.domain.posts.dto.PostDto;
+import com.eardream.domain.posts.dto.PostImageDto;
+import com.eardream.domain.posts.entity.Post;
+import com.eardream.domain.posts.entity.PostImage;
+import com.eardream.domain.posts.mapper.PostMapper;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * 가족 아카이브(ZIP) 내보내기
+ * 소식은 id 키셋 페이지로, 사진은 (post_id, id) 키셋 페이지로 나눠 읽어 posts.json 으로, 사진과 책자 파일은
+ * files/{업로드 상대 경로} 로 응답 스트림에 바로 쓴다. 임시 파일이나 전체 목록을 만들지 않으므로 수 GB 아카이브도
+ * 메모리 사용량이 일정하다. 트랜잭션 없이 페이지마다 짧게 조회하므로 느린 다운로드 동안 DB 커넥션을 잡지 않는다.
+ * 이미 압축된 형식(JPEG, PNG, PDF 등)은 다시 압축하지 않고 STORE 로 담는다.
+ */
+@Slf4j
+@Service
+public class FamilyArchiveExporter {
+
+	static final String POSTS_ENTRY = "posts.json";
+	static final String BOOKS_ENTRY = "books.json";
+	static final String FILES_DIR = "files/";
+
+	private static final String UPLOAD_URL_PREFIX = "/uploads/";
+	private static final Set<String> STORED_EXTENSIONS = Set.of("jpg", "jpeg", "png", "gif", "webp", "heic", "pdf");
+	private static final int BUFFER_SIZE = 64 * 1024;
+	private static final int PAGE_SIZE = 500;
+
+	private final PostMapper postMapper;
+	private final BookService bookService;
+	private final ObjectMapper objectMapper;
+	private final Path uploadBase;
+
+	public FamilyArchiveExporter(PostMapper postMapper, BookService bookService, ObjectMapper objectMapper,
+			@Value("${file.upload.path}") String uploadPath) {
+		this.postMapper = postMapper;
+		this.bookService = bookService;
+		this.objectMapper = objectMapper;
+		this.uploadBase = Paths.get(uploadPath).toAbsolutePath().normalize();
+	}
+
+	/**
+	 * 아카이브를 output 에 스트리밍 (output 은 닫지 않음)
+	 * 내보내는 도중 추가된 소식/사진은 키셋 위치에 따라 포함될 수도 있다.
+	 *
+	 * @return 담은 파일 수 (JSON 제외)
+	 */
+	public int export(Long familyId, OutputStream output) throws IOException {
+		ZipOutputStream zip = new ZipOutputStream(new BufferedOutputStream(output, BUFFER_SIZE));
+		List<BookDto> books = bookService.getBooks(familyId);
+
+		writePosts(familyId, zip);
+		writeJson(zip, BOOKS_ENTRY, books);
+
+		int files = 0;
+		for (Iterator<PostImage> images = images(familyId); images.hasNext(); ) {
+			files += writeFile(zip, images.next().getImageUrl()) ? 1 : 0;
+		}
+		for (BookDto book : books) {
+			files += writeFile(zip, book.getPdfUrl()) ? 1 : 0;
+			files += writeFile(zip, book.getImageUrl()) ? 1 : 0;
+		}
+		zip.finish();
+		zip.flush();
+
+		log.info("가족 아카이브 내보내기 완료 - familyId: {}, 파일: {}건", familyId, files);
+		return files;
+	}
+
+	/**
+	 * 소식 페이지와 사진 페이지(둘 다 소식 ID 순)를 병합하며 소식을 한 건씩 JSON 배열로 기록
+	 */
+	private void writePosts(Long familyId, ZipOutputStream zip) throws IOException {
+		zip.putNextEntry(new ZipEntry(POSTS_ENTRY));
+		try (JsonGenerator generator = objectMapper.createGenerator(zip)) {
+			generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+			Iterator<Post> posts = posts(familyId);
+			Iterator<PostImage> imageIterator = images(familyId);
+			PostImage pending = imageIterator.hasNext() ? imageIterator.next() : null;
+
+			generator.writeStartArray();
+			while (posts.hasNext()) {
+				Post post = posts.next();
+				List<PostImageDto> postImages = new ArrayList<>();
+				while (pending != null && pending.getPostId() <= post.getId()) {
+					if (pending.getPostId().equals(post.getId())) {
+						postImages.add(PostImageDto.builder()
+								.id(pending.getId())
+								.imageUrl(pending.getImageUrl())
+								.imageOrder(pending.getImageOrder())
+								.build());
+					}
+					pending = imageIterator.hasNext() ? imageIterator.next() : null;
+				}
+				postImages.sort(Comparator.comparing(PostImageDto::getImageOrder, Comparator.nullsLast(Comparator.naturalOrder())));
+				generator.writeObject(toDto(post, postImages));
+			}
+			generator.writeEndArray();
+		}
+		zip.closeEntry();
+	}
+
+	private Iterator<Post> posts(Long familyId) {
+		return new PageIterator<>(last -> postMapper.findPostsByFamilyIdAfterId(familyId,
+				last == null ? 0L : last.getId(), PAGE_SIZE));
+	}
+
+	private Iterator<PostImage> images(Long familyId) {
+		return new PageIterator<>(last -> postMapper.findImagesByFamilyIdAfter(familyId,
+				last == null ? 0L : last.getPostId(), last == null ? 0L : last.getId(), PAGE_SIZE));
+	}
+
+	private void writeJson(ZipOutputStream zip, String name, Object value) throws IOException {
+		zip.putNextEntry(new ZipEntry(name));
+		try (JsonGenerator generator = objectMapper.createGenerator(zip)) {
+			generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+			generator.writeObject(value);
+		}
+		zip.closeEntry();
+	}
+
+	/**
+	 * 업로드 파일 한 건 기록 (없거나 업로드 경로 밖이면 건너뜀)
+	 */
+	private boolean writeFile(ZipOutputStream zip, String url) throws IOException {
+		if (url == null || !url.startsWith(UPLOAD_URL_PREFIX)) {
+			return false;
+		}
+		Path file = uploadBase.resolve(url.substring(UPLOAD_URL_PREFIX.length())).normalize();
+		if (!file.startsWith(uploadBase) || !Files.isRegularFile(file)) {
+			log.debug("내보낼 파일이 없습니다 - url: {}", url);
+			return false;
+		}
+
+		// 정규화된 상대 경로만 사용 (압축 해제 시 상위 경로로 벗어나지 않도록)
+		String name = FILES_DIR + uploadBase.relativize(file).toString().replace('\\', '/');
+		ZipEntry entry = new ZipEntry(name);
+		entry.setLastModifiedTime(Files.getLastModifiedTime(file));
+		if (isStored(name)) {
+			// STORE 는 헤더에 크기/CRC 가 먼저 필요하므로 한 번 더 읽어 계산 (버퍼 하나만 사용)
+			entry.setMethod(ZipEntry.STORED);
+			entry.setSize(Files.size(file));
+			entry.setCompressedSize(entry.getSize());
+			entry.setCrc(crc32(file));
+		}
+		try {
+			zip.putNextEntry(entry);
+		} catch (ZipException e) {
+			// 같은 파일을 여러 곳에서 참조하는 경우 (예: 책자 이미지를 소식에도 사용)
+			if (e.getMessage() == null || !e.getMessage().startsWith("duplicate entry")) {
+				throw e;
+			}
+			log.debug("이미 담은 파일입니다 - entry: {}", name);
+			return false;
+		}
+		Files.copy(file, zip);
+		zip.closeEntry();
+		return true;
+	}
+
+	static boolean isStored(String name) {
+		int dot = name.lastIndexOf('.');
+		return dot >= 0 && STORED_EXTENSIONS.contains(name.substring(dot + 1).toLowerCase(Locale.ROOT));
+	}
+
+	private static long crc32(Path file) throws IOException {
+		CRC32 crc = new CRC32();
+		ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			while (channel.read(buffer) >= 0) {
+				buffer.flip();
+				crc.update(buffer);
+				buffer.clear();
+			}
+		}
+		return crc.getValue();
+	}
+
+	private PostDto toDto(Post post, List<PostImageDto> images) {
+		return PostDto.builder()
+				.id(post.getId())
+				.familyId(post.getFamilyId())
+				.userId(post.getUserId())
+				.author(PostAuthorDto.builder()
+						.userId(post.getUserId())
+						.name(post.getAuthorName())
+						.profileImageUrl(post.getAuthorProfileImageUrl())
+						.build())
+				.title(post.getTitle())
+				.content(post.getContent())
+				.postMonth(post.getPostMonth())
+				.createdAt(post.getCreatedAt())
+				.updatedAt(post.getUpdatedAt())
+				.images(images)
+				.build();
+	}
+
+	/**
+	 * 키셋 페이지 반복자 - 현재 페이지를 다 쓰면 마지막 행 다음 페이지를 조회 (PAGE_SIZE 미만이면 끝)
+	 */
+	private static final class PageIterator<T> implements Iterator<T> {
+
+		private final Function<T, List<T>> nextPage;
+		private Iterator<T> page;
+		private T last;
+		private boolean lastPage;
+
+		PageIterator(Function<T, List<T>> nextPage) {
+			this.nextPage = nextPage;
+			this.page = List.<T>of().iterator();
+		}
+
+		@Override
+		public boolean hasNext() {
+			if (!page.hasNext() && !lastPage) {
+				List<T> rows = nextPage.apply(last);
+				lastPage = rows.size() < PAGE_SIZE;
+				page = rows.iterator();
+			}
+			return page.hasNext();
+		}
+
+		@Override
+		public T next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			last = page.next();
+			return last;
+		}
+	}
+}
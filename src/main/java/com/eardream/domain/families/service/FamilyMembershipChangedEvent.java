@@ -0,0 +1,7 @@
+package com.eardream.domain.families.service;
+
+/**
+ * 가족 멤버 추가/제거 이벤트 (멤버십 인덱스 무효화용)
+ */
+public record FamilyMembershipChangedEvent(Long familyId, Long userId) {
+}
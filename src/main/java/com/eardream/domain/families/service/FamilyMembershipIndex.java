@@ -0,0 +1,92 @@
+package com.eardream.domain.families.service;
+
+import com.eardream.domain.families.entity.FamilyMember;
+import com.eardream.domain.families.mapper.FamilyMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 가족 멤버십 인덱스 (노드별 캐시)
+ * 사용자 ID → {가족 ID: 역할} 을 사용자 단위로 적재해 요청마다 family_members를 조회하지 않는다.
+ * 멤버 추가/제거 이벤트로 해당 사용자 항목을 무효화하고, 다른 노드의 변경은 TTL로 반영한다.
+ */
+@Slf4j
+@Component
+public class FamilyMembershipIndex {
+
+	public static final String ROLE_LEADER = "LEADER";
+
+	/** 보관 사용자 수 상한 (초과 시 비우고 다시 적재) */
+	private static final int MAX_USERS = 50_000;
+
+	private final FamilyMapper familyMapper;
+	private final long ttlMillis;
+	private final Map<Long, Memberships> cache = new ConcurrentHashMap<>();
+
+	public FamilyMembershipIndex(FamilyMapper familyMapper,
+	                             @Value("${family.membership-index.ttl-seconds:300}") long ttlSeconds) {
+		this.familyMapper = familyMapper;
+		this.ttlMillis = Duration.ofSeconds(ttlSeconds).toMillis();
+	}
+
+	/**
+	 * 사용자의 가족 내 역할 (멤버가 아니면 empty)
+	 */
+	public Optional<String> roleOf(Long userId, Long familyId) {
+		if (userId == null || familyId == null) {
+			return Optional.empty();
+		}
+		return Optional.ofNullable(memberships(userId).roles().get(familyId));
+	}
+
+	public boolean isMember(Long userId, Long familyId) {
+		return roleOf(userId, familyId).isPresent();
+	}
+
+	public boolean isLeader(Long userId, Long familyId) {
+		return roleOf(userId, familyId).filter(ROLE_LEADER::equals).isPresent();
+	}
+
+	/**
+	 * 멤버 추가/제거 커밋 후 해당 사용자 항목 무효화
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onMembershipChanged(FamilyMembershipChangedEvent event) {
+		evict(event.userId());
+	}
+
+	public void evict(Long userId) {
+		if (userId != null) {
+			cache.remove(userId);
+			log.debug("가족 멤버십 인덱스 무효화 - userId: {}", userId);
+		}
+	}
+
+	private Memberships memberships(Long userId) {
+		long now = System.currentTimeMillis();
+		Memberships cached = cache.get(userId);
+		if (cached != null && cached.expiresAt() > now) {
+			return cached;
+		}
+
+		Map<Long, String> roles = familyMapper.findMembershipsByUserId(userId).stream()
+				.collect(Collectors.toUnmodifiableMap(FamilyMember::getFamilyId, FamilyMember::getRole, (a, b) -> a));
+		Memberships loaded = new Memberships(roles, now + ttlMillis);
+		if (cache.size() >= MAX_USERS) {
+			cache.clear();
+		}
+		cache.put(userId, loaded);
+		return loaded;
+	}
+
+	private record Memberships(Map<Long, String> roles, long expiresAt) {
+	}
+}
@@ -1,24 +1,35 @@
 package com.eardream.domain.families.service;
 
 import com.eardream.domain.families.mapper.FamilyMapper;
+import com.eardream.domain.families.dto.ApproveInvitationRequest;
+import com.eardream.domain.families.dto.BulkInvitationDecisionRequest;
+import com.eardream.domain.families.dto.BulkInvitationDecisionResponse;
 import com.eardream.domain.families.dto.CreateFamilyRequest;
 import com.eardream.domain.families.dto.FamilyDto;
 import com.eardream.domain.families.dto.InvitationDto;
 import com.eardream.domain.families.dto.InviteIssueResponse;
 import com.eardream.domain.families.dto.JoinRequest;
 import com.eardream.domain.families.entity.Family;
+import com.eardream.domain.families.entity.FamilyMember;
 import com.eardream.domain.families.entity.Invitation;
 import com.eardream.domain.user.dto.UserDto;
 import com.eardream.domain.user.service.UserService;
 import com.eardream.global.common.PageRequest;
 import com.eardream.global.common.PageResponse;
+import com.eardream.global.counter.LiveCounterRegistry;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
-import java.util.UUID;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -28,6 +39,20 @@ public class FamilyService {
 
 	private final FamilyMapper familyMapper;
 	private final UserService userService;
+	private final LiveCounterRegistry liveCounterRegistry;
+	private final InviteCodeIndex inviteCodeIndex;
+	private final InviteCodeAllocator inviteCodeAllocator;
+	private final ApplicationEventPublisher eventPublisher;
+
+	private static final String COUNTER_TOTAL = "family.total";
+
+	@Value("${family.invitation.ttl-days:7}")
+	private int invitationTtlDays;
+
+	@PostConstruct
+	void registerCounters() {
+		liveCounterRegistry.register(COUNTER_TOTAL, familyMapper::countAll);
+	}
 
 	@Transactional(readOnly = false)
 	public FamilyDto createFamily(CreateFamilyRequest request) {
@@ -37,8 +62,8 @@ public class FamilyService {
 		family.setFamilyProfileImageUrl(request.getFamilyProfileImageUrl());
 		family.setMonthlyDeadline(request.getMonthlyDeadline());
 		family.setUserId(request.getUserId());
-		// 초대코드는 최초 발급 시점에 생성 (없을 때만 생성)
-		family.setInviteCode(generateInviteCode());
+		// 초대코드는 최초 발급 시점에 생성 (시퀀스 기반이라 중복 확인 불필요)
+		family.setInviteCode(inviteCodeAllocator.allocate());
 		family.setStatus("ACTIVE");
 		family.setCreatedAt(LocalDateTime.now());
 		family.setUpdatedAt(LocalDateTime.now());
@@ -48,6 +73,8 @@ public class FamilyService {
 		if (result == 0) {
 			throw new RuntimeException("가족 생성에 실패했습니다");
 		}
+		liveCounterRegistry.add(COUNTER_TOTAL, 1);
+		inviteCodeIndex.register(family.getInviteCode(), family.getId());
 
 		// 생성자도 가족 멤버로 등록 (리더)
 		familyMapper.insertFamilyMember(
@@ -56,10 +83,17 @@ public class FamilyService {
 				"LEADER",   // relationship (초기값)
 				"LEADER"    // role
 		);
+		eventPublisher.publishEvent(new FamilyMembershipChangedEvent(family.getId(), family.getUserId()));
 
 		return toDto(family);
 	}
 
+	public FamilyDto getFamily(Long familyId) {
+		Family family = familyMapper.findById(familyId)
+				.orElseThrow(() -> new IllegalArgumentException("가족을 찾을 수 없습니다: " + familyId));
+		return toDto(family);
+	}
+
 	public FamilyDto getFamilyByUserId(Long userId) {
 		Family family = familyMapper.findByUserId(userId)
 				.orElseThrow(() -> new IllegalArgumentException("가족을 찾을 수 없습니다: userId=" + userId));
@@ -67,7 +101,7 @@ public class FamilyService {
 	}
 
 	public PageResponse<FamilyDto> getFamilies(PageRequest pageRequest) {
-		int total = familyMapper.countAll();
+		long total = liveCounterRegistry.get(COUNTER_TOTAL);
 		List<Family> list = familyMapper.findAll(pageRequest.getOffset(), pageRequest.getSize());
 		List<FamilyDto> content = list.stream().map(this::toDto).collect(Collectors.toList());
 		return PageResponse.of(content, pageRequest.getPage(), pageRequest.getSize(), total);
@@ -96,11 +130,81 @@ public class FamilyService {
 
 		// 멤버 insert
 		familyMapper.insertFamilyMember(familyId, invitation.getInvitedUserId(), relationship, "MEMBER");
+		eventPublisher.publishEvent(new FamilyMembershipChangedEvent(familyId, invitation.getInvitedUserId()));
 	}
 
+	/**
+	 * 초대 거부 (해당 가족의 대기 초대만)
+	 */
 	@Transactional(readOnly = false)
-	public void rejectInvitation(Long invitationId) {
-		familyMapper.rejectInvitation(invitationId);
+	public void rejectInvitation(Long familyId, Long invitationId) {
+		int updated = familyMapper.rejectInvitation(familyId, invitationId);
+		if (updated == 0) throw new IllegalArgumentException("유효하지 않은 초대입니다");
+	}
+
+	/**
+	 * 초대 일괄 승인/거부
+	 * 소속 검증 1회 조회 + 상태 일괄 업데이트 + 멤버 다중 insert를 하나의 트랜잭션에서 처리한다.
+	 * 하나라도 유효하지 않으면 전체가 롤백된다.
+	 */
+	@Transactional(readOnly = false)
+	public BulkInvitationDecisionResponse decideInvitations(Long familyId, BulkInvitationDecisionRequest request) {
+		List<ApproveInvitationRequest> approvals = request.getApprovals() == null ? List.of() : request.getApprovals();
+		List<Long> rejectIds = request.getRejections() == null ? List.of() : request.getRejections();
+
+		List<Long> approveIds = approvals.stream().map(ApproveInvitationRequest::getInvitationId).toList();
+		Set<Long> allIds = new HashSet<>();
+		for (Long id : approveIds) {
+			if (id == null || !allIds.add(id)) throw new IllegalArgumentException("초대 ID가 중복되었거나 비어 있습니다");
+		}
+		for (Long id : rejectIds) {
+			if (id == null || !allIds.add(id)) throw new IllegalArgumentException("초대 ID가 중복되었거나 비어 있습니다");
+		}
+		if (allIds.isEmpty()) {
+			return BulkInvitationDecisionResponse.builder().build();
+		}
+		if (allIds.size() > BulkInvitationDecisionRequest.MAX_BATCH_SIZE * 2) {
+			throw new IllegalArgumentException("한 번에 처리할 수 있는 초대 수를 초과했습니다");
+		}
+
+		// 모든 ID가 이 가족의 대기 초대인지 한 번의 조회로 검증
+		Map<Long, Invitation> pending = familyMapper.findPendingInvitationsByIds(familyId, List.copyOf(allIds)).stream()
+				.collect(Collectors.toMap(Invitation::getId, invitation -> invitation));
+		if (pending.size() != allIds.size()) {
+			throw new IllegalArgumentException("유효하지 않은 초대가 포함되어 있습니다");
+		}
+
+		List<FamilyMember> newMembers = new ArrayList<>(approvals.size());
+		for (ApproveInvitationRequest approval : approvals) {
+			Long userId = pending.get(approval.getInvitationId()).getInvitedUserId();
+			if (userId == null) throw new IllegalArgumentException("참여 신청이 완료되지 않은 초대입니다");
+			newMembers.add(FamilyMember.builder()
+					.familyId(familyId)
+					.userId(userId)
+					.relationship(approval.getRelationship())
+					.role("MEMBER")
+					.build());
+		}
+
+		// 상태 조건부 일괄 업데이트 - 동시 처리로 건수가 달라지면 전체 롤백
+		if (!approveIds.isEmpty()) {
+			int updated = familyMapper.approveInvitations(approveIds);
+			if (updated != approveIds.size()) throw new IllegalArgumentException("유효하지 않은 초대입니다");
+			familyMapper.insertFamilyMembers(newMembers);
+		}
+		if (!rejectIds.isEmpty()) {
+			int updated = familyMapper.rejectInvitations(rejectIds);
+			if (updated != rejectIds.size()) throw new IllegalArgumentException("유효하지 않은 초대입니다");
+		}
+
+		for (FamilyMember member : newMembers) {
+			eventPublisher.publishEvent(new FamilyMembershipChangedEvent(familyId, member.getUserId()));
+		}
+
+		return BulkInvitationDecisionResponse.builder()
+				.approvedCount(approveIds.size())
+				.rejectedCount(rejectIds.size())
+				.build();
 	}
 
 	@Transactional(readOnly = false)
@@ -110,37 +214,18 @@ public class FamilyService {
 		if (deleted == 0) {
 			throw new IllegalArgumentException("해당 멤버를 찾을 수 없습니다");
 		}
+		eventPublisher.publishEvent(new FamilyMembershipChangedEvent(familyId, userId));
 	}
 
-	private String generateInviteCode() {
-		return UUID.randomUUID().toString().replaceAll("-", "").substring(0, 6).toUpperCase();
-	}
-
-	/**
-	 * DB를 조회하여 겹치지 않는 초대 코드를 생성합니다.
-	 */
-	private String generateUniqueInviteCode() {
-		String code;
-		int attempts = 0;
-		final int maxAttempts = 5;
-		do {
-			code = generateInviteCode();
-			attempts++;
-			if (attempts > maxAttempts) {
-				throw new IllegalStateException("초대 코드 생성에 실패했습니다. 다시 시도해주세요.");
-			}
-		} while (familyMapper.findByInviteCode(code).isPresent());
-		return code;
-	}
-
-	@Transactional(readOnly = true)
+	@Transactional(readOnly = false)
 	public InviteIssueResponse issueInvite(Long familyId) {
 		Family family = familyMapper.findById(familyId)
 				.orElseThrow(() -> new IllegalArgumentException("가족을 찾을 수 없습니다: " + familyId));
 		String code = family.getInviteCode();
 		if (code == null || code.isBlank()) {
-			code = generateUniqueInviteCode();
+			code = inviteCodeAllocator.allocate();
 			familyMapper.updateFamilyInviteCode(familyId, code);
+			inviteCodeIndex.replace(family.getInviteCode(), code, familyId);
 			family.setInviteCode(code);
 		}
 		return InviteIssueResponse.builder()
@@ -152,8 +237,8 @@ public class FamilyService {
 
 	@Transactional(readOnly = false)
 	public InvitationDto joinByInvite(JoinRequest request) {
-		// 초대코드로 가족 찾기
-		Family family = familyMapper.findByInviteCode(request.getInviteCode())
+		// 초대코드로 가족 찾기 (최근 동기화된 인덱스에 없는 코드만 DB 조회 없이 거절)
+		Long familyId = inviteCodeIndex.resolve(request.getInviteCode())
 				.orElseThrow(() -> new IllegalArgumentException("유효하지 않은 초대코드입니다"));
 
 		// 사용자 조회 (카카오 로그인으로 생성된 사용자)
@@ -161,10 +246,11 @@ public class FamilyService {
 
 		// 초대 생성 (PENDING)
 		Invitation invitation = Invitation.builder()
-				.familyId(family.getId())
-				.inviteCode(family.getInviteCode())
+				.familyId(familyId)
+				.inviteCode(request.getInviteCode().trim().toUpperCase())
 				.invitedUserId(user.getUserId())
 				.status("PENDING")
+				.expiresAt(LocalDateTime.now().plusDays(invitationTtlDays))
 				.createdAt(LocalDateTime.now())
 				.build();
 		familyMapper.insertInvitation(invitation);
@@ -174,6 +260,7 @@ public class FamilyService {
 				.inviteCode(invitation.getInviteCode())
 				.invitedUserId(invitation.getInvitedUserId())
 				.status("PENDING")
+				.expiresAt(invitation.getExpiresAt())
 				.createdAt(invitation.getCreatedAt())
 				.build();
 	}
@@ -0,0 +1,55 @@
+package com.eardream.domain.families.service;
+
+import com.eardream.domain.families.mapper.FamilyMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 만료 초대 정리
+ * 유효 기간이 지난 PENDING 초대를 ROWNUM 제한 배치로 EXPIRED 처리해 대기 목록이 커지지 않게 한다.
+ * 배치마다 개별 커밋되므로 긴 잠금이나 큰 UNDO 없이 점진적으로 정리된다.
+ */
+@Slf4j
+@Component
+public class InvitationExpirySweeper {
+
+	private final FamilyMapper familyMapper;
+	private final int ttlDays;
+	private final int batchSize;
+	private final int maxBatches;
+
+	public InvitationExpirySweeper(FamilyMapper familyMapper,
+			@Value("${family.invitation.ttl-days:7}") int ttlDays,
+			@Value("${family.invitation.sweep-batch-size:500}") int batchSize,
+			@Value("${family.invitation.sweep-max-batches:20}") int maxBatches) {
+		this.familyMapper = familyMapper;
+		this.ttlDays = ttlDays;
+		this.batchSize = batchSize;
+		this.maxBatches = maxBatches;
+	}
+
+	/**
+	 * 만료 초대 일괄 처리 (배치가 가득 차면 한 번의 실행에서 이어서 처리)
+	 */
+	@Scheduled(fixedDelayString = "${family.invitation.sweep-interval-ms:600000}")
+	public int sweep() {
+		// expires_at 이 없는 기존 초대는 생성일 + TTL 기준으로 만료
+		LocalDateTime legacyCutoff = LocalDateTime.now().minusDays(ttlDays);
+		int total = 0;
+		for (int i = 0; i < maxBatches; i++) {
+			int expired = familyMapper.expireInvitations(legacyCutoff, batchSize);
+			total += expired;
+			if (expired < batchSize) {
+				break;
+			}
+		}
+		if (total > 0) {
+			log.info("만료 초대 정리 완료 - 처리: {}건", total);
+		}
+		return total;
+	}
+}
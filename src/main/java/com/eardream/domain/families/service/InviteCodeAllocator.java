@@ -0,0 +1,154 @@
+package com.eardream.domain.families.service;
+
+import com.eardream.domain.families.mapper.FamilyMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+
+/**
+ * 충돌 없는 초대코드 할당기
+ * 시퀀스(invite_code_seq)를 블록 단위로 받아 메모리에서 번호를 나눠주고,
+ * 번호를 35비트 가역 순열로 섞은 뒤 Crockford base32 7자리로 인코딩한다.
+ * 순열이 전단사이므로 서로 다른 번호는 항상 서로 다른 코드가 되어 중복 확인 조회가 필요 없다.
+ * 순열 키는 비밀값(INVITE_CODE_SECRET)에서 HMAC-SHA256 으로 유도하므로, 알고리즘이 공개돼 있어도
+ * 비밀값 없이는 코드를 번호로 되돌리거나 이웃 코드를 만들 수 없다.
+ */
+@Slf4j
+@Component
+public class InviteCodeAllocator {
+
+	/** invite_code_seq의 INCREMENT BY와 같아야 함 */
+	static final int BLOCK_SIZE = 100;
+
+	static final int CODE_LENGTH = 7;
+	private static final int BITS = CODE_LENGTH * 5;
+	private static final long MASK = (1L << BITS) - 1;
+	private static final char[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+	private static final int MIN_SECRET_LENGTH = 16;
+	private static final String HMAC_ALGORITHM = "HmacSHA256";
+	private static final String KEY_CONTEXT = "eardream-invite-code-permutation";
+
+	private static final long MULTIPLIER_1 = 0x2545F4914FL & MASK | 1L;
+	private static final long MULTIPLIER_2 = 0x5DEECE66DL & MASK | 1L;
+	private static final long INVERSE_1 = inverse(MULTIPLIER_1);
+	private static final long INVERSE_2 = inverse(MULTIPLIER_2);
+
+	private final FamilyMapper familyMapper;
+	/** 순열 앞뒤에 섞는 35비트 키 */
+	private final long inputKey;
+	private final long outputKey;
+
+	private long next;
+	private long blockEnd;
+
+	public InviteCodeAllocator(FamilyMapper familyMapper,
+	                           @Value("${family.invite-code.secret}") String secret) {
+		if (secret == null || secret.isBlank() || secret.length() < MIN_SECRET_LENGTH) {
+			throw new IllegalStateException("초대코드 비밀값(INVITE_CODE_SECRET)은 " + MIN_SECRET_LENGTH + "자 이상이어야 합니다");
+		}
+		this.familyMapper = familyMapper;
+		ByteBuffer keyMaterial = ByteBuffer.wrap(hmacSha256(secret, KEY_CONTEXT));
+		this.inputKey = keyMaterial.getLong() & MASK;
+		this.outputKey = keyMaterial.getLong() & MASK;
+	}
+
+	/**
+	 * 새 초대코드 할당 (블록 소진 시에만 시퀀스 조회)
+	 */
+	public synchronized String allocate() {
+		if (next >= blockEnd) {
+			long blockStart = familyMapper.nextInviteCodeBlock();
+			next = blockStart;
+			blockEnd = blockStart + BLOCK_SIZE;
+			log.debug("초대코드 블록 할당 - {} ~ {}", blockStart, blockEnd - 1);
+		}
+		return encode(permute(next++));
+	}
+
+	/**
+	 * 초대코드 → 원래 시퀀스 번호 (형식이 맞지 않으면 -1)
+	 */
+	public long decode(String inviteCode) {
+		if (inviteCode == null || inviteCode.length() != CODE_LENGTH) {
+			return -1;
+		}
+		long value = 0;
+		for (char c : inviteCode.toUpperCase().toCharArray()) {
+			int digit = indexOf(c);
+			if (digit < 0) {
+				return -1;
+			}
+			value = (value << 5) | digit;
+		}
+		return unpermute(value);
+	}
+
+	long permute(long value) {
+		long x = (value ^ inputKey) & MASK;
+		x = (x * MULTIPLIER_1) & MASK;
+		x ^= x >>> 16;
+		x = (x * MULTIPLIER_2) & MASK;
+		x ^= x >>> 15;
+		return x ^ outputKey;
+	}
+
+	long unpermute(long value) {
+		long x = unshiftRight((value ^ outputKey) & MASK, 15);
+		x = (x * INVERSE_2) & MASK;
+		x = unshiftRight(x, 16);
+		x = (x * INVERSE_1) & MASK;
+		return (x ^ inputKey) & MASK;
+	}
+
+	private static String encode(long value) {
+		char[] chars = new char[CODE_LENGTH];
+		for (int i = CODE_LENGTH - 1; i >= 0; i--) {
+			chars[i] = ALPHABET[(int) (value & 31)];
+			value >>>= 5;
+		}
+		return new String(chars);
+	}
+
+	private static int indexOf(char c) {
+		for (int i = 0; i < ALPHABET.length; i++) {
+			if (ALPHABET[i] == c) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static byte[] hmacSha256(String secret, String message) {
+		try {
+			Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+			mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM));
+			return mac.doFinal(message.getBytes(StandardCharsets.UTF_8));
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException("초대코드 순열 키를 만들 수 없습니다", e);
+		}
+	}
+
+	/** x ^= x >>> shift 의 역연산 */
+	private static long unshiftRight(long y, int shift) {
+		long x = y;
+		for (int i = 0; i < BITS / shift + 1; i++) {
+			x = y ^ (x >>> shift);
+		}
+		return x & MASK;
+	}
+
+	/** 홀수의 mod 2^BITS 곱셈 역원 (Newton 반복) */
+	private static long inverse(long odd) {
+		long inv = odd;
+		for (int i = 0; i < 5; i++) {
+			inv *= 2 - odd * inv;
+		}
+		return inv & MASK;
+	}
+}
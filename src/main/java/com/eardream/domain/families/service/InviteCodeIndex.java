@@ -0,0 +1,254 @@
+package com.eardream.domain.families.service;
+
+import com.eardream.domain.families.entity.Family;
+import com.eardream.domain.families.mapper.FamilyMapper;
+import com.eardream.global.util.BloomFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * 초대코드 메모리 인덱스
+ * 초대코드 → 가족 ID 맵과 Bloom 필터를 유지해 가입/코드 생성 시 DB 조회를 없앤다.
+ * - 맵에 있는 코드: DB 조회 없이 가족 ID 반환
+ * - Bloom 필터에 없는 코드: 인덱스가 최근(negative-trust-ms 이내)에 동기화된 경우만 DB 조회 없이 무효 처리
+ * - Bloom 필터에만 있는 코드(변경된 코드, 오탐), 적재 전이거나 동기화가 밀린 경우: DB로 확인
+ * 시작 시 전체 적재하고, 다른 노드에서 생성/변경된 코드는 짧은 주기의 변경분 동기화(updated_at 기준)로 반영한다.
+ */
+@Slf4j
+@Component
+public class InviteCodeIndex {
+
+	private static final double FALSE_POSITIVE_RATE = 0.01;
+	/** 변경분 동기화 겹침 구간 (노드 간 시계 차이, 커밋 지연 흡수) */
+	private static final long SYNC_OVERLAP_MS = 30_000;
+
+	private final FamilyMapper familyMapper;
+	private final int expectedCodes;
+	private final long negativeTrustMs;
+	private final LongSupplier clock;
+
+	/** 마지막으로 성공한 동기화(전체 또는 변경분) 시작 시각, 적재 전이면 0 */
+	private volatile long syncedAt;
+
+	private final Object lock = new Object();
+	private volatile Snapshot snapshot;
+	/** 재적재 중 들어온 변경 (새 스냅샷에 다시 반영) */
+	private List<Consumer<Snapshot>> pendingDuringRebuild;
+
+	@Autowired
+	public InviteCodeIndex(FamilyMapper familyMapper,
+	                       @Value("${family.invite-index.expected-codes:100000}") int expectedCodes,
+	                       @Value("${family.invite-index.negative-trust-ms:10000}") long negativeTrustMs) {
+		this(familyMapper, expectedCodes, negativeTrustMs, System::currentTimeMillis);
+	}
+
+	InviteCodeIndex(FamilyMapper familyMapper, int expectedCodes, long negativeTrustMs, LongSupplier clock) {
+		this.familyMapper = familyMapper;
+		this.expectedCodes = expectedCodes;
+		this.negativeTrustMs = negativeTrustMs;
+		this.clock = clock;
+		this.snapshot = new Snapshot(expectedCodes);
+	}
+
+	/**
+	 * 시작 시 전체 초대코드 적재
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void warmUp() {
+		rebuild();
+	}
+
+	/**
+	 * 주기적 재적재 (다른 노드에서 생성/변경된 코드 반영)
+	 */
+	@Scheduled(fixedDelayString = "${family.invite-index.refresh-interval-ms:300000}",
+			initialDelayString = "${family.invite-index.refresh-interval-ms:300000}")
+	public void refresh() {
+		rebuild();
+	}
+
+	/**
+	 * 변경분 동기화 (다른 노드에서 생성/교체된 코드를 수 초 안에 반영)
+	 */
+	@Scheduled(fixedDelayString = "${family.invite-index.sync-interval-ms:2000}",
+			initialDelayString = "${family.invite-index.sync-interval-ms:2000}")
+	public void sync() {
+		long lastSyncedAt = syncedAt;
+		if (lastSyncedAt == 0) {
+			// 아직 적재 전 (전체 적재가 성공해야 변경분 기준 시각이 생김)
+			return;
+		}
+		long startedAt = clock.getAsLong();
+		try {
+			LocalDateTime since = LocalDateTime.ofInstant(Instant.ofEpochMilli(lastSyncedAt - SYNC_OVERLAP_MS), ZoneId.systemDefault());
+			for (Family family : familyMapper.findInviteCodesUpdatedSince(since)) {
+				String code = normalize(family.getInviteCode());
+				if (code != null) {
+					apply(s -> s.put(code, family.getId()));
+				}
+			}
+			syncedAt = startedAt;
+		} catch (Exception e) {
+			log.warn("초대코드 인덱스 변경분 동기화 실패 - 부재 판정은 DB로 확인", e);
+		}
+	}
+
+	/**
+	 * 초대코드로 가족 ID 조회
+	 */
+	public Optional<Long> resolve(String inviteCode) {
+		String code = normalize(inviteCode);
+		if (code == null) {
+			return Optional.empty();
+		}
+
+		Snapshot current = snapshot;
+		Long familyId = current.codes.get(code);
+		if (familyId != null) {
+			return Optional.of(familyId);
+		}
+		if (!current.bloom.mightContain(code) && isFresh()) {
+			log.debug("초대코드 인덱스 미존재 - DB 조회 생략: {}", code);
+			return Optional.empty();
+		}
+
+		// 변경 전 코드, Bloom 필터 오탐, 또는 인덱스를 믿을 수 없는 경우(적재 전/동기화 지연) DB 확인
+		Optional<Family> family = familyMapper.findByInviteCode(code);
+		family.ifPresent(f -> register(f.getInviteCode(), f.getId()));
+		return family.map(Family::getId);
+	}
+
+	/**
+	 * 초대코드 등록 (트랜잭션 중이면 커밋 이후 반영)
+	 */
+	public void register(String inviteCode, Long familyId) {
+		String code = normalize(inviteCode);
+		if (code == null || familyId == null) {
+			return;
+		}
+		afterCommit(() -> apply(s -> s.put(code, familyId)));
+	}
+
+	/**
+	 * 초대코드 교체 (이전 코드는 맵에서 제거, Bloom 필터에는 남아 DB 확인 대상이 됨)
+	 */
+	public void replace(String oldInviteCode, String newInviteCode, Long familyId) {
+		String oldCode = normalize(oldInviteCode);
+		String newCode = normalize(newInviteCode);
+		afterCommit(() -> apply(s -> {
+			if (oldCode != null) {
+				s.codes.remove(oldCode, familyId);
+				s.codeByFamily.remove(familyId, oldCode);
+			}
+			if (newCode != null && familyId != null) {
+				s.put(newCode, familyId);
+			}
+		}));
+	}
+
+	/**
+	 * 부재 판정을 믿을 수 있는지 (적재 완료 후 negativeTrustMs 이내에 동기화됨)
+	 */
+	private boolean isFresh() {
+		long lastSyncedAt = syncedAt;
+		return lastSyncedAt != 0 && clock.getAsLong() - lastSyncedAt <= negativeTrustMs;
+	}
+
+	private void rebuild() {
+		long startedAt = clock.getAsLong();
+		synchronized (lock) {
+			pendingDuringRebuild = new ArrayList<>();
+		}
+		try {
+			List<Family> families = familyMapper.findAllInviteCodes();
+			Snapshot rebuilt = new Snapshot(Math.max(expectedCodes, families.size() * 2));
+			for (Family family : families) {
+				String code = normalize(family.getInviteCode());
+				if (code != null) {
+					rebuilt.put(code, family.getId());
+				}
+			}
+			synchronized (lock) {
+				pendingDuringRebuild.forEach(change -> change.accept(rebuilt));
+				snapshot = rebuilt;
+			}
+			syncedAt = startedAt;
+			log.info("초대코드 인덱스 적재 완료 - {}건", rebuilt.codes.size());
+		} catch (Exception e) {
+			log.warn("초대코드 인덱스 적재 실패 - 기존 인덱스 유지", e);
+		} finally {
+			synchronized (lock) {
+				pendingDuringRebuild = null;
+			}
+		}
+	}
+
+	private void apply(Consumer<Snapshot> change) {
+		synchronized (lock) {
+			change.accept(snapshot);
+			if (pendingDuringRebuild != null) {
+				pendingDuringRebuild.add(change);
+			}
+		}
+	}
+
+	private static void afterCommit(Runnable action) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					action.run();
+				}
+			});
+		} else {
+			action.run();
+		}
+	}
+
+	private static String normalize(String inviteCode) {
+		if (inviteCode == null || inviteCode.isBlank()) {
+			return null;
+		}
+		return inviteCode.trim().toUpperCase(Locale.ROOT);
+	}
+
+	private static final class Snapshot {
+		private final Map<String, Long> codes = new ConcurrentHashMap<>();
+		/** 가족 ID → 현재 코드 (다른 노드에서 교체된 이전 코드를 맵에서 제거하기 위함) */
+		private final Map<Long, String> codeByFamily = new ConcurrentHashMap<>();
+		private final BloomFilter bloom;
+
+		private Snapshot(int expectedCodes) {
+			this.bloom = new BloomFilter(expectedCodes, FALSE_POSITIVE_RATE);
+		}
+
+		private void put(String code, Long familyId) {
+			codes.put(code, familyId);
+			bloom.put(code);
+			String previous = codeByFamily.put(familyId, code);
+			if (previous != null && !previous.equals(code)) {
+				// 이전 코드는 Bloom 필터에 남아 DB 확인 대상이 됨
+				codes.remove(previous, familyId);
+			}
+		}
+	}
+}
@@ -79,6 +79,20 @@ public class PaymentController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    /**
+     * 정기결제 실행 전 빌링키 캐시 적재 (스케줄러가 월 정기결제 직전에 호출)
+     */
+    @Operation(summary = "정기결제 빌링키 캐시 적재", description = "이번 정기결제 대상 가족의 활성 빌링키를 한 번에 캐시에 적재합니다. (관리자/스케줄러 전용)")
+    @PostMapping("/subscription/warm-up")
+    public ResponseEntity<ApiResponse<Integer>> warmUpBillingKeys(@RequestBody List<String> familyIds) {
+
+        log.info("정기결제 빌링키 캐시 적재 - 대상: {}건", familyIds.size());
+
+        int loaded = paymentService.warmUpBillingKeys(familyIds);
+
+        return ResponseEntity.ok(ApiResponse.success(loaded));
+    }
+
     /**
      * 결제 취소
      */
@@ -124,8 +138,11 @@ public class PaymentController {
         log.info("결제 내역 조회 - 사용자: {}, 페이지: {}, 크기: {}", userId, page, size);
         
         List<PaymentResponseDto> response = paymentService.getPaymentHistory(userId, page, size);
+        long totalCount = paymentService.countPaymentHistory(userId);
         
-        return ResponseEntity.ok(ApiResponse.success(response));
+        return ResponseEntity.ok()
+                .header("X-Total-Count", String.valueOf(totalCount))
+                .body(ApiResponse.success(response));
     }
 
     /**
@@ -12,7 +12,7 @@ import java.time.LocalDateTime;
  * 포트원 V2 SDK 빌링키 응답과 연동
  */
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class BillingKey {
@@ -104,6 +104,10 @@ public class Payment {
     
     /** 수정일시 */
     private LocalDateTime updatedAt;
+
+    /** 낙관적 잠금 버전 (상태 변경 시마다 1 증가) */
+    @Builder.Default
+    private Long version = 0L;
     
     /**
      * 결제 상태 enum
@@ -114,7 +118,19 @@ public class Payment {
         FAILED,         // 결제 실패
         CANCELLED,      // 결제 취소
         PARTIAL_CANCELLED, // 부분 취소
-        REFUNDED        // 환불
+        REFUNDED;       // 환불
+
+        /**
+         * 현재 상태에서 대상 상태로 전이 가능한지 여부
+         */
+        public boolean canTransitionTo(PaymentStatus target) {
+            return switch (this) {
+                case PENDING -> target == APPROVED || target == FAILED || target == CANCELLED;
+                case APPROVED -> target == CANCELLED || target == PARTIAL_CANCELLED || target == REFUNDED;
+                case PARTIAL_CANCELLED -> target == PARTIAL_CANCELLED || target == CANCELLED || target == REFUNDED;
+                case FAILED, CANCELLED, REFUNDED -> false;
+            };
+        }
     }
     
     /**
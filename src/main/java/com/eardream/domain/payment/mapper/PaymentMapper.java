@@ -26,6 +26,15 @@ public interface PaymentMapper {
      */
     void updatePayment(Payment payment);
 
+    /**
+     * 결제 상태 조건부 업데이트 (낙관적 잠금)
+     * 현재 상태와 버전이 기대값과 일치할 때만 반영하며, 반영 시 버전을 1 증가시킨다.
+     * @return 수정된 레코드 수 (0이면 다른 요청이 먼저 상태를 변경한 것)
+     */
+    int updatePaymentStatus(@Param("payment") Payment payment,
+                            @Param("expectedStatus") Payment.PaymentStatus expectedStatus,
+                            @Param("expectedVersion") Long expectedVersion);
+
     /**
      * 결제 ID로 결제 정보 조회
      */
@@ -94,6 +103,11 @@ public interface PaymentMapper {
      */
     Optional<BillingKey> findActiveBillingKeyByFamilyId(@Param("familyId") String familyId);
 
+    /**
+     * 가족 ID 목록으로 가족별 활성 빌링키 일괄 조회 (가족별 최신 1건, 최대 1000개)
+     */
+    List<BillingKey> findActiveBillingKeysByFamilyIds(@Param("familyIds") List<String> familyIds);
+
     /**
      * 사용자 ID로 빌링키 목록 조회
      */
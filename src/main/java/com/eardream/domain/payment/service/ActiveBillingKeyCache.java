@@ -0,0 +1,147 @@
+package com.eardream.domain.payment.service;
+
+import com.eardream.domain.payment.entity.BillingKey;
+import com.eardream.domain.payment.mapper.PaymentMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 가족별 활성 빌링키 캐시 (read-through)
+ * 정기결제마다 발생하던 활성 빌링키 조회를 메모리에서 처리하고,
+ * 빌링키 등록/삭제/비활성화 시 명시적으로 무효화한다.
+ * 결제 후 마지막 사용 시각 기록은 활성 키를 바꾸지 않으므로 캐시 값만 갱신하고,
+ * 월 정기결제 직전에 대상 가족을 한 번에 적재(warmUp)해 결제마다 DB를 거치지 않도록 한다.
+ *
+ * 캐시와 무효화는 인스턴스 메모리 안에서만 동작하므로 단일 인스턴스 배포를 전제로 한다.
+ * 여러 대로 늘리면 다른 인스턴스에서 등록/삭제된 빌링키는 TTL(기본 5분)이 지날 때까지 이전 값으로 보일 수 있으므로,
+ * 그 전에 공유 무효화 수단을 두거나 ttl-minutes 를 그 지연을 감수할 수 있는 값으로 낮춰야 한다.
+ */
+@Slf4j
+@Component
+public class ActiveBillingKeyCache {
+
+    // Oracle IN 목록 최대 개수
+    private static final int IN_LIST_LIMIT = 1000;
+
+    private final PaymentMapper paymentMapper;
+    private final long ttlMillis;
+    private final Map<String, CachedBillingKey> cache = new ConcurrentHashMap<>();
+
+    public ActiveBillingKeyCache(PaymentMapper paymentMapper,
+                                 @Value("${payment.billing-key-cache.ttl-minutes:5}") long ttlMinutes) {
+        this.paymentMapper = paymentMapper;
+        this.ttlMillis = Duration.ofMinutes(ttlMinutes).toMillis();
+    }
+
+    /**
+     * 가족의 활성 빌링키 조회 (캐시 미스 시 DB 조회 후 적재, 없으면 적재하지 않음)
+     * 호출자가 엔티티를 수정해도 캐시가 오염되지 않도록 복사본을 반환
+     */
+    public Optional<BillingKey> findActiveByFamilyId(String familyId) {
+        if (familyId == null) {
+            return Optional.empty();
+        }
+
+        long now = System.currentTimeMillis();
+        CachedBillingKey cached = cache.get(familyId);
+        if (cached != null && cached.expiresAt() > now) {
+            return Optional.of(cached.billingKey().toBuilder().build());
+        }
+
+        Optional<BillingKey> loaded = paymentMapper.findActiveBillingKeyByFamilyId(familyId);
+        loaded.ifPresentOrElse(
+                billingKey -> cache.put(familyId, new CachedBillingKey(billingKey.toBuilder().build(), now + ttlMillis)),
+                () -> cache.remove(familyId));
+        return loaded;
+    }
+
+    /**
+     * 대상 가족의 활성 빌링키 일괄 적재 (IN 목록 1000개 단위, 활성 키가 없는 가족은 적재하지 않음)
+     * 적재한 값도 TTL 이 지나면 다시 DB 에서 읽으므로 정기결제 실행 직전에 호출한다.
+     *
+     * @return 적재된 가족 수
+     */
+    public int warmUp(Collection<String> familyIds) {
+        List<String> ids = familyIds.stream().filter(Objects::nonNull).distinct().toList();
+        long expiresAt = System.currentTimeMillis() + ttlMillis;
+        int loaded = 0;
+        for (int from = 0; from < ids.size(); from += IN_LIST_LIMIT) {
+            List<String> chunk = ids.subList(from, Math.min(from + IN_LIST_LIMIT, ids.size()));
+            for (BillingKey billingKey : paymentMapper.findActiveBillingKeysByFamilyIds(chunk)) {
+                cache.put(billingKey.getFamilyId(), new CachedBillingKey(billingKey.toBuilder().build(), expiresAt));
+                loaded++;
+            }
+        }
+        log.info("활성 빌링키 캐시 적재 - 대상: {}건, 적재: {}건", ids.size(), loaded);
+        return loaded;
+    }
+
+    /**
+     * 결제 후 마지막 사용 시각 반영 (트랜잭션 중이면 커밋 이후)
+     * 활성 키는 그대로이므로 무효화하지 않고 캐시된 사본만 갱신한다.
+     */
+    public void recordUse(BillingKey used) {
+        if (used == null || used.getFamilyId() == null) {
+            return;
+        }
+        String familyId = used.getFamilyId();
+        LocalDateTime lastUsedAt = used.getLastUsedAt();
+        Runnable update = () -> cache.computeIfPresent(familyId, (key, cached) ->
+                cached.billingKey().getBillingKeyId().equals(used.getBillingKeyId())
+                        ? new CachedBillingKey(cached.billingKey().toBuilder().lastUsedAt(lastUsedAt).build(), cached.expiresAt())
+                        : cached);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    update.run();
+                }
+            });
+        } else {
+            update.run();
+        }
+    }
+
+    /**
+     * 가족의 캐시 무효화
+     * 즉시 제거하고, 트랜잭션 중이면 커밋 이후 한 번 더 제거해 커밋 전 다른 요청이 적재한 이전 값을 걷어낸다.
+     */
+    public void evict(String familyId) {
+        if (familyId == null) {
+            return;
+        }
+
+        cache.remove(familyId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.remove(familyId);
+                }
+            });
+        }
+        log.debug("활성 빌링키 캐시 무효화 - 가족ID: {}", familyId);
+    }
+
+    /**
+     * 전체 캐시 비우기
+     */
+    public void clear() {
+        cache.clear();
+    }
+
+    private record CachedBillingKey(BillingKey billingKey, long expiresAt) {
+    }
+}
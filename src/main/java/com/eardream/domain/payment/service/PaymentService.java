@@ -4,6 +4,7 @@ import com.eardream.domain.payment.dto.*;
 import com.eardream.domain.payment.entity.BillingKey;
 import com.eardream.domain.payment.entity.Payment;
 import com.eardream.domain.payment.mapper.PaymentMapper;
+import com.eardream.global.counter.LiveCounterRegistry;
 import com.eardream.global.exception.BusinessException;
 import com.eardream.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
@@ -30,6 +31,9 @@ public class PaymentService {
 
     private final PaymentMapper paymentMapper;
     private final PortOneService portOneService;
+    private final PaymentStateMachine paymentStateMachine;
+    private final ActiveBillingKeyCache activeBillingKeyCache;
+    private final LiveCounterRegistry liveCounterRegistry;
 
     @Value("${portone.store-id}")
     private String storeId;
@@ -71,6 +75,8 @@ public class PaymentService {
                     .build();
             
             paymentMapper.insertPayment(payment);
+            paymentStateMachine.recordInitialStatus(payment);
+            liveCounterRegistry.add(userPaymentCounterKey(payment.getUserId()), 1);
 
             log.info("결제 검증 및 저장 완료 - 결제ID: {}, 사용자: {}", payment.getPaymentId(), userId);
 
@@ -109,6 +115,7 @@ public class PaymentService {
                     .build();
             
             paymentMapper.insertBillingKey(billingKey);
+            activeBillingKeyCache.evict(billingKey.getFamilyId());
 
             log.info("빌링키 등록 완료 - 빌링키ID: {}, 사용자: {}", 
                     billingKey.getBillingKeyId(), userId);
@@ -127,8 +134,8 @@ public class PaymentService {
      */
     public PaymentResponseDto executeSubscriptionPayment(SubscriptionPaymentRequestDto request) {
         try {
-            // 1. 가족 그룹의 활성 빌링키 조회
-            BillingKey billingKey = paymentMapper.findActiveBillingKeyByFamilyId(request.getFamilyId())
+            // 1. 가족 그룹의 활성 빌링키 조회 (캐시 우선)
+            BillingKey billingKey = activeBillingKeyCache.findActiveByFamilyId(request.getFamilyId())
                     .orElseThrow(() -> new BusinessException(ErrorCode.BILLING_KEY_NOT_FOUND));
 
             if (!BillingKey.BillingKeyStatus.ACTIVE.equals(billingKey.getStatus())) {
@@ -165,10 +172,14 @@ public class PaymentService {
                     .build();
             
             paymentMapper.insertPayment(payment);
+            paymentStateMachine.recordInitialStatus(payment);
+            liveCounterRegistry.add(userPaymentCounterKey(payment.getUserId()), 1);
 
             // 4. 빌링키 마지막 사용 시간 업데이트
+            // 활성 키는 바뀌지 않으므로 캐시를 무효화하지 않고 사용 시각만 반영
             billingKey.setLastUsedAt(LocalDateTime.now());
             paymentMapper.updateBillingKey(billingKey);
+            activeBillingKeyCache.recordUse(billingKey);
 
             log.info("정기결제 실행 완료 - 결제ID: {}, 가족ID: {}, 상태: {}", 
                     payment.getPaymentId(), request.getFamilyId(), payment.getStatus());
@@ -181,6 +192,14 @@ public class PaymentService {
         }
     }
 
+    /**
+     * 월 정기결제 전 대상 가족의 활성 빌링키를 캐시에 일괄 적재
+     */
+    @Transactional(readOnly = true)
+    public int warmUpBillingKeys(List<String> familyIds) {
+        return activeBillingKeyCache.warmUp(familyIds);
+    }
+
     /**
      * 결제 취소
      */
@@ -201,10 +220,8 @@ public class PaymentService {
             // 2. 포트원 결제 취소 요청
             portOneService.cancelPayment(payment.getPortoneTransactionId(), payment.getAmount());
 
-            // 3. 결제 상태 업데이트
-            payment.setStatus(Payment.PaymentStatus.CANCELLED);
-            payment.setCancelledAt(LocalDateTime.now());
-            paymentMapper.updatePayment(payment);
+            // 3. 결제 상태 업데이트 (조회 시점의 상태/버전 기준 조건부 반영, 웹훅이 먼저 반영했으면 그대로 유지)
+            payment = paymentStateMachine.transition(payment, Payment.PaymentStatus.CANCELLED, null);
 
             log.info("결제 취소 완료 - 결제ID: {}, 사용자: {}", paymentId, userId);
 
@@ -244,6 +261,19 @@ public class PaymentService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 사용자 결제 건수 (사용자별 실시간 카운터)
+     */
+    @Transactional(readOnly = true)
+    public long countPaymentHistory(String userId) {
+        return liveCounterRegistry.getScoped(userPaymentCounterKey(userId),
+                () -> paymentMapper.countPaymentsByUserId(userId));
+    }
+
+    private static String userPaymentCounterKey(String userId) {
+        return "payment.user." + userId;
+    }
+
     /**
      * 빌링키 목록 조회
      */
@@ -273,6 +303,7 @@ public class PaymentService {
         // DB에서 빌링키 상태 변경
         billingKey.setStatus(BillingKey.BillingKeyStatus.DELETED);
         paymentMapper.updateBillingKey(billingKey);
+        activeBillingKeyCache.evict(billingKey.getFamilyId());
 
         log.info("빌링키 삭제 완료 - 빌링키ID: {}, 사용자: {}", billingKeyId, userId);
     }
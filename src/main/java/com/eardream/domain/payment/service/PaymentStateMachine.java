@@ -0,0 +1,144 @@
+package com.eardream.domain.payment.service;
+
+import com.eardream.domain.payment.entity.Payment;
+import com.eardream.domain.payment.mapper.PaymentMapper;
+import com.eardream.global.exception.BusinessException;
+import com.eardream.global.exception.ErrorCode;
+import com.eardream.global.outbox.OutboxEventPublisher;
+import com.eardream.global.outbox.OutboxEventType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 결제 상태 전이 엔진
+ * 상태 + 버전 조건부 UPDATE로 웹훅과 API의 동시 변경을 row lock 없이 직렬화
+ * 상태가 실제로 바뀐 경우에만 같은 트랜잭션에서 아웃박스 이벤트를 기록
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaymentStateMachine {
+
+    /** 충돌 시 최신 상태를 다시 읽어 재시도하는 최대 횟수 */
+    private static final int MAX_ATTEMPTS = 3;
+
+    private static final String AGGREGATE_TYPE = "PAYMENT";
+
+    private final PaymentMapper paymentMapper;
+    private final OutboxEventPublisher outboxEventPublisher;
+
+    /**
+     * 결제 ID 기준 상태 전이 (최신 상태를 조회해서 적용)
+     */
+    public Payment transition(String paymentId, Payment.PaymentStatus target, Consumer<Payment> mutator) {
+        Payment current = paymentMapper.findPaymentById(paymentId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.PAYMENT_NOT_FOUND));
+        return transition(current, target, mutator);
+    }
+
+    /**
+     * 조회해 둔 스냅샷 기준 상태 전이
+     * - 이미 대상 상태이면 변경 없이 반환 (웹훅 재전송 등 멱등 처리)
+     * - 허용되지 않는 전이이면 PAYMENT_INVALID_STATUS_TRANSITION
+     * - 다른 요청이 먼저 변경했으면 최신 상태로 재시도, 계속 실패하면 PAYMENT_STATUS_CONFLICT
+     */
+    public Payment transition(Payment snapshot, Payment.PaymentStatus target, Consumer<Payment> mutator) {
+        Payment current = snapshot;
+
+        for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+            Payment.PaymentStatus expectedStatus = current.getStatus();
+            Long expectedVersion = current.getVersion() != null ? current.getVersion() : 0L;
+
+            if (expectedStatus == target) {
+                log.debug("결제 상태 변경 생략 (이미 {}) - 결제ID: {}", target, current.getPaymentId());
+                return current;
+            }
+            if (expectedStatus == null || !expectedStatus.canTransitionTo(target)) {
+                log.warn("허용되지 않는 결제 상태 변경 - 결제ID: {}, {} -> {}",
+                        current.getPaymentId(), expectedStatus, target);
+                throw new BusinessException(ErrorCode.PAYMENT_INVALID_STATUS_TRANSITION);
+            }
+
+            applyTarget(current, target);
+            if (mutator != null) {
+                mutator.accept(current);
+            }
+
+            int updated = paymentMapper.updatePaymentStatus(current, expectedStatus, expectedVersion);
+            if (updated == 1) {
+                current.setVersion(expectedVersion + 1);
+                log.info("결제 상태 변경 - 결제ID: {}, {} -> {}, version: {}",
+                        current.getPaymentId(), expectedStatus, target, current.getVersion());
+                publishStatusEvent(current);
+                return current;
+            }
+
+            log.info("결제 상태 변경 충돌, 재시도 - 결제ID: {}, 시도: {}", current.getPaymentId(), attempt);
+            current = paymentMapper.findPaymentById(current.getPaymentId())
+                    .orElseThrow(() -> new BusinessException(ErrorCode.PAYMENT_NOT_FOUND));
+        }
+
+        throw new BusinessException(ErrorCode.PAYMENT_STATUS_CONFLICT);
+    }
+
+    /**
+     * 신규 저장된 결제의 최초 상태 이벤트 기록 (insert 직후 호출)
+     */
+    public void recordInitialStatus(Payment payment) {
+        publishStatusEvent(payment);
+    }
+
+    /**
+     * 결제 상태에 대응하는 아웃박스 이벤트 기록 (PENDING은 이벤트 없음)
+     */
+    private void publishStatusEvent(Payment payment) {
+        OutboxEventType eventType = switch (payment.getStatus()) {
+            case APPROVED -> OutboxEventType.PAYMENT_APPROVED;
+            case FAILED -> OutboxEventType.PAYMENT_FAILED;
+            case CANCELLED, PARTIAL_CANCELLED, REFUNDED -> OutboxEventType.PAYMENT_CANCELLED;
+            default -> null;
+        };
+        if (eventType == null) {
+            return;
+        }
+
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("paymentId", payment.getPaymentId());
+        payload.put("familyId", payment.getFamilyId());
+        payload.put("userId", payment.getUserId());
+        payload.put("amount", payment.getAmount());
+        payload.put("status", payment.getStatus().name());
+
+        outboxEventPublisher.append(AGGREGATE_TYPE, payment.getPaymentId(), eventType, payload);
+    }
+
+    /**
+     * 대상 상태와 상태별 일시 반영
+     */
+    private void applyTarget(Payment payment, Payment.PaymentStatus target) {
+        LocalDateTime now = LocalDateTime.now();
+        payment.setStatus(target);
+        payment.setUpdatedAt(now);
+
+        switch (target) {
+            case APPROVED -> {
+                if (payment.getApprovedAt() == null) payment.setApprovedAt(now);
+            }
+            case FAILED -> {
+                if (payment.getFailedAt() == null) payment.setFailedAt(now);
+            }
+            case CANCELLED, PARTIAL_CANCELLED, REFUNDED -> {
+                if (payment.getCancelledAt() == null) payment.setCancelledAt(now);
+            }
+            default -> {
+                // PENDING: 별도 일시 없음
+            }
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.eardream.domain.payment.service;
 
 import com.eardream.domain.payment.dto.*;
+import com.eardream.domain.payment.entity.Payment;
+import com.eardream.domain.payment.mapper.PaymentMapper;
 import com.eardream.global.exception.BusinessException;
 import com.eardream.global.exception.ErrorCode;
 import com.fasterxml.jackson.databind.JsonNode;
@@ -21,7 +23,9 @@ import java.security.NoSuchAlgorithmException;
 import java.util.Base64;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * 포트원 V2 SDK 연동 서비스
@@ -34,6 +38,8 @@ public class PortOneService {
 
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
+    private final PaymentMapper paymentMapper;
+    private final PaymentStateMachine paymentStateMachine;
 
     @Value("${portone.api-url}")
     private String apiUrl;
@@ -252,6 +258,9 @@ public class PortOneService {
                 case "Transaction.Cancelled":
                     handlePaymentCancelled(jsonNode);
                     break;
+                case "Transaction.PartialCancelled":
+                    handlePaymentPartialCancelled(jsonNode);
+                    break;
                 default:
                     log.info("처리되지 않은 웹훅 타입: {}", type);
             }
@@ -266,24 +275,80 @@ public class PortOneService {
      * 결제 완료 웹훅 처리
      */
     private void handlePaymentCompleted(JsonNode data) {
-        // TODO: 결제 완료 처리 로직 구현
-        log.info("결제 완료 웹훅 처리: {}", data.get("paymentId").asText());
+        log.info("결제 완료 웹훅 처리: {}", webhookPaymentId(data));
+        applyWebhookTransition(data, Payment.PaymentStatus.APPROVED, payment -> {
+            String transactionId = webhookText(data, "transactionId");
+            if (transactionId != null) {
+                payment.setPortoneTransactionId(transactionId);
+            }
+        });
     }
 
     /**
      * 결제 실패 웹훅 처리
      */
     private void handlePaymentFailed(JsonNode data) {
-        // TODO: 결제 실패 처리 로직 구현
-        log.info("결제 실패 웹훅 처리: {}", data.get("paymentId").asText());
+        log.info("결제 실패 웹훅 처리: {}", webhookPaymentId(data));
+        applyWebhookTransition(data, Payment.PaymentStatus.FAILED, payment -> {
+            String failReason = webhookText(data, "failReason");
+            if (failReason != null) {
+                payment.setFailureMessage(failReason);
+            }
+        });
     }
 
     /**
      * 결제 취소 웹훅 처리
      */
     private void handlePaymentCancelled(JsonNode data) {
-        // TODO: 결제 취소 처리 로직 구현
-        log.info("결제 취소 웹훅 처리: {}", data.get("paymentId").asText());
+        log.info("결제 취소 웹훅 처리: {}", webhookPaymentId(data));
+        applyWebhookTransition(data, Payment.PaymentStatus.CANCELLED, null);
+    }
+
+    /**
+     * 결제 부분 취소 웹훅 처리
+     */
+    private void handlePaymentPartialCancelled(JsonNode data) {
+        log.info("결제 부분 취소 웹훅 처리: {}", webhookPaymentId(data));
+        applyWebhookTransition(data, Payment.PaymentStatus.PARTIAL_CANCELLED, null);
+    }
+
+    /**
+     * 웹훅 대상 결제에 상태 전이 적용
+     * 아직 저장되지 않은 결제(프론트 검증 API보다 웹훅이 먼저 도착한 경우)는 건너뛴다.
+     * 이미 종료된 결제에 대한 늦은 웹훅은 상태를 덮어쓰지 않는다.
+     */
+    private void applyWebhookTransition(JsonNode data, Payment.PaymentStatus target, Consumer<Payment> mutator) {
+        String paymentId = webhookPaymentId(data);
+        Optional<Payment> payment = paymentMapper.findPaymentById(paymentId)
+                .or(() -> paymentMapper.findPaymentByOrderId(paymentId));
+
+        if (payment.isEmpty()) {
+            log.warn("웹훅 대상 결제 정보 없음 - 결제ID: {}, 대상 상태: {}", paymentId, target);
+            return;
+        }
+
+        try {
+            paymentStateMachine.transition(payment.get(), target, mutator);
+        } catch (BusinessException e) {
+            if (!ErrorCode.PAYMENT_INVALID_STATUS_TRANSITION.getCode().equals(e.getErrorCode())) {
+                throw e;
+            }
+            log.warn("웹훅 상태 변경 무시 - 결제ID: {}, 현재 상태: {}, 대상 상태: {}",
+                    paymentId, payment.get().getStatus(), target);
+        }
+    }
+
+    /**
+     * 웹훅 결제 ID 추출 (V2 웹훅은 data 하위에 위치)
+     */
+    private String webhookPaymentId(JsonNode root) {
+        return webhookText(root, "paymentId");
+    }
+
+    private String webhookText(JsonNode root, String field) {
+        JsonNode node = root.has("data") ? root.get("data") : root;
+        return node.hasNonNull(field) ? node.get(field).asText() : null;
     }
 
     /**
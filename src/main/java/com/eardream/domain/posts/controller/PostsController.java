@@ -3,20 +3,31 @@ package com.eardream.domain.posts.controller;
 import com.eardream.domain.posts.dto.PostDto;
 import com.eardream.domain.posts.dto.PostImageDto;
 import com.eardream.domain.posts.dto.UpdatePostRequest;
+import com.eardream.domain.posts.service.PostImportService;
 import com.eardream.domain.posts.service.PostService;
+import com.eardream.global.auth.RequireFamilyMember;
 import com.eardream.global.common.ApiResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.MediaType;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 import com.eardream.global.util.FileUtils;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.ArrayList;
 
@@ -26,19 +37,31 @@ import java.util.ArrayList;
 @Tag(name = "Posts", description = "그룹 소식 API")
 public class PostsController {
 
+	// 가족 구성원 전용 데이터이므로 공유 캐시 금지, 매번 ETag 로 재검증
+	private static final CacheControl LIST_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
 	private final PostService postService;
+	private final PostImportService postImportService;
+	private final ObjectMapper objectMapper;
 
 	@Value("${file.upload.path}")
 	private String uploadPath;
 
 	@GetMapping("/familes/{id}/posts")
+	@RequireFamilyMember
 	@Operation(summary = "그룹 소식 목록", description = "가족 그룹의 소식 목록을 조회합니다.")
-	public ResponseEntity<ApiResponse<List<PostDto>>> getPosts(@PathVariable("id") Long familyId) {
+	public ResponseEntity<ApiResponse<List<PostDto>>> getPosts(@PathVariable("id") Long familyId, WebRequest request) {
+		// 목록이 바뀌지 않았으면 소식을 읽지 않고 304 응답
+		String etag = postService.getPostsVersion(familyId).toEtag("posts");
+		if (request.checkNotModified(etag)) {
+			return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(LIST_CACHE_CONTROL).build();
+		}
 		List<PostDto> posts = postService.getPostsByFamily(familyId);
-		return ResponseEntity.ok(ApiResponse.success(posts));
+		return ResponseEntity.ok().eTag(etag).cacheControl(LIST_CACHE_CONTROL).body(ApiResponse.success(posts));
 	}
 
 	@PostMapping(value = "/familes/{id}/posts", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+	@RequireFamilyMember
 	@Operation(summary = "소식 작성", description = "제목/내용과 여러 이미지로 소식을 작성합니다.")
 	public ResponseEntity<ApiResponse<PostDto>> createPost(
 			@PathVariable("id") Long familyId,
@@ -73,6 +96,26 @@ public class PostsController {
 		return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.success(created, "소식이 생성되었습니다"));
 	}
 
+	@PostMapping(value = "/familes/{id}/posts/import",
+			consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE},
+			produces = MediaType.APPLICATION_NDJSON_VALUE)
+	@RequireFamilyMember(leaderOnly = true)
+	@Operation(summary = "소식 일괄 가져오기", description = "JSON 배열 또는 NDJSON 매니페스트의 소식과 이미지를 배치로 저장하고, 배치마다 진행 상황을 한 줄씩 응답합니다.")
+	public void importPosts(@PathVariable("id") Long familyId, HttpServletRequest request, HttpServletResponse response) throws IOException {
+		response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+		response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+		OutputStream output = response.getOutputStream();
+		postImportService.importPosts(familyId, request.getInputStream(), progress -> {
+			try {
+				output.write(objectMapper.writeValueAsBytes(progress));
+				output.write('\n');
+				output.flush();
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		});
+	}
+
 	@GetMapping("/posts/{id}")
 	@Operation(summary = "소식 상세", description = "소식 ID로 상세 정보를 조회합니다.")
 	public ResponseEntity<ApiResponse<PostDto>> getPost(@PathVariable("id") Long id) {
@@ -0,0 +1,19 @@
+package com.eardream.domain.posts.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 소식 작성자 요약 (피드 렌더링용)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostAuthorDto {
+	private Long userId;
+	private String name;
+	private String profileImageUrl;
+}
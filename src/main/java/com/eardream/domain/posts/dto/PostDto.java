@@ -17,6 +17,7 @@ public class PostDto {
 	private Long id;
 	private Long familyId;
 	private Long userId;
+	private PostAuthorDto author;
 	private String title;
 	private String content;
 	private String postMonth;
@@ -0,0 +1,25 @@
+package com.eardream.domain.posts.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 소식 일괄 가져오기 진행 상황 (배치 커밋마다 누적 값으로 전달)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostImportProgressDto {
+	private long processed;       // 읽은 항목 수
+	private long imported;        // 커밋된 소식 수
+	private long importedImages;  // 커밋된 사진 수
+	private long skipped;         // 검증 실패로 건너뛴 항목 수
+	private List<String> errors;  // 건너뛴 사유 (앞쪽 일부만)
+	private boolean done;
+	private String failure;       // 중단 사유 (이미 커밋된 배치는 유지)
+}
@@ -0,0 +1,26 @@
+package com.eardream.domain.posts.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 소식 일괄 가져오기 항목 (JSON 배열 원소 또는 NDJSON 한 줄)
+ * createdAt 이 없으면 가져온 시각, postMonth 가 없으면 createdAt 의 월을 사용
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostImportRecord {
+	private Long userId;
+	private String title;
+	private String content;
+	private String postMonth; // YYYY-MM
+	private LocalDateTime createdAt;
+	private List<PostImageDto> images;
+}
@@ -21,6 +21,10 @@ public class Post {
 	private String postMonth; // YYYY-MM
 	private LocalDateTime createdAt;
 	private LocalDateTime updatedAt;
+
+	// 조회 시 users 조인으로 채워지는 작성자 요약 (저장 대상 아님)
+	private String authorName;
+	private String authorProfileImageUrl;
 }
 
 
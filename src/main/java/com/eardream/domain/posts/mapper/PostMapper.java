@@ -2,6 +2,7 @@ package com.eardream.domain.posts.mapper;
 
 import com.eardream.domain.posts.entity.Post;
 import com.eardream.domain.posts.entity.PostImage;
+import com.eardream.global.common.ListVersion;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
@@ -15,12 +16,28 @@ public interface PostMapper {
 
 	int insertPostImage(PostImage image);
 
+	List<Long> allocatePostIds(@Param("count") int count);
+
+	int insertImportedPost(Post post);
+
+	int insertImportedPostImage(PostImage image);
+
 	Optional<Post> findPostById(@Param("id") Long id);
 
 	List<Post> findPostsByFamilyId(@Param("familyId") Long familyId);
 
+	ListVersion findListVersionByFamilyId(@Param("familyId") Long familyId);
+
+	List<Post> findPostsByFamilyIdAndMonth(@Param("familyId") Long familyId, @Param("postMonth") String postMonth);
+
 	List<PostImage> findImagesByPostId(@Param("postId") Long postId);
 
+	List<Post> findPostsByFamilyIdAfterId(@Param("familyId") Long familyId, @Param("afterId") Long afterId,
+	                                      @Param("limit") int limit);
+
+	List<PostImage> findImagesByFamilyIdAfter(@Param("familyId") Long familyId, @Param("afterPostId") Long afterPostId,
+	                                          @Param("afterId") Long afterId, @Param("limit") int limit);
+
 	int updatePost(@Param("id") Long id, @Param("title") String title, @Param("content") String content);
 
 	int deletePost(@Param("id") Long id);
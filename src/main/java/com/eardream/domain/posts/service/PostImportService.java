@@ -0,0 +1,240 @@
+package com.eardream.domain.posts.service;
+
+import com.eardream.domain.families.service.FamilyMembershipIndex;
+import com.eardream.domain.posts.dto.PostImageDto;
+import com.eardream.domain.posts.dto.PostImportProgressDto;
+import com.eardream.domain.posts.dto.PostImportRecord;
+import com.eardream.domain.posts.entity.Post;
+import com.eardream.domain.posts.entity.PostImage;
+import com.eardream.domain.posts.mapper.PostMapper;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 소식 일괄 가져오기
+ * JSON 배열 또는 NDJSON 매니페스트를 한 항목씩 읽어 batchSize 단위 트랜잭션으로 소식과 사진을 배치 INSERT 한다.
+ * 소식 ID 는 시퀀스에서 배치마다 한 번에 받아 사진 행에 바로 채우므로 행 단위 왕복이 없다.
+ * 배치가 커밋될 때마다 누적 진행 상황을 알리고, 중간에 중단되어도 이미 커밋된 배치는 유지된다.
+ */
+@Slf4j
+@Service
+public class PostImportService {
+
+	private static final DateTimeFormatter MONTH_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM");
+	// 컬럼 길이 (VARCHAR2 BYTE 기준이므로 UTF-8 바이트 수로 비교, 한글은 글자당 3바이트)
+	private static final int TITLE_MAX_BYTES = 200;
+	private static final int CONTENT_MAX_BYTES = 500;
+	private static final int IMAGE_URL_MAX_BYTES = 500;
+	private static final int MAX_IMAGES = 4;
+
+	private final SqlSessionTemplate batchSession;
+	private final TransactionTemplate transactionTemplate;
+	private final FamilyMembershipIndex familyMembershipIndex;
+	private final PrintImagePreprocessor printImagePreprocessor;
+	private final ObjectMapper objectMapper;
+	private final int batchSize;
+	private final int maxErrors;
+
+	@Autowired
+	public PostImportService(SqlSessionFactory sqlSessionFactory,
+			PlatformTransactionManager transactionManager,
+			FamilyMembershipIndex familyMembershipIndex,
+			PrintImagePreprocessor printImagePreprocessor,
+			ObjectMapper objectMapper,
+			@Value("${posts.import.batch-size:500}") int batchSize,
+			@Value("${posts.import.max-errors:100}") int maxErrors) {
+		this(new SqlSessionTemplate(sqlSessionFactory, ExecutorType.BATCH), new TransactionTemplate(transactionManager),
+				familyMembershipIndex, printImagePreprocessor, objectMapper, batchSize, maxErrors);
+	}
+
+	PostImportService(SqlSessionTemplate batchSession, TransactionTemplate transactionTemplate,
+			FamilyMembershipIndex familyMembershipIndex, PrintImagePreprocessor printImagePreprocessor,
+			ObjectMapper objectMapper, int batchSize, int maxErrors) {
+		this.batchSession = batchSession;
+		this.transactionTemplate = transactionTemplate;
+		this.familyMembershipIndex = familyMembershipIndex;
+		this.printImagePreprocessor = printImagePreprocessor;
+		this.objectMapper = objectMapper;
+		this.batchSize = Math.max(1, batchSize);
+		this.maxErrors = maxErrors;
+	}
+
+	/**
+	 * 매니페스트 가져오기
+	 *
+	 * @param progress 배치 커밋마다, 그리고 마지막에 한 번(done=true) 호출
+	 * @return 최종 진행 상황
+	 */
+	public PostImportProgressDto importPosts(Long familyId, InputStream manifest, Consumer<PostImportProgressDto> progress) {
+		PostImportProgressDto state = PostImportProgressDto.builder().errors(new ArrayList<>()).build();
+		List<PostImportRecord> pending = new ArrayList<>(batchSize);
+
+		try (MappingIterator<PostImportRecord> records = objectMapper.readerFor(PostImportRecord.class).readValues(manifest)) {
+			while (records.hasNextValue()) {
+				PostImportRecord record = records.nextValue();
+				state.setProcessed(state.getProcessed() + 1);
+				String error = validate(familyId, record);
+				if (error != null) {
+					skip(state, state.getProcessed() + "번째 항목: " + error);
+					continue;
+				}
+				pending.add(record);
+				if (pending.size() >= batchSize) {
+					commitBatch(familyId, pending, state);
+					progress.accept(state);
+				}
+			}
+			if (!pending.isEmpty()) {
+				commitBatch(familyId, pending, state);
+			}
+		} catch (IOException e) {
+			// 읽을 수 없는 항목 전까지의 유효 항목은 커밋하고 중단
+			log.warn("소식 일괄 가져오기 중단 - familyId: {}, 읽은 항목: {}", familyId, state.getProcessed(), e);
+			state.setFailure((state.getProcessed() + 1) + "번째 항목을 읽을 수 없습니다: " + e.getMessage());
+			commitRemaining(familyId, pending, state);
+		} catch (RuntimeException e) {
+			log.warn("소식 일괄 가져오기 배치 저장 실패 - familyId: {}, 읽은 항목: {}", familyId, state.getProcessed(), e);
+			state.setFailure("배치를 저장하지 못했습니다: " + e.getMessage());
+		}
+		state.setDone(true);
+		progress.accept(state);
+
+		log.info("소식 일괄 가져오기 - familyId: {}, 읽음: {}, 소식: {}, 사진: {}, 건너뜀: {}",
+				familyId, state.getProcessed(), state.getImported(), state.getImportedImages(), state.getSkipped());
+		return state;
+	}
+
+	/**
+	 * 한 배치를 한 트랜잭션으로 저장 (트랜잭션 안에서는 BATCH 세션만 사용)
+	 * 배치 실행기는 같은 SQL 이 연속될 때만 묶으므로 소식을 모두 넣은 뒤 사진을 넣는다.
+	 * 성공/실패와 관계없이 records 는 비운다.
+	 */
+	private void commitBatch(Long familyId, List<PostImportRecord> records, PostImportProgressDto state) {
+		try {
+			int images = transactionTemplate.execute(status -> {
+				PostMapper batchMapper = batchSession.getMapper(PostMapper.class);
+				List<Long> ids = batchMapper.allocatePostIds(records.size());
+				LocalDateTime now = LocalDateTime.now();
+				List<PostImage> postImages = new ArrayList<>();
+				List<PostImageDto> submitted = new ArrayList<>();
+
+				for (int i = 0; i < records.size(); i++) {
+					PostImportRecord record = records.get(i);
+					LocalDateTime createdAt = record.getCreatedAt() != null ? record.getCreatedAt() : now;
+					Post post = Post.builder()
+							.id(ids.get(i))
+							.familyId(familyId)
+							.userId(record.getUserId())
+							.title(record.getTitle())
+							.content(record.getContent())
+							.postMonth(record.getPostMonth() != null ? record.getPostMonth() : createdAt.format(MONTH_FORMAT))
+							.createdAt(createdAt)
+							.updatedAt(createdAt)
+							.build();
+					batchMapper.insertImportedPost(post);
+
+					List<PostImageDto> recordImages = record.getImages() != null ? record.getImages() : List.of();
+					for (int order = 0; order < recordImages.size(); order++) {
+						PostImageDto imageDto = recordImages.get(order);
+						PostImage image = new PostImage();
+						image.setPostId(post.getId());
+						image.setImageUrl(imageDto.getImageUrl());
+						image.setImageOrder(imageDto.getImageOrder() != null ? imageDto.getImageOrder() : order + 1);
+						image.setCreatedAt(createdAt);
+						postImages.add(image);
+						submitted.add(imageDto);
+					}
+				}
+				for (PostImage image : postImages) {
+					batchMapper.insertImportedPostImage(image);
+				}
+				batchSession.flushStatements();
+				printImagePreprocessor.submitAfterCommit(submitted);
+				return postImages.size();
+			});
+
+			state.setImported(state.getImported() + records.size());
+			state.setImportedImages(state.getImportedImages() + images);
+		} finally {
+			records.clear();
+		}
+	}
+
+	private void commitRemaining(Long familyId, List<PostImportRecord> pending, PostImportProgressDto state) {
+		if (pending.isEmpty()) {
+			return;
+		}
+		try {
+			commitBatch(familyId, pending, state);
+		} catch (RuntimeException e) {
+			log.warn("소식 일괄 가져오기 배치 저장 실패 - familyId: {}", familyId, e);
+			state.setFailure(state.getFailure() + " (이전 항목 저장도 실패: " + e.getMessage() + ")");
+		}
+	}
+
+	/**
+	 * 항목 검증 (문제가 없으면 null)
+	 */
+	private String validate(Long familyId, PostImportRecord record) {
+		if (record == null) {
+			return "빈 항목입니다";
+		}
+		if (record.getUserId() == null || !familyMembershipIndex.isMember(record.getUserId(), familyId)) {
+			return "가족 구성원이 아닌 작성자입니다: " + record.getUserId();
+		}
+		if (record.getTitle() == null || record.getTitle().isBlank() || byteLength(record.getTitle()) > TITLE_MAX_BYTES) {
+			return "제목은 1~" + TITLE_MAX_BYTES + "바이트(UTF-8)여야 합니다";
+		}
+		if (record.getContent() != null && byteLength(record.getContent()) > CONTENT_MAX_BYTES) {
+			return "내용은 " + CONTENT_MAX_BYTES + "바이트(UTF-8) 이하여야 합니다";
+		}
+		if (record.getPostMonth() != null && !record.getPostMonth().matches("\\d{4}-\\d{2}")) {
+			return "postMonth 형식(YYYY-MM)이 올바르지 않습니다";
+		}
+		List<PostImageDto> images = record.getImages() != null ? record.getImages() : List.of();
+		if (images.size() > MAX_IMAGES) {
+			return "사진은 " + MAX_IMAGES + "장까지 가능합니다";
+		}
+		for (PostImageDto image : images) {
+			if (image == null || image.getImageUrl() == null || image.getImageUrl().isBlank()) {
+				return "이미지 URL 이 비어 있습니다";
+			}
+			if (byteLength(image.getImageUrl()) > IMAGE_URL_MAX_BYTES) {
+				return "이미지 URL 은 " + IMAGE_URL_MAX_BYTES + "바이트 이하여야 합니다";
+			}
+			if (image.getImageOrder() != null && (image.getImageOrder() < 1 || image.getImageOrder() > MAX_IMAGES)) {
+				return "사진 순서는 1~" + MAX_IMAGES + " 이어야 합니다";
+			}
+		}
+		return null;
+	}
+
+	private static int byteLength(String value) {
+		return value.getBytes(StandardCharsets.UTF_8).length;
+	}
+
+	private void skip(PostImportProgressDto state, String error) {
+		state.setSkipped(state.getSkipped() + 1);
+		if (state.getErrors().size() < maxErrors) {
+			state.getErrors().add(error);
+		}
+	}
+}
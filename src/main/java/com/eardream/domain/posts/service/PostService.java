@@ -1,10 +1,12 @@
 package com.eardream.domain.posts.service;
 
+import com.eardream.domain.posts.dto.PostAuthorDto;
 import com.eardream.domain.posts.dto.PostDto;
 import com.eardream.domain.posts.dto.PostImageDto;
 import com.eardream.domain.posts.entity.Post;
 import com.eardream.domain.posts.entity.PostImage;
 import com.eardream.domain.posts.mapper.PostMapper;
+import com.eardream.global.common.ListVersion;
 import com.eardream.global.util.DateUtils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -20,6 +22,7 @@ import java.util.stream.Collectors;
 public class PostService {
 
 	private final PostMapper postMapper;
+	private final PrintImagePreprocessor printImagePreprocessor;
 
 	@Transactional
 	public PostDto createPost(Long familyId, Long userId, String title, String content, List<PostImageDto> images) {
@@ -46,6 +49,7 @@ public class PostService {
 				img.setCreatedAt(LocalDateTime.now());
 				postMapper.insertPostImage(img);
 			}
+			printImagePreprocessor.submitAfterCommit(images);
 		}
 
 		return getPost(post.getId());
@@ -56,6 +60,19 @@ public class PostService {
 		return posts.stream().map(this::toDtoWithImages).collect(Collectors.toList());
 	}
 
+	/**
+	 * 가족 소식 목록 버전 (조건부 GET 용, 소식을 읽지 않는 집계 한 번)
+	 */
+	public ListVersion getPostsVersion(Long familyId) {
+		ListVersion version = postMapper.findListVersionByFamilyId(familyId);
+		return version != null ? version : new ListVersion(0L, null);
+	}
+
+	public List<PostDto> getPostsByFamilyAndMonth(Long familyId, String postMonth) {
+		List<Post> posts = postMapper.findPostsByFamilyIdAndMonth(familyId, postMonth);
+		return posts.stream().map(this::toDtoWithImages).collect(Collectors.toList());
+	}
+
 	public PostDto getPost(Long id) {
 		Post post = postMapper.findPostById(id)
 				.orElseThrow(() -> new IllegalArgumentException("소식을 찾을 수 없습니다: " + id));
@@ -88,6 +105,7 @@ public class PostService {
 				img.setCreatedAt(java.time.LocalDateTime.now());
 				postMapper.insertPostImage(img);
 			}
+			printImagePreprocessor.submitAfterCommit(images);
 		}
 		return getPost(id);
 	}
@@ -112,6 +130,11 @@ public class PostService {
 				.id(post.getId())
 				.familyId(post.getFamilyId())
 				.userId(post.getUserId())
+				.author(PostAuthorDto.builder()
+						.userId(post.getUserId())
+						.name(post.getAuthorName())
+						.profileImageUrl(post.getAuthorProfileImageUrl())
+						.build())
 				.title(post.getTitle())
 				.content(post.getContent())
 				.postMonth(post.getPostMonth())
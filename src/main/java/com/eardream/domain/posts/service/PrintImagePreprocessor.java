@@ -0,0 +1,137 @@
+package com.eardream.domain.posts.service;
+
+import com.eardream.domain.posts.dto.PostImageDto;
+import com.eardream.global.util.ImageUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+
+/**
+ * 소식 사진의 인쇄용 파생 이미지 생성
+ * 소식이 저장되면(커밋 후) 전용 풀에서 원본을 서브샘플링 디코딩하고 EXIF 방향을 바로잡아
+ * 긴 변 maxImagePx, dpi 가 기록된 JPEG 을 /uploads/print/ 아래 같은 경로에 만든다.
+ * 소식지 편집은 이 작은 파생 이미지만 읽고, 없거나 오래된 경우에만 원본을 직접 변환한다.
+ */
+@Slf4j
+@Component
+public class PrintImagePreprocessor {
+
+	private static final String PRINT_SUB_DIR = "print";
+	private static final String UPLOAD_URL_PREFIX = "/uploads/";
+
+	private final TaskExecutor executor;
+	private final Path uploadBase;
+	private final int maxImagePx;
+	private final int dpi;
+	private final float jpegQuality;
+
+	public PrintImagePreprocessor(@Qualifier("imagePreprocessExecutor") TaskExecutor executor,
+			@Value("${file.upload.path}") String uploadPath,
+			@Value("${newsletter.pdf.max-image-px:1600}") int maxImagePx,
+			@Value("${posts.image-preprocess.dpi:300}") int dpi,
+			@Value("${posts.image-preprocess.jpeg-quality:0.9}") float jpegQuality) {
+		this.executor = executor;
+		this.uploadBase = Paths.get(uploadPath).toAbsolutePath().normalize();
+		this.maxImagePx = maxImagePx;
+		this.dpi = dpi;
+		this.jpegQuality = jpegQuality;
+	}
+
+	/**
+	 * 원본 이미지의 인쇄용 파생 이미지 경로 ({upload}/print/{원본 상대 경로}.jpg)
+	 */
+	public static Path derivativeOf(Path uploadBase, Path original) {
+		Path relative = uploadBase.relativize(original);
+		return uploadBase.resolve(PRINT_SUB_DIR).resolve(relative + ".jpg");
+	}
+
+	/**
+	 * 파생 이미지가 원본보다 새로우면 사용 가능
+	 */
+	public static boolean isFresh(Path derivative, Path original) throws IOException {
+		return Files.isRegularFile(derivative)
+				&& Files.getLastModifiedTime(derivative).compareTo(Files.getLastModifiedTime(original)) >= 0;
+	}
+
+	/**
+	 * 트랜잭션 커밋 후 전처리 예약 (롤백된 소식의 사진은 처리하지 않음)
+	 */
+	public void submitAfterCommit(List<PostImageDto> images) {
+		if (images == null || images.isEmpty()) {
+			return;
+		}
+		List<String> imageUrls = images.stream().map(PostImageDto::getImageUrl).toList();
+		Runnable submit = () -> imageUrls.forEach(this::submit);
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					submit.run();
+				}
+			});
+		} else {
+			submit.run();
+		}
+	}
+
+	private void submit(String imageUrl) {
+		try {
+			executor.execute(() -> {
+				try {
+					preprocess(imageUrl);
+				} catch (Exception e) {
+					log.warn("인쇄용 이미지 생성 실패 - url: {}", imageUrl, e);
+				}
+			});
+		} catch (TaskRejectedException e) {
+			log.warn("인쇄용 이미지 전처리 대기열이 가득 차 건너뜁니다 - url: {}", imageUrl);
+		}
+	}
+
+	/**
+	 * 파생 이미지 생성 (이미 최신이면 건너뜀)
+	 *
+	 * @return 생성되었거나 이미 있는 파생 이미지 경로, 변환할 수 없으면 null
+	 */
+	Path preprocess(String imageUrl) throws IOException {
+		if (imageUrl == null || !imageUrl.startsWith(UPLOAD_URL_PREFIX)) {
+			return null;
+		}
+		Path original = uploadBase.resolve(imageUrl.substring(UPLOAD_URL_PREFIX.length())).normalize();
+		if (!original.startsWith(uploadBase) || !Files.isRegularFile(original)) {
+			return null;
+		}
+		Path derivative = derivativeOf(uploadBase, original);
+		if (isFresh(derivative, original)) {
+			return derivative;
+		}
+
+		BufferedImage image = ImageUtils.readForPrint(original, maxImagePx);
+		if (image == null) {
+			log.warn("인쇄용 이미지로 변환할 수 없는 형식입니다 - url: {}", imageUrl);
+			return null;
+		}
+		Files.createDirectories(derivative.getParent());
+		Path temp = Files.createTempFile(derivative.getParent(), "print-", ".tmp");
+		try {
+			ImageUtils.writeJpeg(image, temp, jpegQuality, dpi);
+			Files.move(temp, derivative, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} finally {
+			Files.deleteIfExists(temp);
+		}
+		return derivative;
+	}
+}
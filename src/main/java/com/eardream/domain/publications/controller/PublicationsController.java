@@ -0,0 +1,76 @@
+package com.eardream.domain.publications.controller;
+
+import com.eardream.domain.publications.dto.CompileNewsletterRequest;
+import com.eardream.domain.publications.dto.PublicationBulkResultDto;
+import com.eardream.domain.publications.dto.PublicationDto;
+import com.eardream.domain.publications.dto.PublicationPageDto;
+import com.eardream.domain.publications.dto.PublicationStatusUpdateRequest;
+import com.eardream.domain.publications.dto.TrackingNumberImportRequest;
+import com.eardream.domain.publications.entity.Publication;
+import com.eardream.domain.publications.service.NewsletterCompiler;
+import com.eardream.domain.publications.service.PublicationService;
+import com.eardream.global.common.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/publications")
+@RequiredArgsConstructor
+@Tag(name = "Publications", description = "월간 소식지 발행 API")
+public class PublicationsController {
+
+	private final NewsletterCompiler newsletterCompiler;
+	private final PublicationService publicationService;
+
+	@GetMapping
+	@Operation(summary = "월별 발행 목록", description = "발행 월(YYYY-MM) 기준 목록을 id 순으로 조회합니다. 다음 페이지는 응답의 nextCursor 를 afterId 로 전달합니다.")
+	public ResponseEntity<ApiResponse<PublicationPageDto>> list(
+			@RequestParam("month") String publicationMonth,
+			@RequestParam(value = "status", required = false) Publication.PublicationStatus status,
+			@RequestParam(value = "afterId", required = false) Long afterId,
+			@RequestParam(value = "size", required = false) Integer size
+	) {
+		var res = publicationService.getPublications(publicationMonth, status, afterId, size);
+		return ResponseEntity.ok(ApiResponse.success(res));
+	}
+
+	@GetMapping("/{id}")
+	@Operation(summary = "발행 상세", description = "소식지 발행/배송 정보를 조회합니다.")
+	public ResponseEntity<ApiResponse<PublicationDto>> get(@PathVariable("id") Long id) {
+		return ResponseEntity.ok(ApiResponse.success(publicationService.getPublication(id)));
+	}
+
+	@PatchMapping("/status")
+	@Operation(summary = "발행 상태 일괄 변경", description = "여러 발행의 상태를 SHIPPED 또는 DELIVERED 로 변경합니다. 전이할 수 없는 상태의 발행은 건너뜁니다.")
+	public ResponseEntity<ApiResponse<PublicationBulkResultDto>> updateStatuses(
+			@Valid @RequestBody PublicationStatusUpdateRequest request) {
+		var res = publicationService.updateStatuses(request);
+		return ResponseEntity.ok(ApiResponse.success(res, "처리되었습니다"));
+	}
+
+	@PostMapping("/tracking-numbers")
+	@Operation(summary = "운송장 일괄 등록", description = "발송 대기(READY) 또는 배송 중(SHIPPED)인 발행에 운송장을 등록하고 SHIPPED 로 변경합니다.")
+	public ResponseEntity<ApiResponse<PublicationBulkResultDto>> importTrackingNumbers(
+			@Valid @RequestBody TrackingNumberImportRequest request) {
+		var res = publicationService.importTrackingNumbers(request);
+		return ResponseEntity.ok(ApiResponse.success(res, "처리되었습니다"));
+	}
+
+	@PostMapping("/compile")
+	@Operation(summary = "소식지 편집 실행", description = "해당 월 소식지 PDF 편집을 시작합니다. 진행 상태는 발행 목록에서 확인합니다.")
+	public ResponseEntity<ApiResponse<Void>> compile(@Valid @RequestBody CompileNewsletterRequest request) {
+		newsletterCompiler.compileAsync(request.getFamilyIds(), request.getPublicationMonth())
+				.exceptionally(e -> {
+					log.error("소식지 편집 실행 실패 - month: {}", request.getPublicationMonth(), e);
+					return null;
+				});
+		return ResponseEntity.status(HttpStatus.ACCEPTED).body(ApiResponse.success(null, "소식지 편집을 시작했습니다"));
+	}
+}
@@ -0,0 +1,22 @@
+package com.eardream.domain.publications.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 소식지 일괄 편집 결과
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CompilationResultDto {
+	private String publicationMonth;
+	private int requested;
+	private int succeeded;
+	private int failed;
+	private int skipped;   // 이미 발송된 소식지
+	private long elapsedMs;
+}
@@ -0,0 +1,23 @@
+package com.eardream.domain.publications.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CompileNewsletterRequest {
+
+	@NotBlank
+	@Pattern(regexp = "\\d{4}-\\d{2}")
+	private String publicationMonth; // YYYY-MM
+
+	private List<Long> familyIds; // 비어 있으면 해당 월에 소식이 있는 모든 활성 가족
+}
@@ -0,0 +1,24 @@
+package com.eardream.domain.publications.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 발행 일괄 처리 결과
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PublicationBulkResultDto {
+	private int requested;
+	private int updated;
+	// 상태 조건이 맞지 않아 반영되지 않은 발행 ID (운송장 등록에서만 채워짐)
+	@Builder.Default
+	private List<Long> skippedIds = new ArrayList<>();
+}
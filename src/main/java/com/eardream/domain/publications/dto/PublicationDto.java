@@ -0,0 +1,28 @@
+package com.eardream.domain.publications.dto;
+
+import com.eardream.domain.publications.entity.Publication;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PublicationDto {
+	private Long id;
+	private Long familyId;
+	private String publicationMonth;
+	private String pdfUrl;
+	private Publication.PublicationStatus status;
+	private String carrierId;
+	private String trackingNumber;
+	@JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+	private LocalDateTime createdAt;
+	@JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+	private LocalDateTime deliveredAt;
+}
@@ -0,0 +1,21 @@
+package com.eardream.domain.publications.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 발행 목록 키셋 페이지
+ * 다음 페이지는 nextCursor 를 afterId 로 넘겨 조회한다 (마지막 페이지면 null)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PublicationPageDto {
+	private List<PublicationDto> items;
+	private Long nextCursor;
+}
@@ -0,0 +1,31 @@
+package com.eardream.domain.publications.dto;
+
+import com.eardream.domain.publications.entity.Publication;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 발행 상태 일괄 변경 요청
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PublicationStatusUpdateRequest {
+
+	public static final int MAX_BATCH_SIZE = 5000;
+
+	@NotEmpty
+	@Size(max = MAX_BATCH_SIZE)
+	private List<Long> publicationIds;
+
+	@NotNull
+	private Publication.PublicationStatus status; // SHIPPED 또는 DELIVERED
+}
@@ -0,0 +1,30 @@
+package com.eardream.domain.publications.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 운송장 등록 1건
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrackingNumberEntry {
+
+	@NotNull
+	private Long publicationId;
+
+	@NotBlank
+	@Size(max = 30)
+	private String carrierId;
+
+	@NotBlank
+	@Size(max = 30)
+	private String trackingNumber;
+}
@@ -0,0 +1,28 @@
+package com.eardream.domain.publications.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 운송장 일괄 등록 요청
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrackingNumberImportRequest {
+
+	public static final int MAX_BATCH_SIZE = 5000;
+
+	@Valid
+	@NotEmpty
+	@Size(max = MAX_BATCH_SIZE)
+	private List<TrackingNumberEntry> entries;
+}
@@ -0,0 +1,60 @@
+package com.eardream.domain.publications.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class Publication {
+
+	private Long id;
+	private Long familyId;
+	private String publicationMonth; // YYYY-MM
+	private String pdfUrl;
+	private PublicationStatus status;
+	private String carrierId;
+	private String trackingNumber;
+	private LocalDateTime createdAt;
+	private LocalDateTime deliveredAt;
+
+	/**
+	 * 발행 상태
+	 */
+	public enum PublicationStatus {
+		PREPARING,  // 소식지 편집(PDF 생성) 중
+		READY,      // PDF 생성 완료, 인쇄/발송 대기
+		FAILED,     // PDF 생성 실패 (재실행 대상)
+		SHIPPED,    // 운송장 등록, 배송 중
+		DELIVERED;  // 배송 완료
+
+		/**
+		 * 현재 상태에서 대상 상태로 전이 가능한지 여부
+		 */
+		public boolean canTransitionTo(PublicationStatus target) {
+			return switch (this) {
+				case PREPARING -> target == READY || target == FAILED;
+				case READY -> target == PREPARING || target == SHIPPED;
+				case FAILED -> target == PREPARING;
+				case SHIPPED -> target == DELIVERED;
+				case DELIVERED -> false;
+			};
+		}
+
+		/**
+		 * 대상 상태로 전이할 수 있는 원래 상태 목록 (일괄 변경 조건절용)
+		 */
+		public static List<PublicationStatus> sourcesOf(PublicationStatus target) {
+			return Arrays.stream(values())
+					.filter(status -> status.canTransitionTo(target))
+					.toList();
+		}
+	}
+}
@@ -0,0 +1,49 @@
+package com.eardream.domain.publications.mapper;
+
+import com.eardream.domain.publications.dto.TrackingNumberEntry;
+import com.eardream.domain.publications.entity.Publication;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+@Mapper
+public interface PublicationMapper {
+
+	Optional<Publication> findById(@Param("id") Long id);
+
+	Optional<Publication> findByFamilyIdAndMonth(@Param("familyId") Long familyId, @Param("publicationMonth") String publicationMonth);
+
+	List<Long> findCompileTargetFamilyIds(@Param("publicationMonth") String publicationMonth);
+
+	List<Long> findDueFamilyIds(@Param("monthlyDeadline") int monthlyDeadline,
+	                            @Param("publicationMonth") String publicationMonth,
+	                            @Param("afterId") long afterId,
+	                            @Param("limit") int limit);
+
+	int markPreparing(@Param("familyId") Long familyId, @Param("publicationMonth") String publicationMonth,
+	                  @Param("staleMinutes") long staleMinutes);
+
+	int markReady(@Param("familyId") Long familyId, @Param("publicationMonth") String publicationMonth, @Param("pdfUrl") String pdfUrl);
+
+	int markFailed(@Param("familyId") Long familyId, @Param("publicationMonth") String publicationMonth);
+
+	List<Publication> findByMonthAfterId(@Param("publicationMonth") String publicationMonth,
+	                                     @Param("status") Publication.PublicationStatus status,
+	                                     @Param("afterId") long afterId,
+	                                     @Param("limit") int limit);
+
+	int updateStatusByIds(@Param("ids") List<Long> ids,
+	                      @Param("sources") List<Publication.PublicationStatus> sources,
+	                      @Param("target") Publication.PublicationStatus target);
+
+	List<Publication> findShipmentsDueForTracking(@Param("limit") int limit);
+
+	int rescheduleTracking(@Param("ids") List<Long> ids,
+	                       @Param("baseIntervalSeconds") long baseIntervalSeconds,
+	                       @Param("maxIntervalSeconds") long maxIntervalSeconds);
+
+	// BATCH 실행기 전용 (행별 반영 건수는 flushStatements 결과로 확인)
+	int updateTrackingNumber(TrackingNumberEntry entry);
+}
@@ -0,0 +1,62 @@
+package com.eardream.domain.publications.service;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 택배사별 요청 제한 (토큰 버킷)
+ * 토큰이 없으면 다음 토큰이 생길 때까지 기다려 초당 허용량에 맞춰 요청 간격을 벌린다.
+ * 기한 안에 토큰을 얻을 수 없으면 기다리지 않고 false 를 돌려주며, 남은 운송장은 다음 주기에 조회한다.
+ */
+class CarrierRateLimiter {
+
+	@FunctionalInterface
+	interface Sleeper {
+		void sleep(long nanos) throws InterruptedException;
+	}
+
+	private final double permitsPerNano;
+	private final double capacity;
+	private final LongSupplier nanoClock;
+	private final Sleeper sleeper;
+	private double tokens;
+	private long lastRefill;
+
+	CarrierRateLimiter(double requestsPerSecond, LongSupplier nanoClock, Sleeper sleeper) {
+		this.permitsPerNano = requestsPerSecond / TimeUnit.SECONDS.toNanos(1);
+		// 순간 허용량은 최소 1건, 초당 허용량만큼 몰아서 보낼 수 있음
+		this.capacity = Math.max(1.0, requestsPerSecond);
+		this.nanoClock = nanoClock;
+		this.sleeper = sleeper;
+		this.tokens = capacity;
+		this.lastRefill = nanoClock.getAsLong();
+	}
+
+	/**
+	 * 토큰 1개 획득 (필요하면 대기)
+	 *
+	 * @param deadlineNanos nanoClock 기준 대기 기한
+	 * @return 기한 안에 토큰을 얻을 수 없으면 false (대기하지 않음)
+	 */
+	boolean acquire(long deadlineNanos) throws InterruptedException {
+		long waitNanos;
+		synchronized (this) {
+			long now = nanoClock.getAsLong();
+			tokens = Math.min(capacity, tokens + (now - lastRefill) * permitsPerNano);
+			lastRefill = now;
+			if (tokens < 1.0 && permitsPerNano <= 0) {
+				return false;
+			}
+			waitNanos = tokens >= 1.0 ? 0 : (long) Math.ceil((1.0 - tokens) / permitsPerNano);
+			if (waitNanos > deadlineNanos - now) {
+				return false;
+			}
+			// 대기할 토큰을 미리 차감해 두어 음수 잔량이 다음 요청의 대기 시간에 반영되도록 함
+			tokens -= 1.0;
+		}
+		if (waitNanos > 0) {
+			sleeper.sleep(waitNanos);
+		}
+		return true;
+	}
+}
@@ -0,0 +1,33 @@
+package com.eardream.domain.publications.service;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 택배사 배송 조회 클라이언트
+ * 택배사별 구현을 빈으로 등록하면 배송 조회 폴러가 carrierId 로 찾아 사용한다.
+ */
+public interface CarrierTrackingClient {
+
+	/**
+	 * publications.carrier_id 와 같은 택배사 ID
+	 */
+	String carrierId();
+
+	/**
+	 * 한 번의 조회 요청에 담을 수 있는 최대 운송장 수
+	 */
+	int maxBatchSize();
+
+	/**
+	 * 초당 허용 요청 수 (택배사 API 제한)
+	 */
+	double requestsPerSecond();
+
+	/**
+	 * 운송장 일괄 조회
+	 *
+	 * @return 주어진 운송장 중 배송 완료된 번호
+	 */
+	Set<String> findDelivered(List<String> trackingNumbers);
+}
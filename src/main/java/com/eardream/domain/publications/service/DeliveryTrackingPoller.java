@@ -0,0 +1,162 @@
+package com.eardream.domain.publications.service;
+
+import com.eardream.domain.publications.entity.Publication;
+import com.eardream.domain.publications.entity.Publication.PublicationStatus;
+import com.eardream.domain.publications.mapper.PublicationMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * 배송 조회 폴러
+ * 조회 예정 시각이 된 배송 중(SHIPPED) 발행을 택배사별로 묶어 택배사가 허용하는 최대 건수 단위로 조회하고,
+ * 배송 완료는 한 번에 DELIVERED 로, 나머지는 조회 횟수에 따라 점점 늦춰 다음 조회를 예약한다.
+ * 택배사별 요청 제한에 맞춰 요청 사이를 기다리며, 주기 시간 예산(cycle-budget-ms) 안에 보내지 못한
+ * 운송장은 건드리지 않고 다음 주기에 이어서 조회한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "delivery.tracking", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class DeliveryTrackingPoller {
+
+	// Oracle IN 목록 최대 개수
+	private static final int IN_LIST_LIMIT = 1000;
+
+	private final PublicationMapper publicationMapper;
+	private final Map<String, CarrierTrackingClient> clients;
+	private final Map<String, CarrierRateLimiter> rateLimiters = new ConcurrentHashMap<>();
+	private final int batchLimit;
+	private final long baseIntervalSeconds;
+	private final long maxIntervalSeconds;
+	private final long cycleBudgetNanos;
+	private final LongSupplier nanoClock;
+	private final CarrierRateLimiter.Sleeper sleeper;
+
+	@Autowired
+	public DeliveryTrackingPoller(PublicationMapper publicationMapper,
+			ObjectProvider<CarrierTrackingClient> clients,
+			@Value("${delivery.tracking.batch-limit:5000}") int batchLimit,
+			@Value("${delivery.tracking.base-interval-minutes:60}") long baseIntervalMinutes,
+			@Value("${delivery.tracking.max-interval-minutes:1440}") long maxIntervalMinutes,
+			@Value("${delivery.tracking.cycle-budget-ms:50000}") long cycleBudgetMs) {
+		this(publicationMapper, clients, batchLimit, baseIntervalMinutes, maxIntervalMinutes, cycleBudgetMs,
+				System::nanoTime, TimeUnit.NANOSECONDS::sleep);
+	}
+
+	DeliveryTrackingPoller(PublicationMapper publicationMapper, ObjectProvider<CarrierTrackingClient> clients,
+			int batchLimit, long baseIntervalMinutes, long maxIntervalMinutes, long cycleBudgetMs,
+			LongSupplier nanoClock, CarrierRateLimiter.Sleeper sleeper) {
+		this.publicationMapper = publicationMapper;
+		this.clients = clients.orderedStream()
+				.collect(Collectors.toMap(CarrierTrackingClient::carrierId, Function.identity(), (a, b) -> a));
+		this.batchLimit = batchLimit;
+		this.baseIntervalSeconds = baseIntervalMinutes * 60;
+		this.maxIntervalSeconds = maxIntervalMinutes * 60;
+		this.cycleBudgetNanos = TimeUnit.MILLISECONDS.toNanos(cycleBudgetMs);
+		this.nanoClock = nanoClock;
+		this.sleeper = sleeper;
+	}
+
+	@Scheduled(fixedDelayString = "${delivery.tracking.poll-interval-ms:60000}")
+	public void poll() {
+		pollOnce();
+	}
+
+	/**
+	 * 조회 1주기
+	 *
+	 * @return 택배사 조회 요청 수
+	 */
+	int pollOnce() {
+		List<Publication> due = publicationMapper.findShipmentsDueForTracking(batchLimit);
+		if (due.isEmpty()) {
+			return 0;
+		}
+
+		Map<String, List<Publication>> byCarrier = due.stream()
+				.collect(Collectors.groupingBy(p -> Objects.toString(p.getCarrierId(), ""), LinkedHashMap::new, Collectors.toList()));
+		List<Long> delivered = new ArrayList<>();
+		List<Long> inTransit = new ArrayList<>();
+		List<Long> unsupported = new ArrayList<>();
+		long deadline = nanoClock.getAsLong() + cycleBudgetNanos;
+		int requests = 0;
+
+		for (Map.Entry<String, List<Publication>> entry : byCarrier.entrySet()) {
+			if (Thread.currentThread().isInterrupted()) {
+				// 종료 중에는 이미 받은 결과만 반영하고 남은 운송장은 다음 기동 후 조회
+				break;
+			}
+			CarrierTrackingClient client = clients.get(entry.getKey());
+			List<Publication> shipments = entry.getValue();
+			if (client == null) {
+				// 조회할 수 없는 택배사는 조회 횟수와 관계없이 최대 간격으로 예약해 매 주기 다시 읽지 않도록 함
+				log.warn("배송 조회 클라이언트가 없는 택배사 - carrierId: {}, 건수: {}", entry.getKey(), shipments.size());
+				shipments.forEach(p -> unsupported.add(p.getId()));
+				continue;
+			}
+
+			CarrierRateLimiter limiter = rateLimiters.computeIfAbsent(client.carrierId(),
+					id -> new CarrierRateLimiter(client.requestsPerSecond(), nanoClock, sleeper));
+			int batchSize = Math.max(1, client.maxBatchSize());
+			for (int from = 0; from < shipments.size(); from += batchSize) {
+				try {
+					if (!limiter.acquire(deadline)) {
+						log.debug("주기 시간 예산 소진, 다음 주기에 이어서 조회 - carrierId: {}, 남은 건수: {}",
+								client.carrierId(), shipments.size() - from);
+						break;
+					}
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					break;
+				}
+				List<Publication> chunk = shipments.subList(from, Math.min(from + batchSize, shipments.size()));
+				requests++;
+				try {
+					Set<String> done = client.findDelivered(chunk.stream().map(Publication::getTrackingNumber).toList());
+					for (Publication shipment : chunk) {
+						(done.contains(shipment.getTrackingNumber()) ? delivered : inTransit).add(shipment.getId());
+					}
+				} catch (Exception e) {
+					log.warn("배송 조회 실패 - carrierId: {}, 건수: {}", client.carrierId(), chunk.size(), e);
+					chunk.forEach(p -> inTransit.add(p.getId()));
+				}
+			}
+		}
+
+		int deliveredCount = 0;
+		List<PublicationStatus> sources = PublicationStatus.sourcesOf(PublicationStatus.DELIVERED);
+		for (int from = 0; from < delivered.size(); from += IN_LIST_LIMIT) {
+			List<Long> chunk = delivered.subList(from, Math.min(from + IN_LIST_LIMIT, delivered.size()));
+			deliveredCount += publicationMapper.updateStatusByIds(chunk, sources, PublicationStatus.DELIVERED);
+		}
+		for (int from = 0; from < inTransit.size(); from += IN_LIST_LIMIT) {
+			List<Long> chunk = inTransit.subList(from, Math.min(from + IN_LIST_LIMIT, inTransit.size()));
+			publicationMapper.rescheduleTracking(chunk, baseIntervalSeconds, maxIntervalSeconds);
+		}
+		for (int from = 0; from < unsupported.size(); from += IN_LIST_LIMIT) {
+			List<Long> chunk = unsupported.subList(from, Math.min(from + IN_LIST_LIMIT, unsupported.size()));
+			// 시작 간격을 최대 간격으로 두면 점증 없이 바로 최대 간격이 됨
+			publicationMapper.rescheduleTracking(chunk, maxIntervalSeconds, maxIntervalSeconds);
+		}
+
+		log.info("배송 조회 - 대상: {}건, 요청: {}회, 배송 완료: {}건, 배송 중: {}건, 미지원 택배사: {}건",
+				due.size(), requests, deliveredCount, inTransit.size(), unsupported.size());
+		return requests;
+	}
+}
@@ -0,0 +1,89 @@
+package com.eardream.domain.publications.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * 로컬/부하 테스트용 택배사 시뮬레이터
+ * 운송장을 처음 조회한 뒤 deliveryDelayMs 가 지나면 배송 완료로 응답한다.
+ * markDelivered 로 특정 운송장을 즉시 완료시킬 수 있다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "delivery.tracking.simulator", name = "enabled", havingValue = "true")
+public class LocalCarrierSimulator implements CarrierTrackingClient {
+
+	private final String carrierId;
+	private final int maxBatchSize;
+	private final double requestsPerSecond;
+	private final long deliveryDelayMs;
+	private final LongSupplier clock;
+
+	// 운송장별 최초 조회 시각
+	private final Map<String, Long> firstSeenAt = new ConcurrentHashMap<>();
+	private final Set<String> delivered = ConcurrentHashMap.newKeySet();
+	private final AtomicInteger requests = new AtomicInteger();
+
+	@Autowired
+	public LocalCarrierSimulator(@Value("${delivery.tracking.simulator.carrier-id:local}") String carrierId,
+			@Value("${delivery.tracking.simulator.max-batch-size:100}") int maxBatchSize,
+			@Value("${delivery.tracking.simulator.requests-per-second:10}") double requestsPerSecond,
+			@Value("${delivery.tracking.simulator.delivery-delay-ms:60000}") long deliveryDelayMs) {
+		this(carrierId, maxBatchSize, requestsPerSecond, deliveryDelayMs, System::currentTimeMillis);
+	}
+
+	LocalCarrierSimulator(String carrierId, int maxBatchSize, double requestsPerSecond, long deliveryDelayMs, LongSupplier clock) {
+		this.carrierId = carrierId;
+		this.maxBatchSize = maxBatchSize;
+		this.requestsPerSecond = requestsPerSecond;
+		this.deliveryDelayMs = deliveryDelayMs;
+		this.clock = clock;
+	}
+
+	@Override
+	public String carrierId() {
+		return carrierId;
+	}
+
+	@Override
+	public int maxBatchSize() {
+		return maxBatchSize;
+	}
+
+	@Override
+	public double requestsPerSecond() {
+		return requestsPerSecond;
+	}
+
+	@Override
+	public Set<String> findDelivered(List<String> trackingNumbers) {
+		if (trackingNumbers.size() > maxBatchSize) {
+			throw new IllegalArgumentException("한 번에 조회할 수 있는 운송장 수를 초과했습니다: " + trackingNumbers.size());
+		}
+		requests.incrementAndGet();
+		long now = clock.getAsLong();
+		return trackingNumbers.stream()
+				.filter(number -> delivered.contains(number)
+						|| now - firstSeenAt.computeIfAbsent(number, n -> now) >= deliveryDelayMs)
+				.collect(Collectors.toSet());
+	}
+
+	public void markDelivered(String trackingNumber) {
+		delivered.add(trackingNumber);
+	}
+
+	public int requestCount() {
+		return requests.get();
+	}
+}
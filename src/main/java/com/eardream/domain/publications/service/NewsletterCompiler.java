@@ -0,0 +1,163 @@
+package com.eardream.domain.publications.service;
+
+import com.eardream.domain.families.dto.FamilyDto;
+import com.eardream.domain.families.service.FamilyService;
+import com.eardream.domain.posts.dto.PostDto;
+import com.eardream.domain.posts.service.PostService;
+import com.eardream.domain.publications.dto.CompilationResultDto;
+import com.eardream.domain.publications.mapper.PublicationMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.pdfbox.io.MemoryUsageSetting;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 월간 소식지 PDF 일괄 편집
+ * 가족 단위 작업을 전용 ForkJoinPool 에서 병렬로 실행하고, 진행 상태를 publications 에 기록한다.
+ * (PREPARING -> READY / FAILED)
+ * 작업당 PDF 버퍼는 메모리 한도를 넘으면 임시 파일로 내려가므로 동시 작업 수 x 한도로 힙 사용량이 제한된다.
+ */
+@Slf4j
+@Service
+public class NewsletterCompiler {
+
+	private static final String PDF_SUB_DIR = "pdfs";
+	private static final String FRAGMENT_SUB_DIR = "fragments";
+
+	private final PublicationMapper publicationMapper;
+	private final FamilyService familyService;
+	private final PostService postService;
+	private final NewsletterPdfRenderer renderer;
+	private final ForkJoinPool pool;
+	private final long maxMemoryPerJobBytes;
+	private final long staleMinutes;
+	private final String uploadPath;
+
+	public NewsletterCompiler(PublicationMapper publicationMapper,
+			FamilyService familyService,
+			PostService postService,
+			NewsletterPdfRenderer renderer,
+			@Value("${newsletter.compile.parallelism:4}") int parallelism,
+			@Value("${newsletter.compile.max-memory-per-job-mb:64}") long maxMemoryPerJobMb,
+			@Value("${newsletter.compile.stale-minutes:30}") long staleMinutes,
+			@Value("${file.upload.path}") String uploadPath) {
+		this.publicationMapper = publicationMapper;
+		this.familyService = familyService;
+		this.postService = postService;
+		this.renderer = renderer;
+		this.pool = new ForkJoinPool(parallelism);
+		this.maxMemoryPerJobBytes = maxMemoryPerJobMb * 1024 * 1024;
+		this.staleMinutes = staleMinutes;
+		this.uploadPath = uploadPath;
+	}
+
+	/**
+	 * 해당 월에 소식이 있는 모든 활성 가족의 소식지 편집
+	 */
+	public CompilationResultDto compileMonth(String publicationMonth) {
+		return compile(publicationMapper.findCompileTargetFamilyIds(publicationMonth), publicationMonth);
+	}
+
+	/**
+	 * 지정한 가족들의 소식지 편집 (모든 작업이 끝날 때까지 대기)
+	 */
+	public CompilationResultDto compile(List<Long> familyIds, String publicationMonth) {
+		long startedAt = System.nanoTime();
+		List<ForkJoinTask<JobResult>> tasks = new ArrayList<>(familyIds.size());
+		for (Long familyId : familyIds) {
+			tasks.add(pool.submit(() -> compileFamily(familyId, publicationMonth)));
+		}
+
+		int succeeded = 0;
+		int failed = 0;
+		int skipped = 0;
+		for (ForkJoinTask<JobResult> task : tasks) {
+			switch (task.join()) {
+				case SUCCEEDED -> succeeded++;
+				case FAILED -> failed++;
+				case SKIPPED -> skipped++;
+			}
+		}
+
+		long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+		log.info("소식지 편집 완료 - month: {}, 대상: {}, 성공: {}, 실패: {}, 건너뜀: {}, 소요: {}ms",
+				publicationMonth, familyIds.size(), succeeded, failed, skipped, elapsedMs);
+		return CompilationResultDto.builder()
+				.publicationMonth(publicationMonth)
+				.requested(familyIds.size())
+				.succeeded(succeeded)
+				.failed(failed)
+				.skipped(skipped)
+				.elapsedMs(elapsedMs)
+				.build();
+	}
+
+	/**
+	 * 비동기 편집 (요청 스레드를 점유하지 않음, 조정 작업도 같은 풀에서 실행되어 join 시 작업을 함께 처리)
+	 */
+	public CompletableFuture<CompilationResultDto> compileAsync(List<Long> familyIds, String publicationMonth) {
+		return CompletableFuture.supplyAsync(() -> familyIds == null || familyIds.isEmpty()
+				? compileMonth(publicationMonth)
+				: compile(familyIds, publicationMonth), pool);
+	}
+
+	/**
+	 * 가족 1건 편집 - 실패는 해당 가족만 FAILED 로 기록하고 다른 작업에 영향을 주지 않는다
+	 */
+	JobResult compileFamily(Long familyId, String publicationMonth) {
+		if (publicationMapper.markPreparing(familyId, publicationMonth, staleMinutes) == 0) {
+			// 이미 발송/배송된 소식지나 다른 작업이 편집 중인 소식지는 다시 만들지 않음
+			return JobResult.SKIPPED;
+		}
+
+		Path directory = Paths.get(uploadPath, PDF_SUB_DIR, String.valueOf(familyId));
+		Path output = directory.resolve(publicationMonth + ".pdf");
+		Path temp = directory.resolve(publicationMonth + ".pdf.tmp");
+		try {
+			FamilyDto family = familyService.getFamily(familyId);
+			List<PostDto> posts = postService.getPostsByFamilyAndMonth(familyId, publicationMonth);
+
+			Files.createDirectories(directory);
+			NewsletterPdfRenderer.RenderResult rendered = renderer.render(family.getFamilyName(), publicationMonth, posts,
+					directory.resolve(FRAGMENT_SUB_DIR).resolve(publicationMonth), temp,
+					MemoryUsageSetting.setupMixed(maxMemoryPerJobBytes).streamCache);
+			log.debug("소식지 조각 - familyId: {}, month: {}, 렌더링: {}, 재사용: {}",
+					familyId, publicationMonth, rendered.rendered(), rendered.reused());
+			Files.move(temp, output, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+			String pdfUrl = "/uploads/" + PDF_SUB_DIR + "/" + familyId + "/" + publicationMonth + ".pdf";
+			publicationMapper.markReady(familyId, publicationMonth, pdfUrl);
+			return JobResult.SUCCEEDED;
+		} catch (Exception e) {
+			log.error("소식지 편집 실패 - familyId: {}, month: {}", familyId, publicationMonth, e);
+			publicationMapper.markFailed(familyId, publicationMonth);
+			try {
+				Files.deleteIfExists(temp);
+			} catch (Exception ignored) {
+				// 임시 파일 정리 실패는 다음 실행에서 덮어씀
+			}
+			return JobResult.FAILED;
+		}
+	}
+
+	@PreDestroy
+	void shutdown() {
+		pool.shutdown();
+	}
+
+	enum JobResult {
+		SUCCEEDED, FAILED, SKIPPED
+	}
+}
@@ -0,0 +1,397 @@
+package com.eardream.domain.publications.service;
+
+import com.eardream.domain.posts.dto.PostDto;
+import com.eardream.domain.posts.dto.PostImageDto;
+import com.eardream.domain.posts.service.PrintImagePreprocessor;
+import com.eardream.global.util.ImageUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.pdfbox.io.RandomAccessStreamCache;
+import org.apache.pdfbox.multipdf.PDFMergerUtility;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.pdmodel.font.PDFont;
+import org.apache.pdfbox.pdmodel.font.PDType0Font;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
+import org.apache.pdfbox.pdmodel.graphics.image.JPEGFactory;
+import org.apache.pdfbox.pdmodel.graphics.image.PDImageXObject;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 월간 소식지 PDF 렌더러 (A4)
+ * 표지(가족명, 발행월) 다음에 소식을 작성 순서대로 배치한다.
+ * 사진은 소식 저장 시 만들어 둔 인쇄용 파생 이미지를 사용하고, 없을 때만 원본을 한 장씩
+ * 서브샘플링으로 디코딩하므로 원본 크기와 무관하게 작업당 메모리 사용량이 제한된다.
+ * 소식은 각자 새 페이지에서 시작하는 조각으로 캐시되어, 소식 하나를 고치면 그 조각만 다시 그린다.
+ */
+@Slf4j
+@Component
+public class NewsletterPdfRenderer {
+
+	private static final float MARGIN = 50f;
+	private static final float TITLE_SIZE = 16f;
+	private static final float BODY_SIZE = 11f;
+	private static final float META_SIZE = 9f;
+	private static final float LINE_SPACING = 1.4f;
+	private static final float IMAGE_GAP = 8f;
+	private static final float JPEG_QUALITY = 0.85f;
+	private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy.MM.dd");
+	// 레이아웃이 바뀌면 올려서 기존 조각 캐시를 무효화
+	private static final String FRAGMENT_LAYOUT_VERSION = "1";
+
+	private final String fontPath;
+	private final int maxImagePx;
+	private final String uploadPath;
+
+	public NewsletterPdfRenderer(@Value("${newsletter.pdf.font-path:}") String fontPath,
+			@Value("${newsletter.pdf.max-image-px:1600}") int maxImagePx,
+			@Value("${file.upload.path}") String uploadPath) {
+		this.fontPath = fontPath;
+		this.maxImagePx = maxImagePx;
+		this.uploadPath = uploadPath;
+	}
+
+	/**
+	 * 소식지 PDF 생성
+	 * 소식마다 독립된 페이지 조각(PDF)을 만들어 fragmentDir 에 캐시하고, 표지와 함께 이어 붙인다.
+	 * 조각 키에 수정 시각과 사진 파일 정보가 들어가므로 바뀐 소식만 다시 렌더링된다.
+	 *
+	 * @param fragmentDir 가족/월별 조각 캐시 디렉터리 (이번 호에 쓰이지 않은 조각은 정리)
+	 * @param streamCache 작업별 메모리 한도가 적용된 PDFBox 스트림 캐시
+	 */
+	public RenderResult render(String familyName, String publicationMonth, List<PostDto> posts, Path fragmentDir,
+			Path output, RandomAccessStreamCache.StreamCacheCreateFunction streamCache) throws IOException {
+		Files.createDirectories(fragmentDir);
+		PDFMergerUtility merger = new PDFMergerUtility();
+		Set<Path> used = new HashSet<>();
+		int rendered = 0;
+		int reused = 0;
+
+		// 표지는 가볍기 때문에 매번 새로 만듦
+		Path cover = Files.createTempFile(fragmentDir, "cover-", ".tmp");
+		try {
+			renderFragment(cover, streamCache, layout -> layout.cover(familyName, publicationMonth));
+			merger.addSource(cover.toFile());
+
+			for (PostDto post : posts) {
+				Path fragment = fragmentDir.resolve(post.getId() + "-" + fragmentKey(post) + ".pdf");
+				if (Files.isRegularFile(fragment)) {
+					reused++;
+				} else {
+					Path temp = Files.createTempFile(fragmentDir, "post-", ".tmp");
+					try {
+						renderFragment(temp, streamCache, layout -> layout.post(post));
+						Files.move(temp, fragment, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+					} finally {
+						Files.deleteIfExists(temp);
+					}
+					rendered++;
+				}
+				used.add(fragment);
+				merger.addSource(fragment.toFile());
+			}
+
+			merger.setDestinationFileName(output.toString());
+			merger.mergeDocuments(streamCache);
+		} finally {
+			Files.deleteIfExists(cover);
+		}
+
+		evictStaleFragments(fragmentDir, used);
+		return new RenderResult(rendered, reused);
+	}
+
+	/**
+	 * 조각 캐시 키 - 소식 ID, 수정 시각, 본문/작성자, 사진 파일 정보(경로, 크기, 수정 시각)와 렌더링 설정의 해시
+	 * 사진 원본을 다시 읽지 않고도 파일이 바뀌었는지 판단할 수 있다.
+	 */
+	String fragmentKey(PostDto post) throws IOException {
+		MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+		List<String> parts = new ArrayList<>();
+		parts.add(FRAGMENT_LAYOUT_VERSION);
+		parts.add(String.valueOf(fontPath));
+		parts.add(String.valueOf(maxImagePx));
+		parts.add(String.valueOf(post.getId()));
+		parts.add(String.valueOf(post.getUpdatedAt()));
+		parts.add(String.valueOf(post.getCreatedAt()));
+		parts.add(String.valueOf(post.getTitle()));
+		parts.add(String.valueOf(post.getContent()));
+		parts.add(post.getAuthor() != null ? String.valueOf(post.getAuthor().getName()) : "");
+		if (post.getImages() != null) {
+			for (PostImageDto image : sortedImages(post)) {
+				parts.add(image.getImageUrl() + "#" + image.getImageOrder());
+				Path path = resolveImage(image.getImageUrl());
+				if (path != null) {
+					parts.add(Files.size(path) + "@" + Files.getLastModifiedTime(path).toMillis());
+				}
+			}
+		}
+		for (String part : parts) {
+			digest.update(part.getBytes(StandardCharsets.UTF_8));
+			digest.update((byte) 0);
+		}
+		return HexFormat.of().formatHex(digest.digest(), 0, 16);
+	}
+
+	private void renderFragment(Path output, RandomAccessStreamCache.StreamCacheCreateFunction streamCache,
+			LayoutWriter writer) throws IOException {
+		try (PDDocument document = new PDDocument(streamCache)) {
+			Layout layout = new Layout(document, loadFont(document));
+			try {
+				writer.write(layout);
+			} finally {
+				layout.close();
+			}
+			document.save(output.toFile());
+		}
+	}
+
+	private void evictStaleFragments(Path fragmentDir, Set<Path> used) {
+		try (DirectoryStream<Path> fragments = Files.newDirectoryStream(fragmentDir, "*.pdf")) {
+			for (Path fragment : fragments) {
+				if (!used.contains(fragment)) {
+					Files.deleteIfExists(fragment);
+				}
+			}
+		} catch (IOException e) {
+			// 정리 실패는 다음 편집에서 다시 시도
+			log.warn("소식지 조각 정리 실패 - dir: {}", fragmentDir, e);
+		}
+	}
+
+	private static List<PostImageDto> sortedImages(PostDto post) {
+		List<PostImageDto> images = new ArrayList<>(post.getImages());
+		images.sort(Comparator.comparing(PostImageDto::getImageOrder, Comparator.nullsLast(Comparator.naturalOrder())));
+		return images;
+	}
+
+	private PDFont loadFont(PDDocument document) throws IOException {
+		if (fontPath != null && !fontPath.isBlank()) {
+			File fontFile = new File(fontPath);
+			if (fontFile.isFile()) {
+				return PDType0Font.load(document, fontFile);
+			}
+			log.warn("소식지 폰트 파일을 찾을 수 없어 기본 폰트를 사용합니다 - path: {}", fontPath);
+		}
+		return new PDType1Font(Standard14Fonts.FontName.HELVETICA);
+	}
+
+	/**
+	 * 업로드 URL(/uploads/...)을 로컬 파일 경로로 변환 (외부 URL 은 null)
+	 */
+	private Path resolveImage(String imageUrl) {
+		if (imageUrl == null || !imageUrl.startsWith("/uploads/")) {
+			return null;
+		}
+		Path base = Paths.get(uploadPath).toAbsolutePath().normalize();
+		Path path = base.resolve(imageUrl.substring("/uploads/".length())).normalize();
+		return path.startsWith(base) && Files.isRegularFile(path) ? path : null;
+	}
+
+	/**
+	 * 인쇄용 파생 이미지가 최신이면 그것을 읽고, 없으면 원본을 서브샘플링 디코딩해 변환
+	 */
+	private BufferedImage readForPrint(Path original) throws IOException {
+		Path derivative = PrintImagePreprocessor.derivativeOf(Paths.get(uploadPath).toAbsolutePath().normalize(), original);
+		if (PrintImagePreprocessor.isFresh(derivative, original)) {
+			BufferedImage ready = ImageIO.read(derivative.toFile());
+			if (ready != null) {
+				return ImageUtils.fitRgb(ready, maxImagePx);
+			}
+		}
+		return ImageUtils.readForPrint(original, maxImagePx);
+	}
+
+	/**
+	 * 조각 렌더링 결과 (새로 그린 소식 수, 캐시에서 재사용한 소식 수)
+	 */
+	public record RenderResult(int rendered, int reused) {
+	}
+
+	@FunctionalInterface
+	private interface LayoutWriter {
+		void write(Layout layout) throws IOException;
+	}
+
+	/**
+	 * 페이지 넘김을 관리하는 배치 커서
+	 */
+	private final class Layout {
+
+		private final PDDocument document;
+		private final PDFont font;
+		private final float width = PDRectangle.A4.getWidth() - MARGIN * 2;
+		private PDPageContentStream stream;
+		private float y;
+
+		private Layout(PDDocument document, PDFont font) {
+			this.document = document;
+			this.font = font;
+		}
+
+		void cover(String familyName, String publicationMonth) throws IOException {
+			newPage();
+			y = PDRectangle.A4.getHeight() / 2 + 40;
+			text(safe(familyName), 28f);
+			y -= 16;
+			text(safe(publicationMonth + " 소식지"), 18f);
+		}
+
+		void post(PostDto post) throws IOException {
+			ensure(TITLE_SIZE * LINE_SPACING * 2);
+			for (String line : wrap(safe(post.getTitle()), TITLE_SIZE)) {
+				text(line, TITLE_SIZE);
+			}
+			String author = post.getAuthor() != null && post.getAuthor().getName() != null ? post.getAuthor().getName() : "";
+			String date = post.getCreatedAt() != null ? post.getCreatedAt().format(DATE_FORMAT) : "";
+			text(safe((author + "  " + date).trim()), META_SIZE);
+			y -= 4;
+
+			if (post.getContent() != null) {
+				for (String paragraph : post.getContent().split("\\R")) {
+					for (String line : wrap(safe(paragraph), BODY_SIZE)) {
+						text(line, BODY_SIZE);
+					}
+				}
+			}
+
+			if (post.getImages() != null) {
+				for (PostImageDto image : sortedImages(post)) {
+					image(image.getImageUrl());
+				}
+			}
+			y -= BODY_SIZE * 2;
+		}
+
+		private void image(String imageUrl) throws IOException {
+			Path path = resolveImage(imageUrl);
+			if (path == null) {
+				return;
+			}
+			BufferedImage scaled = readForPrint(path);
+			if (scaled == null) {
+				log.warn("소식지 이미지를 읽을 수 없습니다 - url: {}", imageUrl);
+				return;
+			}
+			PDImageXObject xObject = JPEGFactory.createFromImage(document, scaled, JPEG_QUALITY);
+			float maxHeight = (PDRectangle.A4.getHeight() - MARGIN * 2) / 2;
+			float scale = Math.min(width / scaled.getWidth(), maxHeight / scaled.getHeight());
+			float drawWidth = scaled.getWidth() * scale;
+			float drawHeight = scaled.getHeight() * scale;
+
+			ensure(drawHeight + IMAGE_GAP);
+			y -= drawHeight + IMAGE_GAP;
+			stream.drawImage(xObject, MARGIN + (width - drawWidth) / 2, y, drawWidth, drawHeight);
+		}
+
+		private void text(String line, float size) throws IOException {
+			float lineHeight = size * LINE_SPACING;
+			ensure(lineHeight);
+			y -= lineHeight;
+			stream.beginText();
+			stream.setFont(font, size);
+			stream.newLineAtOffset(MARGIN, y);
+			stream.showText(line);
+			stream.endText();
+		}
+
+		private void ensure(float height) throws IOException {
+			if (stream == null || y - height < MARGIN) {
+				newPage();
+			}
+		}
+
+		private void newPage() throws IOException {
+			close();
+			PDPage page = new PDPage(PDRectangle.A4);
+			document.addPage(page);
+			stream = new PDPageContentStream(document, page);
+			y = PDRectangle.A4.getHeight() - MARGIN;
+		}
+
+		void close() throws IOException {
+			if (stream != null) {
+				stream.close();
+				stream = null;
+			}
+		}
+
+		/**
+		 * 글자 폭 기준 줄바꿈 (한글은 공백 없이도 끊을 수 있도록 글자 단위로 측정)
+		 */
+		private List<String> wrap(String text, float size) throws IOException {
+			List<String> lines = new ArrayList<>();
+			StringBuilder line = new StringBuilder();
+			float lineWidth = 0;
+			for (int i = 0; i < text.length(); ) {
+				int codePoint = text.codePointAt(i);
+				String ch = new String(Character.toChars(codePoint));
+				float charWidth = font.getStringWidth(ch) / 1000 * size;
+				if (lineWidth + charWidth > width && line.length() > 0) {
+					lines.add(line.toString());
+					line.setLength(0);
+					lineWidth = 0;
+					if (Character.isWhitespace(codePoint)) {
+						i += Character.charCount(codePoint);
+						continue;
+					}
+				}
+				line.append(ch);
+				lineWidth += charWidth;
+				i += Character.charCount(codePoint);
+			}
+			if (line.length() > 0 || lines.isEmpty()) {
+				lines.add(line.toString());
+			}
+			return lines;
+		}
+
+		/**
+		 * 폰트가 표현할 수 없는 글자는 '?' 로 대체
+		 */
+		private String safe(String text) {
+			if (text == null) {
+				return "";
+			}
+			StringBuilder result = new StringBuilder(text.length());
+			text.codePoints().forEach(codePoint -> {
+				String ch = new String(Character.toChars(codePoint));
+				try {
+					font.encode(ch);
+					result.append(ch);
+				} catch (IOException | IllegalArgumentException e) {
+					result.append('?');
+				}
+			});
+			return result.toString();
+		}
+	}
+}
@@ -0,0 +1,145 @@
+package com.eardream.domain.publications.service;
+
+import com.eardream.domain.publications.mapper.PublicationMapper;
+import com.eardream.global.util.DateUtils;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * 마감 기반 소식지 발행 스케줄러
+ * 마감 주차(2: 둘째 주, 4: 넷째 주)별로 다음 마감 시각을 계산해 그 시각에만 깨어나고,
+ * 해당 주차 가족만 id 키셋 배치로 조회해 편집기에 넘긴다 (매 틱 전체 가족 스캔 없음).
+ * 두 주차는 서로 다른 일요일에 마감되고 실행 스레드도 하나라서 편집 부하가 겹치지 않는다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "newsletter.scheduler", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class PublicationScheduler {
+
+	static final int[] COHORTS = {2, 4};
+	private static final DateTimeFormatter MONTH_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM");
+
+	private final PublicationMapper publicationMapper;
+	private final NewsletterCompiler newsletterCompiler;
+	private final TaskScheduler taskScheduler;
+	private final ZoneId zone;
+	private final long cutoffDelayMinutes;
+	private final int batchSize;
+
+	// 주차별 예약된 다음 마감 실행
+	private final Map<Integer, ScheduledFuture<?>> scheduled = new ConcurrentHashMap<>();
+	private final ExecutorService runner = Executors.newSingleThreadExecutor(r -> {
+		Thread thread = new Thread(r, "publication-cutoff");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	public PublicationScheduler(PublicationMapper publicationMapper,
+			NewsletterCompiler newsletterCompiler,
+			TaskScheduler taskScheduler,
+			@Value("${newsletter.scheduler.zone:Asia/Seoul}") String zone,
+			@Value("${newsletter.scheduler.cutoff-delay-minutes:0}") long cutoffDelayMinutes,
+			@Value("${newsletter.scheduler.batch-size:200}") int batchSize) {
+		this.publicationMapper = publicationMapper;
+		this.newsletterCompiler = newsletterCompiler;
+		this.taskScheduler = taskScheduler;
+		this.zone = ZoneId.of(zone);
+		this.cutoffDelayMinutes = cutoffDelayMinutes;
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * 기동 시 이번 달 마감이 이미 지난 주차는 남은 가족을 보충 처리하고, 주차별 다음 마감을 예약
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void start() {
+		ZonedDateTime now = ZonedDateTime.now(zone);
+		for (int cohort : COHORTS) {
+			YearMonth month = YearMonth.from(now);
+			if (!cutoffOf(DateUtils.getDeadline(month, cohort)).isAfter(now)) {
+				runner.execute(() -> runCohort(cohort, month.format(MONTH_FORMAT)));
+			}
+			scheduleNext(cohort, now);
+		}
+	}
+
+	/**
+	 * 마감 시각 = 마감일(일요일) 다음 날 0시 + 지연
+	 */
+	ZonedDateTime cutoffOf(LocalDate deadline) {
+		return deadline.plusDays(1).atStartOfDay(zone).plusMinutes(cutoffDelayMinutes);
+	}
+
+	/**
+	 * 현재 시각 이후 가장 가까운 마감 시각 (마감일 당일이면 그날 밤)
+	 */
+	ZonedDateTime nextCutoff(int cohort, ZonedDateTime now) {
+		LocalDate today = now.toLocalDate();
+		ZonedDateTime cutoff = cutoffOf(DateUtils.getDeadline(YearMonth.from(today), cohort));
+		if (cutoff.isAfter(now)) {
+			return cutoff;
+		}
+		return cutoffOf(DateUtils.getNextDeadline(cohort, today));
+	}
+
+	private void scheduleNext(int cohort, ZonedDateTime now) {
+		ZonedDateTime cutoff = nextCutoff(cohort, now);
+		// 마감 다음 날 0시에 실행되므로 발행월은 마감일이 속한 달
+		String publicationMonth = cutoff.minusMinutes(cutoffDelayMinutes).minusDays(1).format(MONTH_FORMAT);
+		scheduled.put(cohort, taskScheduler.schedule(() -> runner.execute(() -> {
+			try {
+				runCohort(cohort, publicationMonth);
+			} finally {
+				scheduleNext(cohort, ZonedDateTime.now(zone));
+			}
+		}), cutoff.toInstant()));
+		log.info("소식지 마감 예약 - 주차: {}, 발행월: {}, 실행: {}", cohort, publicationMonth, cutoff);
+	}
+
+	/**
+	 * 해당 주차의 남은 발행 대상만 키셋 배치로 편집
+	 */
+	int runCohort(int cohort, String publicationMonth) {
+		log.info("소식지 마감 편집 시작 - 주차: {}, 발행월: {}", cohort, publicationMonth);
+		long afterId = 0;
+		int total = 0;
+		while (true) {
+			List<Long> familyIds = publicationMapper.findDueFamilyIds(cohort, publicationMonth, afterId, batchSize);
+			if (familyIds.isEmpty()) {
+				break;
+			}
+			newsletterCompiler.compile(familyIds, publicationMonth);
+			total += familyIds.size();
+			afterId = familyIds.get(familyIds.size() - 1);
+			if (familyIds.size() < batchSize) {
+				break;
+			}
+		}
+		log.info("소식지 마감 편집 종료 - 주차: {}, 발행월: {}, 대상: {}", cohort, publicationMonth, total);
+		return total;
+	}
+
+	@PreDestroy
+	void shutdown() {
+		scheduled.values().forEach(future -> future.cancel(false));
+		runner.shutdownNow();
+	}
+}
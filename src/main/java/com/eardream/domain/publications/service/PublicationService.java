@@ -0,0 +1,175 @@
+package com.eardream.domain.publications.service;
+
+import com.eardream.domain.publications.dto.PublicationBulkResultDto;
+import com.eardream.domain.publications.dto.PublicationDto;
+import com.eardream.domain.publications.dto.PublicationPageDto;
+import com.eardream.domain.publications.dto.PublicationStatusUpdateRequest;
+import com.eardream.domain.publications.dto.TrackingNumberEntry;
+import com.eardream.domain.publications.dto.TrackingNumberImportRequest;
+import com.eardream.domain.publications.entity.Publication;
+import com.eardream.domain.publications.entity.Publication.PublicationStatus;
+import com.eardream.domain.publications.mapper.PublicationMapper;
+import com.eardream.global.exception.BusinessException;
+import com.eardream.global.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 소식지 발행(배송) 관리
+ * 상태 변경은 IN 목록 조건부 UPDATE 로, 운송장 등록은 JDBC 배치로 묶어 건별 왕복 없이 처리한다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class PublicationService {
+
+	public static final int DEFAULT_PAGE_SIZE = 100;
+	public static final int MAX_PAGE_SIZE = 1000;
+	// Oracle IN 목록 최대 개수
+	private static final int IN_LIST_LIMIT = 1000;
+	// PREPARING / READY / FAILED 는 편집기가 관리하므로 운영자는 발송 이후 상태만 변경
+	private static final Set<PublicationStatus> MANUAL_TARGETS = EnumSet.of(PublicationStatus.SHIPPED, PublicationStatus.DELIVERED);
+
+	private final PublicationMapper publicationMapper;
+	private final SqlSessionTemplate batchSession;
+	private final int flushSize;
+
+	@Autowired
+	public PublicationService(PublicationMapper publicationMapper,
+			SqlSessionFactory sqlSessionFactory,
+			@Value("${publication.tracking-import.flush-size:500}") int flushSize) {
+		this(publicationMapper, new SqlSessionTemplate(sqlSessionFactory, ExecutorType.BATCH), flushSize);
+	}
+
+	PublicationService(PublicationMapper publicationMapper, SqlSessionTemplate batchSession, int flushSize) {
+		this.publicationMapper = publicationMapper;
+		this.batchSession = batchSession;
+		this.flushSize = flushSize;
+	}
+
+	public PublicationDto getPublication(Long publicationId) {
+		return publicationMapper.findById(publicationId)
+				.map(this::toDto)
+				.orElseThrow(() -> new BusinessException(ErrorCode.PUBLICATION_NOT_FOUND));
+	}
+
+	/**
+	 * 월별 발행 목록 (id 키셋 페이지)
+	 */
+	public PublicationPageDto getPublications(String publicationMonth, PublicationStatus status, Long afterId, Integer size) {
+		if (publicationMonth == null || !publicationMonth.matches("\\d{4}-\\d{2}")) {
+			throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+		}
+		int limit = size == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+		long cursor = afterId == null ? 0L : afterId;
+
+		// 한 건 더 읽어 다음 페이지 존재 여부 판단
+		List<Publication> rows = publicationMapper.findByMonthAfterId(publicationMonth, status, cursor, limit + 1);
+		boolean hasNext = rows.size() > limit;
+		List<Publication> page = hasNext ? rows.subList(0, limit) : rows;
+
+		return PublicationPageDto.builder()
+				.items(page.stream().map(this::toDto).toList())
+				.nextCursor(hasNext ? page.get(page.size() - 1).getId() : null)
+				.build();
+	}
+
+	/**
+	 * 발행 상태 일괄 변경 (전이 가능한 상태의 행만 반영, 나머지는 건너뜀)
+	 */
+	@Transactional
+	public PublicationBulkResultDto updateStatuses(PublicationStatusUpdateRequest request) {
+		PublicationStatus target = request.getStatus();
+		if (!MANUAL_TARGETS.contains(target)) {
+			throw new BusinessException(ErrorCode.PUBLICATION_INVALID_STATUS_TRANSITION);
+		}
+		List<Long> ids = request.getPublicationIds().stream().distinct().toList();
+		if (ids.contains(null)) {
+			throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+		}
+
+		List<PublicationStatus> sources = PublicationStatus.sourcesOf(target);
+		int updated = 0;
+		for (int from = 0; from < ids.size(); from += IN_LIST_LIMIT) {
+			List<Long> chunk = ids.subList(from, Math.min(from + IN_LIST_LIMIT, ids.size()));
+			updated += publicationMapper.updateStatusByIds(chunk, sources, target);
+		}
+
+		log.info("발행 상태 일괄 변경 - 대상 상태: {}, 요청: {}, 반영: {}", target, ids.size(), updated);
+		return PublicationBulkResultDto.builder()
+				.requested(ids.size())
+				.updated(updated)
+				.build();
+	}
+
+	/**
+	 * 운송장 일괄 등록 (flushSize 건마다 JDBC 배치 실행, 발송 대기/배송 중이 아닌 발행은 건너뜀)
+	 */
+	@Transactional
+	public PublicationBulkResultDto importTrackingNumbers(TrackingNumberImportRequest request) {
+		List<TrackingNumberEntry> entries = request.getEntries();
+		Set<Long> seen = new HashSet<>();
+		for (TrackingNumberEntry entry : entries) {
+			if (!seen.add(entry.getPublicationId())) {
+				throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+			}
+		}
+
+		// 같은 트랜잭션 안에서는 BATCH 세션만 사용해야 함 (실행기 종류 혼용 불가)
+		PublicationMapper batchMapper = batchSession.getMapper(PublicationMapper.class);
+		int updated = 0;
+		List<Long> skippedIds = new ArrayList<>();
+		for (int i = 0; i < entries.size(); i++) {
+			batchMapper.updateTrackingNumber(entries.get(i));
+			if ((i + 1) % flushSize != 0 && i != entries.size() - 1) {
+				continue;
+			}
+			for (BatchResult result : batchSession.flushStatements()) {
+				int[] counts = result.getUpdateCounts();
+				List<Object> parameters = result.getParameterObjects();
+				for (int j = 0; j < counts.length; j++) {
+					// 드라이버가 건수를 주지 않는 경우(SUCCESS_NO_INFO)는 반영으로 간주
+					if (counts[j] == 0) {
+						skippedIds.add(((TrackingNumberEntry) parameters.get(j)).getPublicationId());
+					} else {
+						updated++;
+					}
+				}
+			}
+		}
+
+		log.info("운송장 일괄 등록 - 요청: {}, 반영: {}, 건너뜀: {}", entries.size(), updated, skippedIds.size());
+		return PublicationBulkResultDto.builder()
+				.requested(entries.size())
+				.updated(updated)
+				.skippedIds(skippedIds)
+				.build();
+	}
+
+	private PublicationDto toDto(Publication p) {
+		return PublicationDto.builder()
+				.id(p.getId())
+				.familyId(p.getFamilyId())
+				.publicationMonth(p.getPublicationMonth())
+				.pdfUrl(p.getPdfUrl())
+				.status(p.getStatus())
+				.carrierId(p.getCarrierId())
+				.trackingNumber(p.getTrackingNumber())
+				.createdAt(p.getCreatedAt())
+				.deliveredAt(p.getDeliveredAt())
+				.build();
+	}
+}
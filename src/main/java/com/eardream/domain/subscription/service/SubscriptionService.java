@@ -5,7 +5,11 @@ import com.eardream.domain.subscription.dto.SubscriptionResponse;
 import com.eardream.domain.subscription.dto.SubscriptionUpdateRequest;
 import com.eardream.domain.subscription.entity.Subscription;
 import com.eardream.domain.subscription.mapper.SubscriptionMapper;
+import com.eardream.global.counter.LiveCounterRegistry;
 import com.eardream.global.exception.BusinessException;
+import com.eardream.global.outbox.OutboxEventPublisher;
+import com.eardream.global.outbox.OutboxEventType;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -14,7 +18,10 @@ import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
@@ -27,10 +34,27 @@ import java.util.stream.Collectors;
 public class SubscriptionService {
     
     private final SubscriptionMapper subscriptionMapper;
+    private final OutboxEventPublisher outboxEventPublisher;
+    private final LiveCounterRegistry liveCounterRegistry;
     
     // 기본 월간 구독료 (원)
     private static final BigDecimal DEFAULT_PLAN_PRICE = new BigDecimal("29900");
     
+    // 실시간 카운터 키
+    private static final String COUNTER_TOTAL = "subscription.total";
+    private static final String COUNTER_STATUS_PREFIX = "subscription.status.";
+    
+    /**
+     * 구독 카운터 등록 (원천 COUNT 쿼리는 재계산 시에만 사용)
+     */
+    @PostConstruct
+    void registerCounters() {
+        liveCounterRegistry.register(COUNTER_TOTAL, subscriptionMapper::countAll);
+        for (Subscription.SubscriptionStatus status : Subscription.SubscriptionStatus.values()) {
+            liveCounterRegistry.register(statusCounterKey(status), () -> subscriptionMapper.countByStatus(status));
+        }
+    }
+    
     /**
      * 구독 생성 (POST /subscriptions)
      */
@@ -59,6 +83,8 @@ public class SubscriptionService {
         if (result == 0) {
             throw new BusinessException("구독 생성에 실패했습니다.");
         }
+        liveCounterRegistry.add(COUNTER_TOTAL, 1);
+        liveCounterRegistry.add(statusCounterKey(Subscription.SubscriptionStatus.ACTIVE), 1);
         
         log.info("구독 생성 완료 - subscriptionId: {}", subscription.getId());
         return SubscriptionResponse.from(subscription);
@@ -76,6 +102,14 @@ public class SubscriptionService {
         return SubscriptionResponse.from(subscription);
     }
 
+    /**
+     * 활성 구독 조회 (없으면 empty)
+     */
+    public Optional<SubscriptionResponse> findMySubscription(Long familyId) {
+        return subscriptionMapper.findActiveByFamilyId(familyId)
+                .map(SubscriptionResponse::from);
+    }
+
     /**
      * 구독 ID로 조회
      */
@@ -98,6 +132,8 @@ public class SubscriptionService {
         Subscription subscription = subscriptionMapper.findById(id)
                 .orElseThrow(() -> new BusinessException("구독 정보를 찾을 수 없습니다. id: " + id));
         
+        Subscription.SubscriptionStatus previousStatus = subscription.getStatus();
+        
         // 수정할 필드 업데이트
         if (request.getStatus() != null) {
             subscription.setStatus(request.getStatus());
@@ -129,6 +165,11 @@ public class SubscriptionService {
             throw new BusinessException("구독 수정에 실패했습니다.");
         }
         
+        if (subscription.getStatus() != previousStatus) {
+            countStatusChange(previousStatus, subscription.getStatus());
+            publishStatusEvent(subscription.getId(), subscription.getFamilyId(), subscription.getStatus());
+        }
+        
         log.info("구독 수정 완료 - id: {}", id);
         return SubscriptionResponse.from(subscription);
     }
@@ -152,6 +193,8 @@ public class SubscriptionService {
         if (result == 0) {
             throw new BusinessException("구독 취소에 실패했습니다.");
         }
+        countStatusChange(Subscription.SubscriptionStatus.ACTIVE, Subscription.SubscriptionStatus.CANCELLED);
+        publishStatusEvent(id, subscription.getFamilyId(), Subscription.SubscriptionStatus.CANCELLED);
         
         log.info("구독 취소 완료 - id: {}", id);
     }
@@ -163,10 +206,15 @@ public class SubscriptionService {
     public void pauseSubscription(Long id) {
         log.info("구독 일시정지 - id: {}", id);
         
+        Subscription subscription = subscriptionMapper.findById(id)
+                .orElseThrow(() -> new BusinessException("구독 정보를 찾을 수 없습니다. id: " + id));
+        
         int result = subscriptionMapper.pauseSubscription(id);
         if (result == 0) {
             throw new BusinessException("구독 일시정지에 실패했습니다.");
         }
+        countStatusChange(Subscription.SubscriptionStatus.ACTIVE, Subscription.SubscriptionStatus.PAUSED);
+        publishStatusEvent(id, subscription.getFamilyId(), Subscription.SubscriptionStatus.PAUSED);
     }
     
     /**
@@ -176,10 +224,51 @@ public class SubscriptionService {
     public void resumeSubscription(Long id) {
         log.info("구독 재개 - id: {}", id);
         
+        Subscription subscription = subscriptionMapper.findById(id)
+                .orElseThrow(() -> new BusinessException("구독 정보를 찾을 수 없습니다. id: " + id));
+        
         int result = subscriptionMapper.resumeSubscription(id);
         if (result == 0) {
             throw new BusinessException("구독 재개에 실패했습니다.");
         }
+        countStatusChange(Subscription.SubscriptionStatus.PAUSED, Subscription.SubscriptionStatus.ACTIVE);
+        publishStatusEvent(id, subscription.getFamilyId(), Subscription.SubscriptionStatus.ACTIVE);
+    }
+    
+    /**
+     * 상태 변경에 따른 카운터 증감
+     */
+    private void countStatusChange(Subscription.SubscriptionStatus from, Subscription.SubscriptionStatus to) {
+        if (from != null) {
+            liveCounterRegistry.add(statusCounterKey(from), -1);
+        }
+        liveCounterRegistry.add(statusCounterKey(to), 1);
+    }
+    
+    private static String statusCounterKey(Subscription.SubscriptionStatus status) {
+        return COUNTER_STATUS_PREFIX + status.name();
+    }
+    
+    /**
+     * 구독 상태 변경 아웃박스 이벤트 기록 (구독 트랜잭션과 함께 커밋)
+     */
+    private void publishStatusEvent(Long id, Long familyId, Subscription.SubscriptionStatus status) {
+        OutboxEventType eventType = switch (status) {
+            case PAUSED -> OutboxEventType.SUBSCRIPTION_PAUSED;
+            case ACTIVE -> OutboxEventType.SUBSCRIPTION_RESUMED;
+            case CANCELLED -> OutboxEventType.SUBSCRIPTION_CANCELLED;
+            default -> null;
+        };
+        if (eventType == null) {
+            return;
+        }
+        
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("subscriptionId", id);
+        payload.put("familyId", familyId);
+        payload.put("status", status.name());
+        
+        outboxEventPublisher.append("SUBSCRIPTION", String.valueOf(id), eventType, payload);
     }
     
     /**
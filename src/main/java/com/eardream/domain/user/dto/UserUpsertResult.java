@@ -0,0 +1,19 @@
+package com.eardream.domain.user.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 카카오 로그인 사용자 upsert 결과
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserUpsertResult {
+    
+    private UserDto user;
+    private boolean isNew;          // 이번 요청으로 생성된 사용자 여부
+}
@@ -27,6 +27,12 @@ public interface UserMapper {
      */
     Optional<User> findByKakaoId(@Param("kakaoId") String kakaoId);
     
+    /**
+     * Kakao ID 기준 upsert (없을 때만 INSERT, MERGE 단일 문장)
+     * @return 신규 생성 시 1, 이미 존재하면 0
+     */
+    int mergeByKakaoId(User user);
+    
     /**
      * 사용자 정보 수정 (UPDATE)
      */
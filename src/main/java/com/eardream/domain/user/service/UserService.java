@@ -3,14 +3,18 @@ package com.eardream.domain.user.service;
 import com.eardream.domain.user.dto.CreateUserRequest;
 import com.eardream.domain.user.dto.UpdateUserRequest;
 import com.eardream.domain.user.dto.UserDto;
+import com.eardream.domain.user.dto.UserUpsertResult;
 import com.eardream.domain.user.entity.User;
 import com.eardream.domain.user.mapper.UserMapper;
 import lombok.RequiredArgsConstructor;
 import com.eardream.global.exception.ResourceNotFoundException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Optional;
+
 /**
  * User 서비스 (API 명세서 기반)
  * 카카오 OAuth 기반 사용자 관리
@@ -66,9 +70,48 @@ public class UserService {
      * 카카오 ID로 사용자 조회 (로그인 시 사용)
      */
     public UserDto getUserByKakaoId(String kakaoId) {
-        User user = userMapper.findByKakaoId(kakaoId)
+        return findUserByKakaoId(kakaoId)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
-        return UserDto.from(user);
+    }
+    
+    /**
+     * 카카오 ID로 사용자 조회 (없으면 empty)
+     */
+    public Optional<UserDto> findUserByKakaoId(String kakaoId) {
+        return userMapper.findByKakaoId(kakaoId).map(UserDto::from);
+    }
+    
+    /**
+     * 카카오 로그인 사용자 upsert
+     * MERGE 한 문장으로 신규 생성 여부를 판정하므로 동시 첫 로그인에도 중복 INSERT 없이 같은 사용자를 반환한다.
+     */
+    @Transactional
+    public UserUpsertResult upsertKakaoUser(CreateUserRequest request) {
+        User user = User.createFromKakao(request.getKakaoId(), request.getName());
+        if (request.getPhoneNumber() != null || request.getProfileImageUrl() != null ||
+            request.getBirthDate() != null || request.getAddress() != null) {
+            user.updateProfile(request.getName(), request.getPhoneNumber(),
+                             request.getProfileImageUrl(), request.getBirthDate(), request.getAddress());
+        }
+        
+        boolean isNew;
+        try {
+            isNew = userMapper.mergeByKakaoId(user) > 0;
+        } catch (DuplicateKeyException e) {
+            // 같은 순간 다른 요청이 먼저 INSERT 한 경우 (MERGE 간 경합) - 기존 사용자로 처리
+            log.debug("카카오 사용자 동시 생성 감지 - kakaoId: {}", request.getKakaoId());
+            isNew = false;
+        }
+        
+        UserDto saved = findUserByKakaoId(request.getKakaoId())
+                .orElseThrow(() -> new RuntimeException("사용자 생성에 실패했습니다"));
+        if (isNew) {
+            log.info("사용자 생성 완료 - userId: {}", saved.getUserId());
+        }
+        return UserUpsertResult.builder()
+                .user(saved)
+                .isNew(isNew)
+                .build();
     }
     
     /**
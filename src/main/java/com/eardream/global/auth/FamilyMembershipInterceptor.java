@@ -0,0 +1,83 @@
+package com.eardream.global.auth;
+
+import com.eardream.domain.families.service.FamilyMembershipIndex;
+import com.eardream.domain.user.dto.UserDto;
+import com.eardream.global.exception.ForbiddenException;
+import com.eardream.global.exception.UnauthorizedException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+/**
+ * @RequireFamilyMember 가 붙은 핸들러의 가족 멤버 권한 검사
+ * 멤버십은 FamilyMembershipIndex(메모리)에서 확인하므로 요청당 DB 조회가 없다.
+ */
+@Component
+@RequiredArgsConstructor
+public class FamilyMembershipInterceptor implements HandlerInterceptor {
+
+	private final FamilyMembershipIndex familyMembershipIndex;
+
+	@Override
+	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+		if (!(handler instanceof HandlerMethod handlerMethod)) {
+			return true;
+		}
+		RequireFamilyMember requirement = handlerMethod.getMethodAnnotation(RequireFamilyMember.class);
+		if (requirement == null) {
+			return true;
+		}
+
+		Long userId = currentUserId();
+		if (userId == null) {
+			throw new UnauthorizedException();
+		}
+
+		Long familyId = resolveFamilyId(request, requirement.value());
+		if (familyId == null) {
+			throw new ForbiddenException("가족 그룹 정보가 없습니다.");
+		}
+
+		boolean allowed = requirement.leaderOnly()
+				? familyMembershipIndex.isLeader(userId, familyId)
+				: familyMembershipIndex.isMember(userId, familyId);
+		if (!allowed) {
+			throw new ForbiddenException("가족 그룹 접근 권한이 없습니다.");
+		}
+		return true;
+	}
+
+	private Long currentUserId() {
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		if (authentication != null && authentication.getPrincipal() instanceof UserDto user) {
+			return user.getUserId();
+		}
+		return null;
+	}
+
+	@SuppressWarnings("unchecked")
+	private Long resolveFamilyId(HttpServletRequest request, String name) {
+		Map<String, String> pathVariables =
+				(Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+		String raw = pathVariables != null ? pathVariables.get(name) : null;
+		if (raw == null) {
+			raw = request.getParameter(name);
+		}
+		if (raw == null || raw.isBlank()) {
+			return null;
+		}
+		try {
+			return Long.valueOf(raw.trim());
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+}
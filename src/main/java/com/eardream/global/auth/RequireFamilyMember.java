@@ -0,0 +1,27 @@
+package com.eardream.global.auth;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 가족 멤버 권한 검사
+ * 호출자가 요청 대상 가족의 멤버(또는 리더)인지 FamilyMembershipInterceptor가 확인한다.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RequireFamilyMember {
+
+	/**
+	 * 가족 ID를 담은 경로 변수 또는 요청 파라미터 이름
+	 */
+	String value() default "id";
+
+	/**
+	 * 리더만 허용할지 여부
+	 */
+	boolean leaderOnly() default false;
+}
@@ -0,0 +1,35 @@
+package com.eardream.global.common;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * 목록 버전 (조건부 GET 검증자)
+ * 행 수와 최종 수정 시각으로 목록 변경 여부를 판단한다. 삭제는 행 수, 추가/수정은 수정 시각으로 드러난다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ListVersion {
+
+    /** 응답 형식이 바뀌면 올려서 기존 ETag 를 무효화 */
+    private static final String FORMAT_VERSION = "1";
+
+    private long rowCount;
+    private LocalDateTime lastUpdatedAt;
+
+    /**
+     * 약한 ETag (같은 데이터면 직렬화 결과가 달라도 같은 값)
+     */
+    public String toEtag(String scope) {
+        long updatedMillis = lastUpdatedAt == null ? 0L
+                : lastUpdatedAt.toInstant(ZoneOffset.UTC).toEpochMilli();
+        return "W/\"" + scope + "-v" + FORMAT_VERSION + "-" + rowCount + "-" + Long.toHexString(updatedMillis) + "\"";
+    }
+}
@@ -0,0 +1,33 @@
+package com.eardream.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 인쇄용 이미지 전처리 전용 스레드 풀
+ * 디코딩은 CPU/힙 부담이 크므로 스레드와 큐를 모두 제한하고, 큐가 차면 거절한다.
+ * (거절된 이미지는 소식지 편집 시 원본에서 직접 변환)
+ */
+@Configuration
+public class ImagePreprocessExecutorConfig {
+
+    @Bean(name = "imagePreprocessExecutor")
+    public ThreadPoolTaskExecutor imagePreprocessExecutor(
+            @Value("${posts.image-preprocess.threads:2}") int threads,
+            @Value("${posts.image-preprocess.queue-capacity:500}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("image-preprocess-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executor.initialize();
+        return executor;
+    }
+}
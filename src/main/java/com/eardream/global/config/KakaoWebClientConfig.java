@@ -0,0 +1,43 @@
+package com.eardream.global.config;
+
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+/**
+ * 카카오 OAuth 호출용 WebClient 설정
+ * 커넥션 풀을 재사용해 로그인마다 TCP/TLS 연결을 새로 맺지 않도록 한다.
+ */
+@Configuration
+public class KakaoWebClientConfig {
+
+    @Bean(name = "kakaoWebClient")
+    public WebClient kakaoWebClient(
+            WebClient.Builder builder,
+            @Value("${kakao.client.max-connections:100}") int maxConnections,
+            @Value("${kakao.client.pending-acquire-timeout-ms:2000}") long pendingAcquireTimeoutMs,
+            @Value("${kakao.client.max-idle-time-ms:30000}") long maxIdleTimeMs,
+            @Value("${kakao.client.connect-timeout-ms:2000}") int connectTimeoutMs,
+            @Value("${kakao.client.response-timeout-ms:3000}") long responseTimeoutMs) {
+        ConnectionProvider provider = ConnectionProvider.builder("kakao")
+                .maxConnections(maxConnections)
+                .pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeoutMs))
+                .maxIdleTime(Duration.ofMillis(maxIdleTimeMs))
+                .build();
+
+        HttpClient httpClient = HttpClient.create(provider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
+                .responseTimeout(Duration.ofMillis(responseTimeoutMs));
+
+        return builder
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+}
@@ -1,5 +1,7 @@
 package com.eardream.global.config;
 
+import com.eardream.global.crypto.EncryptedStringTypeHandler;
+import com.eardream.global.crypto.FieldEncryptor;
 import org.apache.ibatis.session.SqlSessionFactory;
 import org.apache.ibatis.type.TypeHandler;
 import org.apache.ibatis.type.TypeHandlerRegistry;
@@ -18,7 +20,9 @@ public class MybatisConfig {
      * MyBatis Configuration Customizer - TypeHandler 등록
      */
     @Bean
-    public ConfigurationCustomizer mybatisConfigurationCustomizer() {
+    public ConfigurationCustomizer mybatisConfigurationCustomizer(FieldEncryptor fieldEncryptor) {
+        // 암호화 컬럼 TypeHandler 는 MyBatis 가 직접 생성하므로 매퍼 로딩 전에 엔진을 연결
+        EncryptedStringTypeHandler.initialize(fieldEncryptor);
         return configuration -> {
             TypeHandlerRegistry registry = configuration.getTypeHandlerRegistry();
             // String 타입에 대해 OracleNullTypeHandler 등록
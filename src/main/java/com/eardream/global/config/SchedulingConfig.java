@@ -0,0 +1,13 @@
+package com.eardream.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정
+ * 아웃박스 폴러 등 주기 작업 활성화 (스레드 수는 spring.task.scheduling.pool.size)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,18 +1,24 @@
 package com.eardream.global.config;
 
+import com.eardream.global.auth.FamilyMembershipInterceptor;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 /**
  * Web MVC 설정
- * CORS, 정적 리소스 핸들링 등 설정
+ * CORS, 정적 리소스 핸들링, 가족 멤버 권한 인터셉터 등 설정
  */
 @Configuration
+@RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
     
+    private final FamilyMembershipInterceptor familyMembershipInterceptor;
+    
     @Value("${file.upload.path}")
     private String uploadPath;
     
@@ -35,6 +41,16 @@ public class WebConfig implements WebMvcConfigurer {
                 .maxAge(3600);
     }
     
+    /**
+     * 인터셉터 설정
+     * @RequireFamilyMember 핸들러의 가족 멤버 권한 검사
+     */
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(familyMembershipInterceptor)
+                .addPathPatterns("/api/v1/**");
+    }
+    
     /**
      * 정적 리소스 핸들러 설정
      * 업로드된 파일 서빙
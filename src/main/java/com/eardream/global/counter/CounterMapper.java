@@ -0,0 +1,23 @@
+package com.eardream.global.counter;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.Optional;
+
+/**
+ * 카운터 요약 테이블 매퍼
+ */
+@Mapper
+public interface CounterMapper {
+
+    /**
+     * 카운터 요약 조회
+     */
+    Optional<CounterSummary> findByKey(@Param("counterKey") String counterKey);
+
+    /**
+     * 카운터 요약 저장 (없으면 생성)
+     */
+    int upsert(@Param("counterKey") String counterKey, @Param("counterValue") long counterValue);
+}
@@ -0,0 +1,27 @@
+package com.eardream.global.counter;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 카운터 요약 테이블 행 (counter_summary)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CounterSummary {
+
+    /** 카운터 키 (ex: subscription.status.ACTIVE) */
+    private String counterKey;
+
+    /** 마지막 재계산 값 */
+    private Long counterValue;
+
+    /** 마지막 재계산 일시 */
+    private LocalDateTime reconciledAt;
+}
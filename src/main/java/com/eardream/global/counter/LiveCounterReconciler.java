@@ -0,0 +1,25 @@
+package com.eardream.global.counter;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 실시간 카운터 주기 재계산
+ * 노드 간 차이, 커밋 직전 적재 경합 등으로 생긴 오차를 원천 COUNT로 보정한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LiveCounterReconciler {
+
+    private final LiveCounterRegistry liveCounterRegistry;
+
+    @Scheduled(fixedDelayString = "${counter.reconcile-interval-ms:300000}",
+            initialDelayString = "${counter.reconcile-initial-delay-ms:10000}")
+    public void reconcile() {
+        log.debug("카운터 재계산 시작");
+        liveCounterRegistry.reconcile();
+    }
+}
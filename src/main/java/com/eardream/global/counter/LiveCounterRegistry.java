@@ -0,0 +1,153 @@
+package com.eardream.global.counter;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 실시간 카운터 저장소
+ * COUNT(*) 대신 메모리 카운터를 증감해 O(1)로 개수를 제공한다.
+ * - 전역 카운터: 등록 시 원천 COUNT 쿼리를 함께 등록, Micrometer 게이지로 노출, counter_summary 테이블로 주기 재계산
+ * - 범위 카운터(사용자별 등): 최초 조회 시 COUNT로 적재, 재계산 주기마다 비워 다시 적재
+ * 증감은 트랜잭션 커밋 이후 반영하며, 다중 노드/유실 오차는 LiveCounterReconciler가 보정한다.
+ */
+@Slf4j
+@Component
+public class LiveCounterRegistry {
+
+    private static final String METER_NAME = "eardream.counter";
+
+    /** 범위 카운터 최대 보관 개수 (초과 시 비우고 다시 적재) */
+    private static final int MAX_SCOPED_COUNTERS = 10_000;
+
+    private final CounterMapper counterMapper;
+    private final MeterRegistry meterRegistry;
+    private final Duration maxSummaryAge;
+
+    private final Map<String, LongSupplier> sources = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> counters = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> scopedCounters = new ConcurrentHashMap<>();
+
+    public LiveCounterRegistry(CounterMapper counterMapper,
+                               MeterRegistry meterRegistry,
+                               @Value("${counter.reconcile-interval-ms:300000}") long reconcileIntervalMs) {
+        this.counterMapper = counterMapper;
+        this.meterRegistry = meterRegistry;
+        this.maxSummaryAge = Duration.ofMillis(reconcileIntervalMs * 2);
+    }
+
+    /**
+     * 전역 카운터 등록 (원천 COUNT 쿼리 + 게이지)
+     */
+    public void register(String key, LongSupplier source) {
+        if (sources.putIfAbsent(key, source) != null) {
+            return;
+        }
+        Gauge.builder(METER_NAME, () -> {
+                    AtomicLong counter = counters.get(key);
+                    return counter != null ? counter.get() : Double.NaN;
+                })
+                .tag("key", key)
+                .description("EarDream 실시간 카운터")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 전역 카운터 조회 (미적재 시 최근 요약값 또는 원천 COUNT로 적재)
+     */
+    public long get(String key) {
+        AtomicLong counter = counters.get(key);
+        if (counter == null) {
+            AtomicLong loaded = new AtomicLong(load(key));
+            AtomicLong existing = counters.putIfAbsent(key, loaded);
+            counter = existing != null ? existing : loaded;
+        }
+        return counter.get();
+    }
+
+    /**
+     * 범위 카운터 조회 (사용자별 결제 건수 등)
+     */
+    public long getScoped(String key, LongSupplier source) {
+        AtomicLong counter = scopedCounters.get(key);
+        if (counter == null) {
+            if (scopedCounters.size() >= MAX_SCOPED_COUNTERS) {
+                scopedCounters.clear();
+            }
+            AtomicLong loaded = new AtomicLong(source.getAsLong());
+            AtomicLong existing = scopedCounters.putIfAbsent(key, loaded);
+            counter = existing != null ? existing : loaded;
+        }
+        return counter.get();
+    }
+
+    /**
+     * 카운터 증감 (트랜잭션 중이면 커밋 이후 반영, 적재되지 않은 키는 무시)
+     */
+    public void add(String key, long delta) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(key, delta);
+                }
+            });
+        } else {
+            apply(key, delta);
+        }
+    }
+
+    /**
+     * 등록된 전역 카운터를 원천 COUNT로 재계산해 요약 테이블에 저장하고, 범위 카운터는 비운다.
+     */
+    public void reconcile() {
+        sources.forEach((key, source) -> {
+            try {
+                long value = source.getAsLong();
+                AtomicLong counter = counters.computeIfAbsent(key, k -> new AtomicLong());
+                long previous = counter.getAndSet(value);
+                counterMapper.upsert(key, value);
+                if (previous != value) {
+                    log.info("카운터 보정 - {}: {} -> {}", key, previous, value);
+                }
+            } catch (Exception e) {
+                log.warn("카운터 재계산 실패 - {}", key, e);
+            }
+        });
+        scopedCounters.clear();
+    }
+
+    private void apply(String key, long delta) {
+        AtomicLong counter = counters.get(key);
+        if (counter == null) {
+            counter = scopedCounters.get(key);
+        }
+        if (counter != null) {
+            counter.addAndGet(delta);
+        }
+    }
+
+    private long load(String key) {
+        LongSupplier source = sources.get(key);
+        if (source == null) {
+            throw new IllegalStateException("등록되지 않은 카운터입니다: " + key);
+        }
+
+        LocalDateTime freshAfter = LocalDateTime.now().minus(maxSummaryAge);
+        return counterMapper.findByKey(key)
+                .filter(summary -> summary.getReconciledAt() != null && summary.getReconciledAt().isAfter(freshAfter))
+                .map(CounterSummary::getCounterValue)
+                .orElseGet(source::getAsLong);
+    }
+}
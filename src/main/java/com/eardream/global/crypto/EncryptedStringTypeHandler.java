@@ -0,0 +1,62 @@
+package com.eardream.global.crypto;
+
+import org.apache.ibatis.type.BaseTypeHandler;
+import org.apache.ibatis.type.JdbcType;
+
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+
+/**
+ * 암호화 컬럼용 MyBatis TypeHandler
+ * 매퍼 XML에서 typeHandler 로 명시한 컬럼에만 적용된다 (String 전역 핸들러로 등록하지 않음).
+ * MyBatis 가 직접 생성하므로 암호화 엔진은 MybatisConfig 에서 주입한다.
+ */
+public class EncryptedStringTypeHandler extends BaseTypeHandler<String> {
+
+    private static volatile FieldEncryptor encryptor;
+
+    public static void initialize(FieldEncryptor fieldEncryptor) {
+        encryptor = fieldEncryptor;
+    }
+
+    @Override
+    public void setNonNullParameter(PreparedStatement ps, int i, String parameter, JdbcType jdbcType) throws SQLException {
+        ps.setString(i, encryptor().encrypt(parameter));
+    }
+
+    @Override
+    public void setParameter(PreparedStatement ps, int i, String parameter, JdbcType jdbcType) throws SQLException {
+        if (parameter == null) {
+            // Oracle 은 타입 없는 NULL 바인딩을 거부하므로 VARCHAR 로 지정
+            ps.setNull(i, Types.VARCHAR);
+            return;
+        }
+        setNonNullParameter(ps, i, parameter, jdbcType);
+    }
+
+    @Override
+    public String getNullableResult(ResultSet rs, String columnName) throws SQLException {
+        return encryptor().decrypt(rs.getString(columnName));
+    }
+
+    @Override
+    public String getNullableResult(ResultSet rs, int columnIndex) throws SQLException {
+        return encryptor().decrypt(rs.getString(columnIndex));
+    }
+
+    @Override
+    public String getNullableResult(CallableStatement cs, int columnIndex) throws SQLException {
+        return encryptor().decrypt(cs.getString(columnIndex));
+    }
+
+    private static FieldEncryptor encryptor() {
+        FieldEncryptor current = encryptor;
+        if (current == null) {
+            throw new IllegalStateException("필드 암호화 엔진이 초기화되지 않았습니다");
+        }
+        return current;
+    }
+}
@@ -0,0 +1,95 @@
+package com.eardream.global.crypto;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+/**
+ * 개인정보 컬럼 암호화 엔진 (AES-256-GCM)
+ * 키는 기동 시 한 번만 파싱해 보관하고, Cipher 는 생성 비용이 커서 스레드별로 재사용한다.
+ * 저장 형식: "ENC1:" + Base64(IV 12바이트 + 암호문 + 인증 태그 16바이트)
+ * 접두어가 없는 값은 암호화 도입 이전의 평문으로 보고 그대로 반환한다.
+ */
+@Component
+public class FieldEncryptor {
+
+    public static final String PREFIX = "ENC1:";
+
+    private static final String TRANSFORMATION = "AES/GCM/NoPadding";
+    private static final int KEY_LENGTH = 32;
+    private static final int IV_LENGTH = 12;
+    private static final int TAG_BITS = 128;
+
+    private final SecretKey key;
+    private final SecureRandom secureRandom = new SecureRandom();
+    private final ThreadLocal<Cipher> encryptCipher = ThreadLocal.withInitial(FieldEncryptor::newCipher);
+    private final ThreadLocal<Cipher> decryptCipher = ThreadLocal.withInitial(FieldEncryptor::newCipher);
+
+    public FieldEncryptor(@Value("${crypto.field-encryption.key}") String base64Key) {
+        byte[] keyBytes = Base64.getDecoder().decode(base64Key.trim());
+        if (keyBytes.length != KEY_LENGTH) {
+            throw new IllegalStateException("필드 암호화 키는 32바이트(Base64)여야 합니다");
+        }
+        this.key = new SecretKeySpec(keyBytes, "AES");
+    }
+
+    /**
+     * 평문 암호화 (null 은 그대로 null)
+     */
+    public String encrypt(String plaintext) {
+        if (plaintext == null) {
+            return null;
+        }
+        byte[] iv = new byte[IV_LENGTH];
+        secureRandom.nextBytes(iv);
+        try {
+            Cipher cipher = encryptCipher.get();
+            cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(TAG_BITS, iv));
+            byte[] encrypted = cipher.doFinal(plaintext.getBytes(StandardCharsets.UTF_8));
+
+            ByteBuffer buffer = ByteBuffer.allocate(IV_LENGTH + encrypted.length);
+            buffer.put(iv).put(encrypted);
+            return PREFIX + Base64.getEncoder().encodeToString(buffer.array());
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("필드 암호화에 실패했습니다", e);
+        }
+    }
+
+    /**
+     * 암호문 복호화 (접두어가 없는 기존 평문은 그대로 반환)
+     */
+    public String decrypt(String stored) {
+        if (stored == null || !stored.startsWith(PREFIX)) {
+            return stored;
+        }
+        byte[] payload = Base64.getDecoder().decode(stored.substring(PREFIX.length()));
+        if (payload.length < IV_LENGTH + TAG_BITS / 8) {
+            throw new IllegalStateException("암호문 형식이 올바르지 않습니다");
+        }
+        try {
+            Cipher cipher = decryptCipher.get();
+            cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(TAG_BITS, payload, 0, IV_LENGTH));
+            byte[] decrypted = cipher.doFinal(payload, IV_LENGTH, payload.length - IV_LENGTH);
+            return new String(decrypted, StandardCharsets.UTF_8);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("필드 복호화에 실패했습니다", e);
+        }
+    }
+
+    private static Cipher newCipher() {
+        try {
+            return Cipher.getInstance(TRANSFORMATION);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("AES-GCM 을 사용할 수 없습니다", e);
+        }
+    }
+}
@@ -55,6 +55,8 @@ public enum ErrorCode {
     PAYMENT_CANCEL_FAILED("PAYMENT_004", "결제 취소에 실패했습니다.", HttpStatus.INTERNAL_SERVER_ERROR),
     PAYMENT_CANCEL_NOT_ALLOWED("PAYMENT_005", "취소할 수 없는 결제입니다.", HttpStatus.BAD_REQUEST),
     PAYMENT_VERIFICATION_FAILED("PAYMENT_006", "결제 검증에 실패했습니다.", HttpStatus.BAD_REQUEST),
+    PAYMENT_INVALID_STATUS_TRANSITION("PAYMENT_007", "허용되지 않는 결제 상태 변경입니다.", HttpStatus.CONFLICT),
+    PAYMENT_STATUS_CONFLICT("PAYMENT_008", "다른 요청에 의해 결제 상태가 변경되었습니다. 다시 시도해주세요.", HttpStatus.CONFLICT),
     
     // 빌링키 에러
     BILLING_KEY_NOT_FOUND("BILLING_001", "빌링키를 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
@@ -81,7 +83,14 @@ public enum ErrorCode {
     SUBSCRIPTION_NOT_FOUND("SUBSCRIPTION_001", "구독 정보를 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
     SUBSCRIPTION_ACCESS_DENIED("SUBSCRIPTION_002", "구독 정보 접근 권한이 없습니다.", HttpStatus.FORBIDDEN),
     SUBSCRIPTION_ALREADY_EXISTS("SUBSCRIPTION_003", "이미 존재하는 구독입니다.", HttpStatus.CONFLICT),
-    SUBSCRIPTION_CANCEL_FAILED("SUBSCRIPTION_004", "구독 취소에 실패했습니다.", HttpStatus.INTERNAL_SERVER_ERROR);
+    SUBSCRIPTION_CANCEL_FAILED("SUBSCRIPTION_004", "구독 취소에 실패했습니다.", HttpStatus.INTERNAL_SERVER_ERROR),
+    
+    // 대시보드 에러
+    DASHBOARD_TIMEOUT("DASHBOARD_001", "홈 화면 정보를 불러오는 시간이 초과되었습니다.", HttpStatus.GATEWAY_TIMEOUT),
+    
+    // 소식지 발행 에러
+    PUBLICATION_NOT_FOUND("PUBLICATION_001", "소식지 발행 정보를 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
+    PUBLICATION_INVALID_STATUS_TRANSITION("PUBLICATION_002", "허용되지 않는 발행 상태 변경입니다.", HttpStatus.CONFLICT);
     
     private final String code;
     private final String message;
@@ -0,0 +1,61 @@
+package com.eardream.global.outbox;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 아웃박스 이벤트 엔티티 (outbox_events 테이블)
+ * 도메인 변경과 같은 트랜잭션에서 저장되고, 폴러가 커밋 이후 리스너로 전달한다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxEvent {
+
+    /** 이벤트 ID (자동증가, 발행 순서) */
+    private Long id;
+
+    /** 애그리거트 타입 (PAYMENT, SUBSCRIPTION) */
+    private String aggregateType;
+
+    /** 애그리거트 ID */
+    private String aggregateId;
+
+    /** 이벤트 타입 */
+    private OutboxEventType eventType;
+
+    /** 이벤트 본문 (JSON) */
+    private String payload;
+
+    /** 발행 상태 */
+    private OutboxStatus status;
+
+    /** 전달 시도 횟수 */
+    private Integer attempts;
+
+    /** 마지막 전달 실패 사유 */
+    private String lastError;
+
+    /** 생성일시 */
+    private LocalDateTime createdAt;
+
+    /** 발행일시 */
+    private LocalDateTime publishedAt;
+
+    /** 다음 전달 시도 가능 시각 (실패 시 지수 백오프) */
+    private LocalDateTime nextAttemptAt;
+
+    /**
+     * 아웃박스 발행 상태 enum
+     */
+    public enum OutboxStatus {
+        PENDING,    // 발행 대기
+        PUBLISHED,  // 발행 완료
+        FAILED      // 재시도 한도 초과
+    }
+}
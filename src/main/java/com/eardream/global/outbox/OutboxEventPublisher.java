@@ -0,0 +1,50 @@
+package com.eardream.global.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+
+/**
+ * 아웃박스 이벤트 기록기
+ * 호출한 서비스의 트랜잭션 안에서 이벤트 행만 저장하고, 실제 후속 처리는 OutboxPoller가 커밋 이후 수행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxEventPublisher {
+
+    private final OutboxMapper outboxMapper;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 이벤트 기록 (진행 중인 트랜잭션 필수)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(String aggregateType, String aggregateId, OutboxEventType eventType, Map<String, Object> payload) {
+        OutboxEvent event = OutboxEvent.builder()
+                .aggregateType(aggregateType)
+                .aggregateId(aggregateId)
+                .eventType(eventType)
+                .payload(toJson(payload))
+                .status(OutboxEvent.OutboxStatus.PENDING)
+                .attempts(0)
+                .build();
+
+        outboxMapper.insertEvent(event);
+        log.debug("아웃박스 이벤트 기록 - {} {}:{}", eventType, aggregateType, aggregateId);
+    }
+
+    private String toJson(Map<String, Object> payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("아웃박스 이벤트 직렬화 실패", e);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.eardream.global.outbox;
+
+/**
+ * 아웃박스 이벤트 타입
+ */
+public enum OutboxEventType {
+    PAYMENT_APPROVED("결제 승인"),
+    PAYMENT_FAILED("결제 실패"),
+    PAYMENT_CANCELLED("결제 취소"),
+    SUBSCRIPTION_PAUSED("구독 일시정지"),
+    SUBSCRIPTION_RESUMED("구독 재개"),
+    SUBSCRIPTION_CANCELLED("구독 해지");
+
+    private final String description;
+
+    OutboxEventType(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
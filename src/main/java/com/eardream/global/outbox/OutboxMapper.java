@@ -0,0 +1,43 @@
+package com.eardream.global.outbox;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 아웃박스 이벤트 MyBatis Mapper
+ */
+@Mapper
+public interface OutboxMapper {
+
+    /**
+     * 이벤트 저장
+     */
+    int insertEvent(OutboxEvent event);
+
+    /**
+     * 다음 시도 시각이 된 발행 대기 이벤트를 id 순으로 잠그고 조회 (다른 노드가 잠근 행은 건너뜀)
+     */
+    List<OutboxEvent> lockPendingBatch(@Param("limit") int limit);
+
+    /**
+     * 발행 완료 처리 (일괄)
+     */
+    int markPublished(@Param("ids") List<Long> ids);
+
+    /**
+     * 전달 실패 기록 (시도 횟수 증가, 다음 시도 시각을 지수 백오프로 미룸, 한도 도달 시 FAILED)
+     */
+    int markAttemptFailed(@Param("id") Long id,
+                          @Param("lastError") String lastError,
+                          @Param("maxAttempts") int maxAttempts,
+                          @Param("baseBackoffSeconds") long baseBackoffSeconds,
+                          @Param("maxBackoffSeconds") long maxBackoffSeconds);
+
+    /**
+     * 보관 기간이 지난 발행 완료 이벤트 삭제
+     */
+    int deletePublishedBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,121 @@
+package com.eardream.global.outbox;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 아웃박스 폴러
+ * 발행 대기 이벤트를 배치로 잠가 인프로세스 리스너(@EventListener OutboxEvent)에 전달한다.
+ * 리스너는 이벤트마다 별도 트랜잭션(REQUIRES_NEW)에서 실행하므로, 리스너가 롤백돼도 잠금 트랜잭션의
+ * 발행 완료/실패 기록은 유지된다. 실패한 이벤트는 지수 백오프로 다음 시도를 미룬다.
+ * 전달 후 커밋 전에 장애가 나면 다시 전달되므로(at-least-once) 리스너는 이벤트 id 기준으로 멱등해야 한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "outbox.poller", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxPoller {
+
+    /** 실패 사유 컬럼 길이 */
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final OutboxMapper outboxMapper;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate listenerTransactionTemplate;
+
+    @Value("${outbox.poller.batch-size:100}")
+    private int batchSize;
+
+    @Value("${outbox.poller.max-batches-per-run:10}")
+    private int maxBatchesPerRun;
+
+    @Value("${outbox.poller.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${outbox.poller.base-backoff-seconds:5}")
+    private long baseBackoffSeconds;
+
+    @Value("${outbox.poller.max-backoff-seconds:3600}")
+    private long maxBackoffSeconds;
+
+    @Value("${outbox.retention-days:7}")
+    private int retentionDays;
+
+    public OutboxPoller(OutboxMapper outboxMapper,
+                        ApplicationEventPublisher applicationEventPublisher,
+                        PlatformTransactionManager transactionManager) {
+        this.outboxMapper = outboxMapper;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.listenerTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.listenerTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 발행 대기 이벤트 전달 (배치가 가득 차면 한 번의 실행에서 이어서 처리)
+     */
+    @Scheduled(fixedDelayString = "${outbox.poller.interval-ms:1000}")
+    public void poll() {
+        for (int i = 0; i < maxBatchesPerRun; i++) {
+            Integer dispatched = transactionTemplate.execute(status -> dispatchBatch());
+            if (dispatched == null || dispatched < batchSize) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 발행 완료 이벤트 정리
+     */
+    @Scheduled(cron = "${outbox.cleanup-cron:0 30 3 * * *}")
+    public void cleanup() {
+        int deleted = outboxMapper.deletePublishedBefore(LocalDateTime.now().minusDays(retentionDays));
+        if (deleted > 0) {
+            log.info("아웃박스 이벤트 정리 완료 - 삭제: {}건", deleted);
+        }
+    }
+
+    private int dispatchBatch() {
+        List<OutboxEvent> batch = outboxMapper.lockPendingBatch(batchSize);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> published = new ArrayList<>(batch.size());
+        for (OutboxEvent event : batch) {
+            try {
+                // 리스너가 롤백 전용으로 표시해도 잠금 트랜잭션에는 영향이 없도록 분리
+                listenerTransactionTemplate.executeWithoutResult(status -> applicationEventPublisher.publishEvent(event));
+                published.add(event.getId());
+            } catch (Exception e) {
+                log.warn("아웃박스 이벤트 전달 실패 - id: {}, type: {}", event.getId(), event.getEventType(), e);
+                outboxMapper.markAttemptFailed(event.getId(), truncate(e.getMessage()), maxAttempts,
+                        baseBackoffSeconds, maxBackoffSeconds);
+            }
+        }
+
+        if (!published.isEmpty()) {
+            outboxMapper.markPublished(published);
+        }
+        log.debug("아웃박스 이벤트 전달 - 대상: {}건, 성공: {}건", batch.size(), published.size());
+        return batch.size();
+    }
+
+    private String truncate(String message) {
+        if (message == null) {
+            return null;
+        }
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+}
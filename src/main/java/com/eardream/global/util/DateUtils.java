@@ -60,29 +60,37 @@ public class DateUtils {
     }
     
     /**
-     * 다음 정기 마감일 계산
+     * 특정 월의 정기 마감일
      * @param monthlyDeadline 2(둘째주) 또는 4(넷째주)
      */
-    public static LocalDate getNextDeadline(int monthlyDeadline) {
-        YearMonth currentMonth = YearMonth.now();
-        LocalDate deadline;
-        
+    public static LocalDate getDeadline(YearMonth yearMonth, int monthlyDeadline) {
         if (monthlyDeadline == 2) {
-            deadline = getSecondSundayOfMonth(currentMonth);
+            return getSecondSundayOfMonth(yearMonth);
         } else if (monthlyDeadline == 4) {
-            deadline = getFourthSundayOfMonth(currentMonth);
-        } else {
-            throw new IllegalArgumentException("Invalid monthly deadline: " + monthlyDeadline);
+            return getFourthSundayOfMonth(yearMonth);
         }
+        throw new IllegalArgumentException("Invalid monthly deadline: " + monthlyDeadline);
+    }
+    
+    /**
+     * 다음 정기 마감일 계산
+     * @param monthlyDeadline 2(둘째주) 또는 4(넷째주)
+     */
+    public static LocalDate getNextDeadline(int monthlyDeadline) {
+        return getNextDeadline(monthlyDeadline, LocalDate.now());
+    }
+    
+    /**
+     * 기준일 이후의 다음 정기 마감일 계산 (기준일 당일이 마감일이면 다음 달)
+     * @param monthlyDeadline 2(둘째주) 또는 4(넷째주)
+     */
+    public static LocalDate getNextDeadline(int monthlyDeadline, LocalDate today) {
+        YearMonth currentMonth = YearMonth.from(today);
+        LocalDate deadline = getDeadline(currentMonth, monthlyDeadline);
         
         // 이미 지난 경우 다음 달 마감일 반환
-        if (deadline.isBefore(LocalDate.now()) || deadline.isEqual(LocalDate.now())) {
-            YearMonth nextMonth = currentMonth.plusMonths(1);
-            if (monthlyDeadline == 2) {
-                deadline = getSecondSundayOfMonth(nextMonth);
-            } else {
-                deadline = getFourthSundayOfMonth(nextMonth);
-            }
+        if (!deadline.isAfter(today)) {
+            deadline = getDeadline(currentMonth.plusMonths(1), monthlyDeadline);
         }
         
         return deadline;
@@ -0,0 +1,9 @@
+-- 기존 DB 마이그레이션: 책자 표지 생성 실패 일시 컬럼 추가
+-- (schema.sql 로 새로 만든 DB 에는 필요 없음)
+--
+-- 책자 파일 수정(updateBookFiles)과 기동 시 표지 보충 조회가 books.cover_failed_at 을 읽고 쓰므로
+-- 컬럼이 없으면 책자 업로드/수정이 ORA-00904 로 실패한다. 반드시 새 버전 배포 전에 실행한다.
+
+ALTER TABLE books ADD (cover_failed_at TIMESTAMP);
+
+COMMENT ON COLUMN books.cover_failed_at IS '표지 생성 실패 일시 (NULL 이 아니면 표지 보충 대상에서 제외)';
@@ -0,0 +1,16 @@
+-- 기존 DB 마이그레이션: 실시간 카운터 요약 테이블 생성
+-- (schema.sql 로 새로 만든 DB 에는 필요 없음)
+--
+-- LiveCounterReconciler 는 주기적으로 counter_summary 에 MERGE 하고 LiveCounterRegistry 는 카운터를 처음 읽을 때
+-- 이 테이블을 조회하므로, 테이블이 없으면 재계산과 카운터 조회가 ORA-00942 로 실패한다. 반드시 새 버전 배포 전에 실행한다.
+
+CREATE TABLE counter_summary (
+    counter_key       VARCHAR2(100) PRIMARY KEY,
+    counter_value     NUMBER(19) DEFAULT 0 NOT NULL,
+    reconciled_at     TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+COMMENT ON TABLE counter_summary IS '구독/가족 개수 등 실시간 카운터의 주기 재계산 결과';
+COMMENT ON COLUMN counter_summary.counter_key IS '카운터 키 (ex: subscription.status.ACTIVE)';
+COMMENT ON COLUMN counter_summary.counter_value IS '재계산된 개수';
+COMMENT ON COLUMN counter_summary.reconciled_at IS '마지막 재계산 일시';
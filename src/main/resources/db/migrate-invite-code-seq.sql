@@ -0,0 +1,8 @@
+-- 기존 DB 마이그레이션: 초대코드 번호 시퀀스 생성
+-- (schema.sql 로 새로 만든 DB 에는 필요 없음)
+--
+-- InviteCodeAllocator 가 invite_code_seq 에서 번호 블록을 받으므로 없으면 가족 생성/초대코드 발급이 ORA-02289 로 실패한다.
+-- INCREMENT BY 는 InviteCodeAllocator.BLOCK_SIZE 와 같아야 한다.
+-- 기존 6자리 무작위 코드와 새 7자리 코드는 길이가 달라 겹치지 않으므로 기존 코드는 그대로 둔다.
+
+CREATE SEQUENCE invite_code_seq START WITH 1 INCREMENT BY 100 NOCACHE;
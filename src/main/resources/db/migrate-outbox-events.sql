@@ -0,0 +1,34 @@
+-- 기존 DB 마이그레이션: 트랜잭셔널 아웃박스 테이블 생성
+-- (schema.sql 로 새로 만든 DB 에는 필요 없음)
+--
+-- OutboxEventPublisher 는 결제/구독 트랜잭션 안에서(MANDATORY) 이벤트를 기록하므로, 테이블이 없으면
+-- 결제 승인/실패/취소와 구독 변경이 ORA-00942 로 모두 롤백된다. 반드시 새 버전 배포 전에 실행한다.
+
+CREATE TABLE outbox_events (
+    id                NUMBER GENERATED AS IDENTITY PRIMARY KEY,
+    aggregate_type    VARCHAR2(30) NOT NULL,
+    aggregate_id      VARCHAR2(50) NOT NULL,
+    event_type        VARCHAR2(50) NOT NULL,
+    payload           VARCHAR2(4000),
+    status            VARCHAR2(20) DEFAULT 'PENDING' NOT NULL,
+    attempts          NUMBER(5) DEFAULT 0 NOT NULL,
+    last_error        VARCHAR2(500),
+    created_at        TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    published_at      TIMESTAMP,
+    next_attempt_at   TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_outbox_events_status ON outbox_events (status, id);
+
+COMMENT ON TABLE outbox_events IS '결제/구독 도메인 이벤트 아웃박스 (같은 트랜잭션에서 기록 후 폴러가 발행)';
+COMMENT ON COLUMN outbox_events.id IS '이벤트 ID (자동증가, 발행 순서)';
+COMMENT ON COLUMN outbox_events.aggregate_type IS '애그리거트 타입 (PAYMENT, SUBSCRIPTION)';
+COMMENT ON COLUMN outbox_events.aggregate_id IS '애그리거트 ID';
+COMMENT ON COLUMN outbox_events.event_type IS '이벤트 타입 (PAYMENT_APPROVED 등)';
+COMMENT ON COLUMN outbox_events.payload IS '이벤트 본문 (JSON)';
+COMMENT ON COLUMN outbox_events.status IS '발행 상태 (PENDING, PUBLISHED, FAILED)';
+COMMENT ON COLUMN outbox_events.attempts IS '전달 시도 횟수';
+COMMENT ON COLUMN outbox_events.last_error IS '마지막 전달 실패 사유';
+COMMENT ON COLUMN outbox_events.created_at IS '생성일시';
+COMMENT ON COLUMN outbox_events.published_at IS '발행일시';
+COMMENT ON COLUMN outbox_events.next_attempt_at IS '다음 전달 시도 가능 시각 (실패 시 지수 백오프)';
@@ -0,0 +1,10 @@
+-- 기존 DB 마이그레이션: 결제 낙관적 잠금 버전 컬럼 추가
+-- (schema.sql 로 새로 만든 DB 에는 필요 없음)
+--
+-- PaymentStateMachine 의 상태 전이는 "... AND version = #{expectedVersion}" 조건으로 갱신하므로
+-- 컬럼이 없으면 모든 웹훅 상태 전이가 ORA-00904 로 실패한다. 반드시 새 버전 배포 전에 실행한다.
+-- DEFAULT 가 있는 NOT NULL 컬럼 추가는 기존 행을 다시 쓰지 않는 메타데이터 변경이라 운영 중에 실행해도 된다.
+
+ALTER TABLE payments ADD (version NUMBER(10) DEFAULT 0 NOT NULL);
+
+COMMENT ON COLUMN payments.version IS '낙관적 잠금 버전 (상태 변경 시 증가)';
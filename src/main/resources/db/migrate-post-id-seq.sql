@@ -0,0 +1,24 @@
+-- 기존 DB 마이그레이션: posts.id 를 IDENTITY 에서 post_id_seq 기본값으로 전환
+-- (schema.sql 로 새로 만든 DB 에는 필요 없음)
+--
+-- 소식 일괄 가져오기가 post_id_seq 에서 ID 를 미리 받아 INSERT 하므로, 운영 DB 에도 시퀀스를 만들고
+-- posts.id 의 IDENTITY 를 시퀀스 기본값으로 바꿔야 한다. 기존 행과 겹치지 않도록 시퀀스는 MAX(id) + 1 부터 시작한다.
+-- 실행 순서: 애플리케이션의 소식 작성을 멈춘 상태에서 아래 순서대로 실행 후 새 버전 배포
+
+-- 1. 시퀀스 생성 (현재 최대 ID 다음 값부터)
+DECLARE
+    v_start NUMBER;
+BEGIN
+    SELECT NVL(MAX(id), 0) + 1 INTO v_start FROM posts;
+    EXECUTE IMMEDIATE 'CREATE SEQUENCE post_id_seq START WITH ' || v_start || ' INCREMENT BY 1 CACHE 1000';
+END;
+/
+
+-- 2. IDENTITY 제거 (기존 값과 PK 는 그대로 유지, 내부 IDENTITY 시퀀스만 삭제됨)
+ALTER TABLE posts MODIFY id DROP IDENTITY;
+
+-- 3. 시퀀스를 기본값으로 지정 (ID 없이 INSERT 하는 기존 경로는 그대로 동작)
+ALTER TABLE posts MODIFY id DEFAULT post_id_seq.NEXTVAL;
+
+-- 확인: 다음 값이 MAX(id) 보다 커야 함
+-- SELECT post_id_seq.NEXTVAL, (SELECT MAX(id) FROM posts) FROM dual;
@@ -0,0 +1,15 @@
+-- 기존 DB 마이그레이션: 소식지 작성 선점 시각 컬럼과 발행 조회 인덱스 추가
+-- (schema.sql 로 새로 만든 DB 에는 필요 없음)
+--
+-- 월별 소식지 작성은 publications.preparing_at 으로 작업을 선점하므로 컬럼이 없으면 MERGE 가 ORA-00904 로 실패한다.
+-- 반드시 새 버전 배포 전에 실행한다.
+
+ALTER TABLE publications ADD (preparing_at TIMESTAMP);
+
+COMMENT ON COLUMN publications.preparing_at IS '소식지 작성 선점 일시 (오래되면 다른 작업이 다시 선점)';
+
+-- 월별 소식 조회 및 소식지 발행 대상 선정
+CREATE INDEX idx_posts_family_month ON posts (family_id, post_month);
+
+-- 월별/상태별 발행 목록 조회와 일괄 상태 변경
+CREATE INDEX idx_publications_month_status ON publications (publication_month, status, id);
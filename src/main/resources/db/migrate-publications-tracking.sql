@@ -0,0 +1,17 @@
+-- 기존 DB 마이그레이션: 배송 조회 간격 점증 컬럼과 조회 대상 인덱스 추가
+-- (schema.sql 로 새로 만든 DB 에는 필요 없음)
+--
+-- DeliveryTrackingPoller 는 tracking_next_check_at 이 지난 SHIPPED 소식지만 조회하고 tracking_attempts 로
+-- 다음 조회 간격을 늘리므로, 컬럼이 없으면 배송 조회와 운송장 등록이 ORA-00904 로 실패한다. 반드시 새 버전 배포 전에 실행한다.
+-- DEFAULT 가 있는 NOT NULL 컬럼 추가는 기존 행을 다시 쓰지 않는 메타데이터 변경이라 운영 중에 실행해도 된다.
+
+ALTER TABLE publications ADD (
+    tracking_attempts      NUMBER DEFAULT 0 NOT NULL,
+    tracking_next_check_at TIMESTAMP
+);
+
+COMMENT ON COLUMN publications.tracking_attempts IS '배송 조회 횟수 (조회 간격 점증용)';
+COMMENT ON COLUMN publications.tracking_next_check_at IS '다음 배송 조회 예정일시 (NULL 이면 즉시)';
+
+-- 조회 예정 시각이 지난 배송 중 소식지 선택
+CREATE INDEX idx_publications_tracking ON publications (status, tracking_next_check_at);
@@ -0,0 +1,13 @@
+-- 기존 DB 마이그레이션: 개인정보 암호화 컬럼 확장 (users.phone_number, users.address)
+-- (schema.sql 로 새로 만든 DB 에는 필요 없음)
+--
+-- phone_number/address 는 "ENC1:" + Base64(IV + 암호문 + 태그) 로 저장되어 평문보다 길다.
+-- (전화번호 13자 -> 약 60자, 주소는 UTF-8 바이트 기준 약 1.4배 + 44자)
+-- 컬럼을 넓히기 전에 새 버전을 배포하면 전화번호가 있는 사용자 INSERT/MERGE/UPDATE 가 ORA-12899 로 실패하므로
+-- 반드시 배포 전에 실행한다. 길이 확장은 기존 데이터를 바꾸지 않으므로 운영 중에 실행해도 된다.
+
+ALTER TABLE users MODIFY (phone_number VARCHAR2(200), address VARCHAR2(1000));
+
+-- 확인
+-- SELECT column_name, data_length FROM user_tab_columns
+--  WHERE table_name = 'USERS' AND column_name IN ('PHONE_NUMBER', 'ADDRESS');
@@ -4,14 +4,15 @@
 -- 1. 테이블 생성 (Table Creation)
 -- =================================================================
 
+-- phone_number/address 는 암호문(ENC1:) 저장 길이, 기존 DB 는 db/migrate-users-encrypted-columns.sql 로 확장
 CREATE TABLE users (
                        id                NUMBER GENERATED AS IDENTITY PRIMARY KEY,
                        kakao_id          VARCHAR2(255) UNIQUE,
                        name              VARCHAR2(100) NOT NULL,
-                       phone_number      VARCHAR2(20),
+                       phone_number      VARCHAR2(200),
                        profile_image_url VARCHAR2(500),
                        birth_date        DATE,
-                       address           VARCHAR2(500),
+                       address           VARCHAR2(1000),
                        created_at        TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
                        updated_at        TIMESTAMP DEFAULT CURRENT_TIMESTAMP
 );
@@ -31,6 +32,16 @@ CREATE TABLE families (
 
 );
 
+-- 초대코드 번호 시퀀스 (INCREMENT BY = 애플리케이션 블록 크기, InviteCodeAllocator.BLOCK_SIZE)
+-- 기존 DB 는 db/migrate-invite-code-seq.sql 로 생성
+CREATE SEQUENCE invite_code_seq START WITH 1 INCREMENT BY 100 NOCACHE;
+
+-- 초대코드 인덱스 변경분 동기화
+CREATE INDEX idx_families_updated ON families (updated_at);
+
+-- 마감 주차별 발행 대상 조회 (cohort + id 키셋)
+CREATE INDEX idx_families_deadline ON families (monthly_deadline, status, id);
+
 CREATE TABLE family_members (
                                 id                NUMBER GENERATED AS IDENTITY PRIMARY KEY,
                                 family_id         NUMBER NOT NULL,
@@ -43,8 +54,12 @@ CREATE TABLE family_members (
                                 CONSTRAINT uk_family_user UNIQUE (family_id, user_id)
 );
 
+-- 소식 ID 시퀀스 (일괄 가져오기에서 ID 를 미리 한 번에 받아 사진과 함께 배치 INSERT)
+-- 기존 DB 는 db/migrate-post-id-seq.sql 로 전환 (IDENTITY 제거, MAX(id) + 1 부터 시작)
+CREATE SEQUENCE post_id_seq START WITH 1 INCREMENT BY 1 CACHE 1000;
+
 CREATE TABLE posts (
-                       id                NUMBER GENERATED AS IDENTITY PRIMARY KEY,
+                       id                NUMBER DEFAULT post_id_seq.NEXTVAL PRIMARY KEY,
                        family_id         NUMBER NOT NULL,
                        user_id           NUMBER NOT NULL,
                        title             VARCHAR2(200) NOT NULL,
@@ -56,6 +71,12 @@ CREATE TABLE posts (
                        CONSTRAINT fk_posts_user FOREIGN KEY (user_id) REFERENCES users(id)
 );
 
+-- 월별 소식 조회 및 소식지 발행 대상 선정 (기존 DB 는 db/migrate-publications-preparing.sql)
+CREATE INDEX idx_posts_family_month ON posts (family_id, post_month);
+
+-- 소식 목록 ETag 집계 (COUNT/MAX(updated_at) 를 인덱스만으로 계산)
+CREATE INDEX idx_posts_family_updated ON posts (family_id, updated_at);
+
 CREATE TABLE post_images (
                              id                NUMBER GENERATED AS IDENTITY PRIMARY KEY,
                              post_id           NUMBER NOT NULL,
@@ -66,6 +87,9 @@ CREATE TABLE post_images (
                              CONSTRAINT fk_post_images_post FOREIGN KEY (post_id) REFERENCES posts(id) ON DELETE CASCADE
 );
 
+-- 소식별 사진 조회 및 아카이브 내보내기 (post_id, id) 키셋
+CREATE INDEX idx_post_images_post ON post_images (post_id, id);
+
 CREATE TABLE subscriptions (
                                id                     NUMBER GENERATED AS IDENTITY PRIMARY KEY,
                                family_id              NUMBER NOT NULL,
@@ -88,12 +112,20 @@ CREATE TABLE publications (
                               status            VARCHAR2(20) DEFAULT 'PREPARING',
                               carrier_id   VARCHAR2(30),
                               tracking_number   VARCHAR2(30),
+                              tracking_attempts NUMBER DEFAULT 0 NOT NULL,     -- 기존 DB 는 db/migrate-publications-tracking.sql
+                              tracking_next_check_at TIMESTAMP,
+                              preparing_at      TIMESTAMP,                     -- 기존 DB 는 db/migrate-publications-preparing.sql
                               created_at        TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
                               delivered_at      TIMESTAMP,
                               CONSTRAINT fk_publications_family FOREIGN KEY (family_id) REFERENCES families(id),
                               CONSTRAINT uk_family_month UNIQUE (family_id, publication_month)
 );
 
+-- 기존 DB 는 db/migrate-publications-preparing.sql 로 생성
+CREATE INDEX idx_publications_month_status ON publications (publication_month, status, id);
+-- 기존 DB 는 db/migrate-publications-tracking.sql 로 생성
+CREATE INDEX idx_publications_tracking ON publications (status, tracking_next_check_at);
+
 CREATE TABLE invitations (
                              id                NUMBER GENERATED AS IDENTITY PRIMARY KEY,
                              family_id         NUMBER NOT NULL,
@@ -107,6 +139,11 @@ CREATE TABLE invitations (
                              CONSTRAINT fk_invitations_user FOREIGN KEY (invited_user_id) REFERENCES users(id)
 );
 
+-- 대기 초대 목록 조회 (family_id, status 조건 + created_at 정렬)
+CREATE INDEX idx_invitations_family_status ON invitations (family_id, status, created_at);
+-- 만료 초대 정리 배치
+CREATE INDEX idx_invitations_status_expires ON invitations (status, expires_at);
+
 -- =================================================================
 -- 2. 테이블 코멘트 (Table Comments)
 -- =================================================================
@@ -187,9 +224,12 @@ COMMENT ON COLUMN publications.id IS '소식지 발행 내부 고유 ID (대체
 COMMENT ON COLUMN publications.family_id IS '발행 대상 가족 그룹 ID';
 COMMENT ON COLUMN publications.publication_month IS '발행 월 (YYYY-MM)';
 COMMENT ON COLUMN publications.pdf_url IS '완성된 소식지 PDF 로컬 저장 경로 (/uploads/pdfs/)';
-COMMENT ON COLUMN publications.status IS '발행 상태 (PREPARING, READY, DELIVERED)';
+COMMENT ON COLUMN publications.status IS '발행 상태 (PREPARING, READY, FAILED, SHIPPED, DELIVERED)';
 COMMENT ON COLUMN publications.carrier_id IS '택배사 ID';
 COMMENT ON COLUMN publications.tracking_number IS '운송장 번호';
+COMMENT ON COLUMN publications.tracking_attempts IS '배송 조회 횟수 (조회 간격 점증용)';
+COMMENT ON COLUMN publications.tracking_next_check_at IS '다음 배송 조회 예정일시 (NULL 이면 즉시)';
+COMMENT ON COLUMN publications.preparing_at IS '소식지 작성 선점 일시 (오래되면 다른 작업이 다시 선점)';
 COMMENT ON COLUMN publications.created_at IS '발행 요청일시';
 COMMENT ON COLUMN publications.delivered_at IS '배송 완료일시';
 
@@ -213,17 +253,22 @@ CREATE TABLE books (
   name          VARCHAR2(200) NOT NULL,
   pdf_url       VARCHAR2(500),
   image_url     VARCHAR2(500),
+  cover_failed_at TIMESTAMP,     -- 기존 DB 는 db/migrate-books-cover-failed.sql
   created_at    TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
   updated_at    TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
   CONSTRAINT fk_books_family FOREIGN KEY (family_id) REFERENCES families(id)
 );
 
+-- 책자 목록 ETag 집계 (COUNT/MAX(updated_at) 를 인덱스만으로 계산)
+CREATE INDEX idx_books_family_updated ON books (family_id, updated_at);
+
 COMMENT ON TABLE books IS '가족별 소식 책자 (PDF/이미지 링크 포함)';
 COMMENT ON COLUMN books.id IS '책자 ID';
 COMMENT ON COLUMN books.family_id IS '가족 ID';
 COMMENT ON COLUMN books.name IS '책자 이름';
 COMMENT ON COLUMN books.pdf_url IS 'PDF 파일 경로(URL)';
 COMMENT ON COLUMN books.image_url IS '대표 이미지 경로(URL)';
+COMMENT ON COLUMN books.cover_failed_at IS '표지 생성 실패 일시 (NULL 이 아니면 표지 보충 대상에서 제외)';
 COMMENT ON COLUMN books.created_at IS '생성일시';
 COMMENT ON COLUMN books.updated_at IS '수정일시';
 
@@ -262,6 +307,7 @@ CREATE TABLE payments (
     cancelled_at            TIMESTAMP,
     created_at              TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at              TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    version                 NUMBER(10) DEFAULT 0 NOT NULL,   -- 기존 DB 는 db/migrate-payments-version.sql
     CONSTRAINT fk_payments_user FOREIGN KEY (user_id) REFERENCES users(id),
     CONSTRAINT fk_payments_family FOREIGN KEY (family_id) REFERENCES families(id)
 );
@@ -320,6 +366,7 @@ COMMENT ON COLUMN payments.requested_at IS '요청 일시';
 COMMENT ON COLUMN payments.approved_at IS '승인 일시';
 COMMENT ON COLUMN payments.failed_at IS '실패 일시';
 COMMENT ON COLUMN payments.cancelled_at IS '취소 일시';
+COMMENT ON COLUMN payments.version IS '낙관적 잠금 버전 (상태 변경 시 증가)';
 
 -- billing_keys 컬럼 코멘트
 COMMENT ON COLUMN billing_keys.billing_key_id IS '빌링키 고유 ID (UUID)';
@@ -336,3 +383,53 @@ COMMENT ON COLUMN billing_keys.status IS '빌링키 상태 (ACTIVE, INACTIVE, EX
 COMMENT ON COLUMN billing_keys.issued_at IS '발급 일시';
 COMMENT ON COLUMN billing_keys.expired_at IS '만료 일시';
 COMMENT ON COLUMN billing_keys.last_used_at IS '마지막 사용 일시';
+
+-- =================================================================
+-- 6. 트랜잭셔널 아웃박스 (Transactional Outbox)
+-- =================================================================
+-- 기존 DB 는 db/migrate-outbox-events.sql 로 생성
+
+CREATE TABLE outbox_events (
+    id                NUMBER GENERATED AS IDENTITY PRIMARY KEY,
+    aggregate_type    VARCHAR2(30) NOT NULL,
+    aggregate_id      VARCHAR2(50) NOT NULL,
+    event_type        VARCHAR2(50) NOT NULL,
+    payload           VARCHAR2(4000),
+    status            VARCHAR2(20) DEFAULT 'PENDING' NOT NULL,
+    attempts          NUMBER(5) DEFAULT 0 NOT NULL,
+    last_error        VARCHAR2(500),
+    created_at        TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    published_at      TIMESTAMP,
+    next_attempt_at   TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_outbox_events_status ON outbox_events (status, id);
+
+COMMENT ON TABLE outbox_events IS '결제/구독 도메인 이벤트 아웃박스 (같은 트랜잭션에서 기록 후 폴러가 발행)';
+COMMENT ON COLUMN outbox_events.id IS '이벤트 ID (자동증가, 발행 순서)';
+COMMENT ON COLUMN outbox_events.aggregate_type IS '애그리거트 타입 (PAYMENT, SUBSCRIPTION)';
+COMMENT ON COLUMN outbox_events.aggregate_id IS '애그리거트 ID';
+COMMENT ON COLUMN outbox_events.event_type IS '이벤트 타입 (PAYMENT_APPROVED 등)';
+COMMENT ON COLUMN outbox_events.payload IS '이벤트 본문 (JSON)';
+COMMENT ON COLUMN outbox_events.status IS '발행 상태 (PENDING, PUBLISHED, FAILED)';
+COMMENT ON COLUMN outbox_events.attempts IS '전달 시도 횟수';
+COMMENT ON COLUMN outbox_events.last_error IS '마지막 전달 실패 사유';
+COMMENT ON COLUMN outbox_events.created_at IS '생성일시';
+COMMENT ON COLUMN outbox_events.published_at IS '발행일시';
+COMMENT ON COLUMN outbox_events.next_attempt_at IS '다음 전달 시도 가능 시각 (실패 시 지수 백오프)';
+
+-- =================================================================
+-- 7. 실시간 카운터 요약 (Counter Summary)
+-- =================================================================
+-- 기존 DB 는 db/migrate-counter-summary.sql 로 생성
+
+CREATE TABLE counter_summary (
+    counter_key       VARCHAR2(100) PRIMARY KEY,
+    counter_value     NUMBER(19) DEFAULT 0 NOT NULL,
+    reconciled_at     TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+COMMENT ON TABLE counter_summary IS '구독/가족 개수 등 실시간 카운터의 주기 재계산 결과';
+COMMENT ON COLUMN counter_summary.counter_key IS '카운터 키 (ex: subscription.status.ACTIVE)';
+COMMENT ON COLUMN counter_summary.counter_value IS '재계산된 개수';
+COMMENT ON COLUMN counter_summary.reconciled_at IS '마지막 재계산 일시';
@@ -0,0 +1,139 @@
+package com.eardream.domain.auth.service;
+
+import com.eardream.domain.auth.dto.AuthResponse;
+import com.eardream.domain.user.dto.CreateUserRequest;
+import com.eardream.domain.user.dto.UserDto;
+import com.eardream.domain.user.dto.UserUpsertResult;
+import com.eardream.domain.user.service.UserService;
+import com.eardream.global.jwt.JwtTokenProvider;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("KakaoAuthService 단위 테스트")
+class KakaoAuthServiceTest {
+
+    private static final String USER_INFO_BODY =
+            "{\"id\":12345,\"properties\":{\"profile_image\":\"p.jpg\"},\"kakao_account\":{\"name\":\"홍길동\"}}";
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private JwtTokenProvider jwtTokenProvider;
+
+    private HttpServer server;
+    private KakaoAuthService kakaoAuthService;
+
+    private final AtomicInteger tokenCalls = new AtomicInteger();
+    private final AtomicInteger userInfoCalls = new AtomicInteger();
+    private volatile int tokenStatus = 200;
+    private volatile int userInfoFailures = 0;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/oauth/token", exchange -> {
+            tokenCalls.incrementAndGet();
+            respond(exchange, tokenStatus, "{\"access_token\":\"kakao-token\"}");
+        });
+        server.createContext("/v2/user/me", exchange -> {
+            int call = userInfoCalls.incrementAndGet();
+            if (call <= userInfoFailures) {
+                respond(exchange, 503, "{}");
+            } else {
+                respond(exchange, 200, USER_INFO_BODY);
+            }
+        });
+        server.start();
+
+        String baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+        kakaoAuthService = new KakaoAuthService(userService, jwtTokenProvider, WebClient.create());
+        ReflectionTestUtils.setField(kakaoAuthService, "kakaoClientId", "client");
+        ReflectionTestUtils.setField(kakaoAuthService, "kakaoClientSecret", "secret");
+        ReflectionTestUtils.setField(kakaoAuthService, "kakaoRedirectUri", "http://localhost/callback");
+        ReflectionTestUtils.setField(kakaoAuthService, "kakaoAuthBaseUrl", baseUrl);
+        ReflectionTestUtils.setField(kakaoAuthService, "kakaoApiBaseUrl", baseUrl);
+        ReflectionTestUtils.setField(kakaoAuthService, "callTimeoutMs", 2000L);
+        ReflectionTestUtils.setField(kakaoAuthService, "maxRetries", 2);
+        ReflectionTestUtils.setField(kakaoAuthService, "retryBackoffMs", 10L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        exchange.getRequestBody().readAllBytes();
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream os = exchange.getResponseBody()) {
+            os.write(bytes);
+        }
+    }
+
+    @Test
+    @DisplayName("카카오 로그인 성공 - 사용자 정보 조회 일시 장애는 재시도")
+    void authenticate_RetriesTransientUserInfoFailure() {
+        // given
+        userInfoFailures = 1;
+        UserDto user = UserDto.builder().userId(1L).kakaoId("12345").name("홍길동").build();
+        given(userService.upsertKakaoUser(any(CreateUserRequest.class)))
+                .willReturn(UserUpsertResult.builder().user(user).isNew(true).build());
+        given(jwtTokenProvider.generateAccessToken(anyLong(), anyString(), anyString())).willReturn("access");
+        given(jwtTokenProvider.generateRefreshToken(anyLong())).willReturn("refresh");
+        given(jwtTokenProvider.getAccessTokenExpiration()).willReturn(3_600_000L);
+
+        // when
+        AuthResponse response = kakaoAuthService.authenticateWithKakaoAsync("code").block();
+
+        // then
+        assertThat(response).isNotNull();
+        assertThat(response.getAccessToken()).isEqualTo("access");
+        assertThat(response.getIsNewUser()).isTrue();
+        assertThat(response.getExpiresIn()).isEqualTo(3600L);
+        assertThat(tokenCalls.get()).isEqualTo(1);
+        assertThat(userInfoCalls.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("토큰 발급 실패 - 1회용 인가 코드는 재시도하지 않음")
+    void authenticate_DoesNotRetryTokenExchange() {
+        // given
+        tokenStatus = 500;
+
+        // when & then
+        assertThatThrownBy(() -> kakaoAuthService.authenticateWithKakaoAsync("code").block())
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageStartingWith("카카오 인증 처리 실패");
+        assertThat(tokenCalls.get()).isEqualTo(1);
+        assertThat(userInfoCalls.get()).isZero();
+        verify(userService, never()).upsertKakaoUser(any());
+    }
+}
@@ -0,0 +1,100 @@
+package com.eardream.domain.books.service;
+
+import com.eardream.domain.books.dto.BookDto;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BookCoverGenerator 단위 테스트")
+class BookCoverGeneratorTest {
+
+	@Mock
+	private BookService bookService;
+
+	@TempDir
+	Path uploadDir;
+
+	private BookCoverGenerator generator;
+
+	@BeforeEach
+	void setUp() {
+		generator = new BookCoverGenerator(bookService, new SyncTaskExecutor(), uploadDir.toString(), 300, 0.85f, 0);
+	}
+
+	@Test
+	@DisplayName("PDF 업로드 - 첫 페이지 썸네일을 만들어 image_url 기록")
+	void onBookPdfUploaded_WritesCoverThumbnail() throws Exception {
+		// given
+		Files.createDirectories(uploadDir.resolve("pdfs"));
+		try (PDDocument document = new PDDocument()) {
+			document.addPage(new PDPage(PDRectangle.A4));
+			document.save(uploadDir.resolve("pdfs/book.pdf").toFile());
+		}
+		given(bookService.getBook(1L)).willReturn(BookDto.builder().id(1L).pdfUrl("/uploads/pdfs/book.pdf").build());
+
+		// when
+		generator.onBookPdfUploaded(new BookPdfUploadedEvent(1L));
+
+		// then
+		Path cover = uploadDir.resolve("images/covers/1.jpg");
+		assertThat(cover).exists();
+		BufferedImage image = ImageIO.read(cover.toFile());
+		assertThat(image.getWidth()).isEqualTo(300);
+		verify(bookService).updateBookFiles(1L, "/uploads/pdfs/book.pdf", "/uploads/images/covers/1.jpg");
+	}
+
+	@Test
+	@DisplayName("표지 이미지가 이미 있으면 생성하지 않음")
+	void generate_SkipsBooksWithImage() throws Exception {
+		// given
+		given(bookService.getBook(2L)).willReturn(BookDto.builder().id(2L)
+				.pdfUrl("/uploads/pdfs/book.pdf").imageUrl("/uploads/images/cover.jpg").build());
+
+		// when
+		String imageUrl = generator.generate(2L);
+
+		// then
+		assertThat(imageUrl).isNull();
+		verify(bookService, never()).updateBookFiles(anyLong(), any(), any());
+	}
+
+	@Test
+	@DisplayName("PDF 를 읽을 수 없으면 실패로 기록해 보충 대상에서 제외")
+	void onBookPdfUploaded_MarksFailureForUnreadablePdf() throws Exception {
+		// given
+		Files.createDirectories(uploadDir.resolve("pdfs"));
+		Files.writeString(uploadDir.resolve("pdfs/broken.pdf"), "not a pdf");
+		given(bookService.getBook(3L)).willReturn(BookDto.builder().id(3L).pdfUrl("/uploads/pdfs/broken.pdf").build());
+		given(bookService.getBook(4L)).willReturn(BookDto.builder().id(4L).pdfUrl("/uploads/pdfs/missing.pdf").build());
+
+		// when
+		generator.onBookPdfUploaded(new BookPdfUploadedEvent(3L));
+		generator.onBookPdfUploaded(new BookPdfUploadedEvent(4L));
+
+		// then
+		verify(bookService).markCoverFailed(3L);
+		verify(bookService).markCoverFailed(4L);
+		verify(bookService, never()).updateBookFiles(anyLong(), any(), any());
+	}
+}
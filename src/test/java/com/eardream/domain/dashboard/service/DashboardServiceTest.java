@@ -0,0 +1,105 @@
+package com.eardream.domain.dashboard.service;
+
+import com.eardream.domain.dashboard.dto.FamilyDashboardDto;
+import com.eardream.domain.families.dto.FamilyDto;
+import com.eardream.domain.families.dto.InvitationReviewDto;
+import com.eardream.domain.families.service.FamilyMembershipIndex;
+import com.eardream.domain.families.service.FamilyService;
+import com.eardream.domain.posts.service.PostService;
+import com.eardream.domain.subscription.service.SubscriptionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DashboardService 단위 테스트")
+class DashboardServiceTest {
+
+	@Mock
+	private FamilyService familyService;
+
+	@Mock
+	private PostService postService;
+
+	@Mock
+	private SubscriptionService subscriptionService;
+
+	@Mock
+	private FamilyMembershipIndex familyMembershipIndex;
+
+	private DashboardService dashboardService;
+
+	@BeforeEach
+	void setUp() {
+		// 테스트에서는 호출 스레드에서 바로 실행
+		dashboardService = new DashboardService(familyService, postService, subscriptionService,
+				familyMembershipIndex, Runnable::run, 1000);
+	}
+
+	@Test
+	@DisplayName("리더 - 모든 섹션 조회, 구독 없으면 null")
+	void getDashboard_Leader() {
+		// given
+		given(familyMembershipIndex.isLeader(7L, 1L)).willReturn(true);
+		given(familyService.getFamily(1L)).willReturn(FamilyDto.builder().familyId(1L).familyName("우리 가족").build());
+		given(familyService.getMembers(1L)).willReturn(List.of());
+		given(familyService.getPendingInvitations(1L)).willReturn(List.of(new InvitationReviewDto()));
+		given(postService.getPostsByFamilyAndMonth(eq(1L), anyString())).willReturn(List.of());
+		given(subscriptionService.findMySubscription(1L)).willReturn(Optional.empty());
+
+		// when
+		FamilyDashboardDto result = dashboardService.getDashboard(1L, 7L);
+
+		// then
+		assertThat(result.getFamily().getFamilyName()).isEqualTo("우리 가족");
+		assertThat(result.getPendingInvitations()).hasSize(1);
+		assertThat(result.getSubscription()).isNull();
+		assertThat(result.getPostMonth()).isNotBlank();
+	}
+
+	@Test
+	@DisplayName("일반 멤버 - 대기 초대는 조회하지 않음")
+	void getDashboard_Member() {
+		// given
+		given(familyMembershipIndex.isLeader(7L, 1L)).willReturn(false);
+		given(familyService.getFamily(1L)).willReturn(FamilyDto.builder().familyId(1L).build());
+		given(familyService.getMembers(1L)).willReturn(List.of());
+		given(postService.getPostsByFamilyAndMonth(eq(1L), anyString())).willReturn(List.of());
+		given(subscriptionService.findMySubscription(1L)).willReturn(Optional.empty());
+
+		// when
+		FamilyDashboardDto result = dashboardService.getDashboard(1L, 7L);
+
+		// then
+		assertThat(result.getPendingInvitations()).isEmpty();
+		verify(familyService, never()).getPendingInvitations(anyLong());
+	}
+
+	@Test
+	@DisplayName("섹션 실패 - 원래 예외 전달")
+	void getDashboard_SectionFailure() {
+		// given
+		given(familyMembershipIndex.isLeader(7L, 1L)).willReturn(false);
+		given(familyService.getFamily(1L)).willThrow(new IllegalArgumentException("가족을 찾을 수 없습니다: 1"));
+
+		// when & then
+		assertThatThrownBy(() -> dashboardService.getDashboard(1L, 7L))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("가족을 찾을 수 없습니다: 1");
+	}
+}
@@ -0,0 +1,134 @@
+package com.eardream.domain.families.service;
+
+import com.eardream.domain.books.dto.BookDto;
+import com.eardream.domain.books.service.BookService;
+import com.eardream.domain.posts.entity.Post;
+import com.eardream.domain.posts.entity.PostImage;
+import com.eardream.domain.posts.mapper.PostMapper;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("FamilyArchiveExporter 단위 테스트")
+class FamilyArchiveExporterTest {
+
+	@TempDir
+	Path uploadDir;
+
+	private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+	@Test
+	@DisplayName("아카이브 내보내기 - 소식 JSON 에 사진을 묶고, JPEG/PDF 는 STORE 로 담음")
+	void export_WritesPostsJsonAndStoresCompressedFiles() throws Exception {
+		// given
+		Files.createDirectories(uploadDir.resolve("images"));
+		Files.createDirectories(uploadDir.resolve("pdfs"));
+		Files.write(uploadDir.resolve("images/a.jpg"), new byte[] {1, 2, 3});
+		Files.write(uploadDir.resolve("images/note.txt"), "memo".getBytes(StandardCharsets.UTF_8));
+		Files.write(uploadDir.resolve("pdfs/book.pdf"), new byte[] {4, 5});
+
+		List<Post> posts = List.of(
+				Post.builder().id(1L).familyId(9L).userId(7L).title("첫 소식").build(),
+				Post.builder().id(2L).familyId(9L).userId(7L).title("둘째 소식").build());
+		List<PostImage> images = List.of(
+				PostImage.builder().id(11L).postId(1L).imageUrl("/uploads/images/a.jpg").imageOrder(1).build(),
+				PostImage.builder().id(12L).postId(1L).imageUrl("/uploads/images/note.txt").imageOrder(2).build(),
+				PostImage.builder().id(13L).postId(2L).imageUrl("/uploads/images/missing.jpg").imageOrder(1).build());
+
+		PostMapper postMapper = mock(PostMapper.class);
+		BookService bookService = mock(BookService.class);
+		given(postMapper.findPostsByFamilyIdAfterId(9L, 0L, 500)).willReturn(posts);
+		given(postMapper.findImagesByFamilyIdAfter(9L, 0L, 0L, 500)).willReturn(images);
+		given(bookService.getBooks(9L)).willReturn(List.of(
+				BookDto.builder().id(5L).familyId(9L).name("책자").pdfUrl("/uploads/pdfs/book.pdf").build()));
+		FamilyArchiveExporter exporter = new FamilyArchiveExporter(postMapper, bookService, objectMapper, uploadDir.toString());
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+		// when
+		int files = exporter.export(9L, output);
+
+		// then
+		Map<String, ZipEntry> entries = new HashMap<>();
+		Map<String, byte[]> contents = new HashMap<>();
+		try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(output.toByteArray()))) {
+			for (ZipEntry entry; (entry = zip.getNextEntry()) != null; ) {
+				entries.put(entry.getName(), entry);
+				contents.put(entry.getName(), zip.readAllBytes());
+			}
+		}
+		assertThat(files).isEqualTo(3);
+		assertThat(entries).containsOnlyKeys("posts.json", "books.json",
+				"files/images/a.jpg", "files/images/note.txt", "files/pdfs/book.pdf");
+		assertThat(entries.get("files/images/a.jpg").getMethod()).isEqualTo(ZipEntry.STORED);
+		assertThat(entries.get("files/pdfs/book.pdf").getMethod()).isEqualTo(ZipEntry.STORED);
+		assertThat(entries.get("files/images/note.txt").getMethod()).isEqualTo(ZipEntry.DEFLATED);
+		assertThat(contents.get("files/images/a.jpg")).containsExactly(1, 2, 3);
+
+		JsonNode postsJson = objectMapper.readTree(contents.get("posts.json"));
+		assertThat(postsJson).hasSize(2);
+		assertThat(postsJson.get(0).get("title").asText()).isEqualTo("첫 소식");
+		assertThat(postsJson.get(0).get("images")).hasSize(2);
+		assertThat(postsJson.get(1).get("images")).hasSize(1);
+	}
+
+	@Test
+	@DisplayName("아카이브 내보내기 - 사진은 (post_id, id) 키셋으로 페이지를 이어서 조회")
+	void export_PagesImagesByKeyset() throws Exception {
+		// given
+		List<PostImage> firstPage = LongStream.rangeClosed(1, 500)
+				.mapToObj(id -> PostImage.builder().id(id).postId(1L).imageUrl("/uploads/images/" + id + ".jpg").build())
+				.toList();
+		List<PostImage> secondPage = List.of(
+				PostImage.builder().id(501L).postId(2L).imageUrl("/uploads/images/501.jpg").build());
+
+		PostMapper postMapper = mock(PostMapper.class);
+		BookService bookService = mock(BookService.class);
+		given(postMapper.findPostsByFamilyIdAfterId(9L, 0L, 500)).willReturn(List.of(
+				Post.builder().id(1L).familyId(9L).title("첫 소식").build(),
+				Post.builder().id(2L).familyId(9L).title("둘째 소식").build()));
+		given(postMapper.findImagesByFamilyIdAfter(9L, 0L, 0L, 500)).willReturn(firstPage);
+		given(postMapper.findImagesByFamilyIdAfter(9L, 1L, 500L, 500)).willReturn(secondPage);
+		given(bookService.getBooks(9L)).willReturn(List.of());
+		FamilyArchiveExporter exporter = new FamilyArchiveExporter(postMapper, bookService, objectMapper, uploadDir.toString());
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+		// when
+		exporter.export(9L, output);
+
+		// then
+		byte[] postsJson = null;
+		try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(output.toByteArray()))) {
+			for (ZipEntry entry; (entry = zip.getNextEntry()) != null; ) {
+				if (entry.getName().equals("posts.json")) {
+					postsJson = zip.readAllBytes();
+				}
+			}
+		}
+		JsonNode posts = objectMapper.readTree(postsJson);
+		assertThat(posts.get(0).get("images")).hasSize(500);
+		assertThat(posts.get(1).get("images")).hasSize(1);
+		// 소식 JSON 과 파일 복사에서 각각 두 페이지씩 조회
+		verify(postMapper, times(2)).findImagesByFamilyIdAfter(9L, 0L, 0L, 500);
+		verify(postMapper, times(2)).findImagesByFamilyIdAfter(9L, 1L, 500L, 500);
+	}
+}
@@ -0,0 +1,68 @@
+package com.eardream.domain.families.service;
+
+import com.eardream.domain.families.entity.FamilyMember;
+import com.eardream.domain.families.mapper.FamilyMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FamilyMembershipIndex 단위 테스트")
+class FamilyMembershipIndexTest {
+
+	@Mock
+	private FamilyMapper familyMapper;
+
+	private FamilyMembershipIndex familyMembershipIndex;
+
+	@BeforeEach
+	void setUp() {
+		familyMembershipIndex = new FamilyMembershipIndex(familyMapper, 300);
+	}
+
+	private FamilyMember member(Long familyId, String role) {
+		return FamilyMember.builder().familyId(familyId).userId(7L).role(role).build();
+	}
+
+	@Test
+	@DisplayName("멤버십 확인 - 사용자당 한 번만 조회")
+	void isMember_LoadsOncePerUser() {
+		// given
+		given(familyMapper.findMembershipsByUserId(7L))
+				.willReturn(List.of(member(1L, "LEADER"), member(2L, "MEMBER")));
+
+		// when & then
+		assertThat(familyMembershipIndex.isMember(7L, 1L)).isTrue();
+		assertThat(familyMembershipIndex.isLeader(7L, 1L)).isTrue();
+		assertThat(familyMembershipIndex.isLeader(7L, 2L)).isFalse();
+		assertThat(familyMembershipIndex.isMember(7L, 3L)).isFalse();
+		verify(familyMapper, times(1)).findMembershipsByUserId(7L);
+	}
+
+	@Test
+	@DisplayName("멤버 변경 이벤트 - 해당 사용자 다시 적재")
+	void onMembershipChanged_Reloads() {
+		// given
+		given(familyMapper.findMembershipsByUserId(7L))
+				.willReturn(List.of(member(1L, "MEMBER")))
+				.willReturn(List.of());
+		assertThat(familyMembershipIndex.isMember(7L, 1L)).isTrue();
+
+		// when
+		familyMembershipIndex.onMembershipChanged(new FamilyMembershipChangedEvent(1L, 7L));
+
+		// then
+		assertThat(familyMembershipIndex.isMember(7L, 1L)).isFalse();
+		verify(familyMapper, times(2)).findMembershipsByUserId(7L);
+	}
+}
@@ -0,0 +1,164 @@
+package com.eardream.domain.families.service;
+
+import com.eardream.domain.families.dto.ApproveInvitationRequest;
+import com.eardream.domain.families.dto.BulkInvitationDecisionRequest;
+import com.eardream.domain.families.dto.BulkInvitationDecisionResponse;
+import com.eardream.domain.families.entity.FamilyMember;
+import com.eardream.domain.families.entity.Invitation;
+import com.eardream.domain.families.mapper.FamilyMapper;
+import com.eardream.domain.user.service.UserService;
+import com.eardream.global.counter.LiveCounterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FamilyService 단위 테스트")
+class FamilyServiceTest {
+
+	@Mock
+	private FamilyMapper familyMapper;
+
+	@Mock
+	private UserService userService;
+
+	@Mock
+	private LiveCounterRegistry liveCounterRegistry;
+
+	@Mock
+	private InviteCodeIndex inviteCodeIndex;
+
+	@Mock
+	private InviteCodeAllocator inviteCodeAllocator;
+
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
+	@InjectMocks
+	private FamilyService familyService;
+
+	private Invitation pending(Long id, Long userId) {
+		return Invitation.builder().id(id).familyId(1L).invitedUserId(userId).status("PENDING").build();
+	}
+
+	private ApproveInvitationRequest approval(Long invitationId, String relationship) {
+		return ApproveInvitationRequest.builder().invitationId(invitationId).relationship(relationship).build();
+	}
+
+	@Test
+	@DisplayName("초대 일괄 처리 성공 - 검증 1회, 일괄 업데이트, 다중 멤버 insert")
+	@SuppressWarnings("unchecked")
+	void decideInvitations_Success() {
+		// given
+		BulkInvitationDecisionRequest request = BulkInvitationDecisionRequest.builder()
+				.approvals(List.of(approval(10L, "아들"), approval(11L, "딸")))
+				.rejections(List.of(12L))
+				.build();
+		given(familyMapper.findPendingInvitationsByIds(eq(1L), anyList()))
+				.willReturn(List.of(pending(10L, 100L), pending(11L, 101L), pending(12L, 102L)));
+		given(familyMapper.approveInvitations(List.of(10L, 11L))).willReturn(2);
+		given(familyMapper.rejectInvitations(List.of(12L))).willReturn(1);
+
+		// when
+		BulkInvitationDecisionResponse result = familyService.decideInvitations(1L, request);
+
+		// then
+		assertThat(result.getApprovedCount()).isEqualTo(2);
+		assertThat(result.getRejectedCount()).isEqualTo(1);
+
+		ArgumentCaptor<List<FamilyMember>> captor = ArgumentCaptor.forClass(List.class);
+		verify(familyMapper, times(1)).insertFamilyMembers(captor.capture());
+		assertThat(captor.getValue())
+				.extracting(FamilyMember::getUserId, FamilyMember::getRelationship)
+				.containsExactly(
+						org.assertj.core.groups.Tuple.tuple(100L, "아들"),
+						org.assertj.core.groups.Tuple.tuple(101L, "딸"));
+		verify(familyMapper, never()).insertFamilyMember(any(), any(), any(), any());
+		verify(eventPublisher, times(2)).publishEvent(any(FamilyMembershipChangedEvent.class));
+	}
+
+	@Test
+	@DisplayName("다른 가족 또는 처리된 초대 포함 - 전체 거부")
+	void decideInvitations_ForeignInvitation() {
+		// given
+		BulkInvitationDecisionRequest request = BulkInvitationDecisionRequest.builder()
+				.approvals(List.of(approval(10L, "아들")))
+				.rejections(List.of(99L))
+				.build();
+		given(familyMapper.findPendingInvitationsByIds(eq(1L), anyList()))
+				.willReturn(List.of(pending(10L, 100L)));
+
+		// when & then
+		assertThatThrownBy(() -> familyService.decideInvitations(1L, request))
+				.isInstanceOf(IllegalArgumentException.class);
+		verify(familyMapper, never()).approveInvitations(any());
+		verify(familyMapper, never()).insertFamilyMembers(any());
+	}
+
+	@Test
+	@DisplayName("동시 처리로 업데이트 건수 불일치 - 예외 발생 (롤백)")
+	void decideInvitations_ConcurrentUpdate() {
+		// given
+		BulkInvitationDecisionRequest request = BulkInvitationDecisionRequest.builder()
+				.approvals(List.of(approval(10L, "아들"), approval(11L, "딸")))
+				.build();
+		given(familyMapper.findPendingInvitationsByIds(eq(1L), anyList()))
+				.willReturn(List.of(pending(10L, 100L), pending(11L, 101L)));
+		given(familyMapper.approveInvitations(List.of(10L, 11L))).willReturn(1);
+
+		// when & then
+		assertThatThrownBy(() -> familyService.decideInvitations(1L, request))
+				.isInstanceOf(IllegalArgumentException.class);
+		verify(familyMapper, never()).insertFamilyMembers(any());
+		verify(eventPublisher, never()).publishEvent(any());
+	}
+
+	@Test
+	@DisplayName("승인과 거부에 같은 초대 ID - 조회 없이 거부")
+	void decideInvitations_DuplicateIds() {
+		// given
+		BulkInvitationDecisionRequest request = BulkInvitationDecisionRequest.builder()
+				.approvals(List.of(approval(10L, "아들")))
+				.rejections(List.of(10L))
+				.build();
+
+		// when & then
+		assertThatThrownBy(() -> familyService.decideInvitations(1L, request))
+				.isInstanceOf(IllegalArgumentException.class);
+		verify(familyMapper, never()).findPendingInvitationsByIds(any(), any());
+	}
+
+	@Test
+	@DisplayName("초대 거부 - 다른 가족이거나 대기 중이 아닌 초대는 거부할 수 없음")
+	void rejectInvitation_ScopedToFamilyPendingInvitation() {
+		// given
+		given(familyMapper.rejectInvitation(1L, 10L)).willReturn(1);
+		given(familyMapper.rejectInvitation(2L, 10L)).willReturn(0);
+
+		// when
+		familyService.rejectInvitation(1L, 10L);
+
+		// then
+		verify(familyMapper).rejectInvitation(1L, 10L);
+		assertThatThrownBy(() -> familyService.rejectInvitation(2L, 10L))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("유효하지 않은 초대입니다");
+	}
+}
@@ -0,0 +1,59 @@
+package com.eardream.domain.families.service;
+
+import com.eardream.domain.families.mapper.FamilyMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("InvitationExpirySweeper 단위 테스트")
+class InvitationExpirySweeperTest {
+
+	@Mock
+	private FamilyMapper familyMapper;
+
+	private InvitationExpirySweeper sweeper;
+
+	@BeforeEach
+	void setUp() {
+		sweeper = new InvitationExpirySweeper(familyMapper, 7, 100, 3);
+	}
+
+	@Test
+	@DisplayName("배치가 가득 차지 않으면 한 번만 실행")
+	void sweep_StopsOnPartialBatch() {
+		// given
+		given(familyMapper.expireInvitations(any(), eq(100))).willReturn(100, 40);
+
+		// when
+		int expired = sweeper.sweep();
+
+		// then
+		assertThat(expired).isEqualTo(140);
+		verify(familyMapper, times(2)).expireInvitations(any(), eq(100));
+	}
+
+	@Test
+	@DisplayName("계속 가득 차면 최대 배치 수에서 중단")
+	void sweep_BoundedByMaxBatches() {
+		// given
+		given(familyMapper.expireInvitations(any(), eq(100))).willReturn(100);
+
+		// when
+		int expired = sweeper.sweep();
+
+		// then
+		assertThat(expired).isEqualTo(300);
+		verify(familyMapper, times(3)).expireInvitations(any(), eq(100));
+	}
+}
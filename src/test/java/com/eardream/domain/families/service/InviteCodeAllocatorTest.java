@@ -0,0 +1,104 @@
+package com.eardream.domain.families.service;
+
+import com.eardream.domain.families.mapper.FamilyMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("InviteCodeAllocator 단위 테스트")
+class InviteCodeAllocatorTest {
+
+	@Mock
+	private FamilyMapper familyMapper;
+
+	private InviteCodeAllocator inviteCodeAllocator;
+
+	@BeforeEach
+	void setUp() {
+		inviteCodeAllocator = new InviteCodeAllocator(familyMapper, "test-secret-0123456789");
+	}
+
+	@Test
+	@DisplayName("블록 단위 할당 - 블록 소진 시에만 시퀀스 조회, 코드 중복 없음")
+	void allocate_UniqueAcrossBlocks() {
+		// given
+		given(familyMapper.nextInviteCodeBlock()).willReturn(1L, 101L, 201L);
+
+		// when
+		Set<String> codes = new HashSet<>();
+		for (int i = 0; i < InviteCodeAllocator.BLOCK_SIZE * 3; i++) {
+			codes.add(inviteCodeAllocator.allocate());
+		}
+
+		// then
+		assertThat(codes).hasSize(InviteCodeAllocator.BLOCK_SIZE * 3);
+		assertThat(codes).allMatch(code -> code.matches("[0-9A-HJKMNP-TV-Z]{7}"));
+		verify(familyMapper, times(3)).nextInviteCodeBlock();
+	}
+
+	@Test
+	@DisplayName("가역 순열 - 코드에서 원래 번호 복원")
+	void decode_RoundTrip() {
+		// given
+		given(familyMapper.nextInviteCodeBlock()).willReturn(5001L);
+
+		// when
+		String first = inviteCodeAllocator.allocate();
+		String second = inviteCodeAllocator.allocate();
+
+		// then
+		assertThat(inviteCodeAllocator.decode(first)).isEqualTo(5001L);
+		assertThat(inviteCodeAllocator.decode(second)).isEqualTo(5002L);
+		assertThat(inviteCodeAllocator.decode("ABC")).isEqualTo(-1L);
+	}
+
+	@Test
+	@DisplayName("순열은 전단사 - 연속 번호가 서로 다른 값으로 매핑")
+	void permute_IsBijective() {
+		// when
+		Set<Long> permuted = new HashSet<>();
+		for (long value = 0; value < 10_000; value++) {
+			long mixed = inviteCodeAllocator.permute(value);
+			permuted.add(mixed);
+			assertThat(inviteCodeAllocator.unpermute(mixed)).isEqualTo(value);
+		}
+
+		// then
+		assertThat(permuted).hasSize(10_000);
+	}
+
+	@Test
+	@DisplayName("비밀값이 다르면 같은 번호도 다른 코드 - 다른 키로는 번호를 복원할 수 없음")
+	void permute_DependsOnSecret() {
+		// given
+		InviteCodeAllocator other = new InviteCodeAllocator(familyMapper, "another-secret-0123456789");
+
+		// when & then
+		for (long value = 1; value <= 100; value++) {
+			assertThat(other.permute(value)).isNotEqualTo(inviteCodeAllocator.permute(value));
+			assertThat(other.unpermute(inviteCodeAllocator.permute(value))).isNotEqualTo(value);
+		}
+	}
+
+	@Test
+	@DisplayName("비밀값이 없거나 짧으면 기동 실패")
+	void constructor_RequiresSecret() {
+		assertThatThrownBy(() -> new InviteCodeAllocator(familyMapper, ""))
+				.isInstanceOf(IllegalStateException.class);
+		assertThatThrownBy(() -> new InviteCodeAllocator(familyMapper, "eardream-invite"))
+				.isInstanceOf(IllegalStateException.class);
+	}
+}
@@ -0,0 +1,124 @@
+package com.eardream.domain.families.service;
+
+import com.eardream.domain.families.entity.Family;
+import com.eardream.domain.families.mapper.FamilyMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("InviteCodeIndex 단위 테스트")
+class InviteCodeIndexTest {
+
+	@Mock
+	private FamilyMapper familyMapper;
+
+	private final AtomicLong now = new AtomicLong(1_000_000L);
+
+	private InviteCodeIndex inviteCodeIndex;
+
+	@BeforeEach
+	void setUp() {
+		inviteCodeIndex = new InviteCodeIndex(familyMapper, 1000, 10_000L, now::get);
+		given(familyMapper.findAllInviteCodes()).willReturn(List.of(
+				Family.builder().id(1L).inviteCode("ABC123").build(),
+				Family.builder().id(2L).inviteCode("DEF456").build()));
+		inviteCodeIndex.warmUp();
+	}
+
+	@Test
+	@DisplayName("적재된 초대코드 - DB 조회 없이 가족 ID 반환")
+	void resolve_IndexedCode() {
+		// when
+		Optional<Long> result = inviteCodeIndex.resolve("abc123");
+
+		// then
+		assertThat(result).contains(1L);
+		verify(familyMapper, never()).findByInviteCode(anyString());
+	}
+
+	@Test
+	@DisplayName("존재하지 않는 초대코드 - DB 조회 없이 거절")
+	void resolve_UnknownCode() {
+		// when
+		Optional<Long> result = inviteCodeIndex.resolve("ZZZ999");
+
+		// then
+		assertThat(result).isEmpty();
+		verify(familyMapper, never()).findByInviteCode(anyString());
+	}
+
+	@Test
+	@DisplayName("교체된 이전 코드 - DB 확인 후 거절, 새 코드는 바로 조회")
+	void replace_OldCodeFallsBackToDatabase() {
+		// given
+		given(familyMapper.findByInviteCode("ABC123")).willReturn(Optional.empty());
+
+		// when
+		inviteCodeIndex.replace("ABC123", "NEW789", 1L);
+
+		// then
+		assertThat(inviteCodeIndex.resolve("ABC123")).isEmpty();
+		assertThat(inviteCodeIndex.resolve("NEW789")).contains(1L);
+		verify(familyMapper).findByInviteCode("ABC123");
+	}
+
+	@Test
+	@DisplayName("다른 노드에서 생성된 코드 - 동기화가 밀린 인덱스의 부재 판정은 DB로 확인")
+	void resolve_CodeCreatedOnAnotherNode_StaleIndexFallsBackToDatabase() {
+		// given
+		now.addAndGet(60_000L);
+		given(familyMapper.findByInviteCode("NEW999")).willReturn(Optional.of(Family.builder().id(3L).inviteCode("NEW999").build()));
+
+		// when
+		Optional<Long> result = inviteCodeIndex.resolve("NEW999");
+
+		// then
+		assertThat(result).contains(3L);
+	}
+
+	@Test
+	@DisplayName("다른 노드에서 생성된 코드 - 변경분 동기화 후 DB 조회 없이 조회")
+	void sync_PicksUpCodeCreatedOnAnotherNode() {
+		// given
+		now.addAndGet(2_000L);
+		given(familyMapper.findInviteCodesUpdatedSince(any(LocalDateTime.class)))
+				.willReturn(List.of(Family.builder().id(3L).inviteCode("NEW999").build()));
+
+		// when
+		inviteCodeIndex.sync();
+
+		// then
+		assertThat(inviteCodeIndex.resolve("NEW999")).contains(3L);
+		verify(familyMapper, never()).findByInviteCode(anyString());
+	}
+
+	@Test
+	@DisplayName("적재 전 - 부재 판정을 믿지 않고 DB 확인")
+	void resolve_BeforeWarmUp_FallsBackToDatabase() {
+		// given
+		InviteCodeIndex cold = new InviteCodeIndex(familyMapper, 1000, 10_000L, now::get);
+		given(familyMapper.findByInviteCode("ABC123")).willReturn(Optional.of(Family.builder().id(1L).inviteCode("ABC123").build()));
+
+		// when
+		Optional<Long> result = cold.resolve("ABC123");
+
+		// then
+		assertThat(result).contains(1L);
+	}
+}
@@ -0,0 +1,126 @@
+package com.eardream.domain.payment.service;
+
+import com.eardream.domain.payment.entity.BillingKey;
+import com.eardream.domain.payment.mapper.PaymentMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ActiveBillingKeyCache 단위 테스트")
+class ActiveBillingKeyCacheTest {
+
+    @Mock
+    private PaymentMapper paymentMapper;
+
+    private ActiveBillingKeyCache activeBillingKeyCache;
+
+    @BeforeEach
+    void setUp() {
+        activeBillingKeyCache = new ActiveBillingKeyCache(paymentMapper, 30);
+    }
+
+    private BillingKey billingKey() {
+        return BillingKey.builder()
+                .billingKeyId("bk-1")
+                .familyId("10")
+                .customerUid("customer-1")
+                .status(BillingKey.BillingKeyStatus.ACTIVE)
+                .build();
+    }
+
+    @Test
+    @DisplayName("캐시 적중 - 두 번째 조회는 DB를 거치지 않음")
+    void findActiveByFamilyId_CacheHit() {
+        // given
+        given(paymentMapper.findActiveBillingKeyByFamilyId("10")).willReturn(Optional.of(billingKey()));
+
+        // when
+        activeBillingKeyCache.findActiveByFamilyId("10");
+        Optional<BillingKey> result = activeBillingKeyCache.findActiveByFamilyId("10");
+
+        // then
+        assertThat(result).isPresent();
+        assertThat(result.get().getCustomerUid()).isEqualTo("customer-1");
+        verify(paymentMapper, times(1)).findActiveBillingKeyByFamilyId("10");
+    }
+
+    @Test
+    @DisplayName("반환된 엔티티를 수정해도 캐시 값은 유지")
+    void findActiveByFamilyId_ReturnsCopy() {
+        // given
+        given(paymentMapper.findActiveBillingKeyByFamilyId("10")).willReturn(Optional.of(billingKey()));
+
+        // when
+        activeBillingKeyCache.findActiveByFamilyId("10").get().setStatus(BillingKey.BillingKeyStatus.DELETED);
+        Optional<BillingKey> result = activeBillingKeyCache.findActiveByFamilyId("10");
+
+        // then
+        assertThat(result.get().getStatus()).isEqualTo(BillingKey.BillingKeyStatus.ACTIVE);
+    }
+
+    @Test
+    @DisplayName("무효화 후 조회 - DB에서 다시 적재")
+    void evict_ReloadsFromDatabase() {
+        // given
+        given(paymentMapper.findActiveBillingKeyByFamilyId("10"))
+                .willReturn(Optional.of(billingKey()))
+                .willReturn(Optional.empty());
+        activeBillingKeyCache.findActiveByFamilyId("10");
+
+        // when
+        activeBillingKeyCache.evict("10");
+        Optional<BillingKey> result = activeBillingKeyCache.findActiveByFamilyId("10");
+
+        // then
+        assertThat(result).isEmpty();
+        verify(paymentMapper, times(2)).findActiveBillingKeyByFamilyId("10");
+    }
+
+    @Test
+    @DisplayName("결제 후 사용 시각 기록 - 캐시를 비우지 않아 다음 조회도 DB를 거치지 않음")
+    void recordUse_KeepsCacheEntry() {
+        // given
+        given(paymentMapper.findActiveBillingKeyByFamilyId("10")).willReturn(Optional.of(billingKey()));
+        BillingKey charged = activeBillingKeyCache.findActiveByFamilyId("10").get();
+        LocalDateTime usedAt = LocalDateTime.of(2025, 9, 1, 9, 0);
+        charged.setLastUsedAt(usedAt);
+
+        // when
+        activeBillingKeyCache.recordUse(charged);
+        Optional<BillingKey> result = activeBillingKeyCache.findActiveByFamilyId("10");
+
+        // then
+        assertThat(result.get().getLastUsedAt()).isEqualTo(usedAt);
+        verify(paymentMapper, times(1)).findActiveBillingKeyByFamilyId("10");
+    }
+
+    @Test
+    @DisplayName("정기결제 전 일괄 적재 - 적재된 가족은 DB 조회 없이 반환")
+    void warmUp_LoadsFamiliesInOneQuery() {
+        // given
+        given(paymentMapper.findActiveBillingKeysByFamilyIds(List.of("10", "11"))).willReturn(List.of(billingKey()));
+
+        // when
+        int loaded = activeBillingKeyCache.warmUp(List.of("10", "11", "10"));
+        Optional<BillingKey> result = activeBillingKeyCache.findActiveByFamilyId("10");
+
+        // then
+        assertThat(loaded).isEqualTo(1);
+        assertThat(result).isPresent();
+        verify(paymentMapper, never()).findActiveBillingKeyByFamilyId("10");
+    }
+}
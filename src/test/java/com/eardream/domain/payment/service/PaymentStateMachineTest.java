@@ -0,0 +1,132 @@
+package com.eardream.domain.payment.service;
+
+import com.eardream.domain.payment.entity.Payment;
+import com.eardream.domain.payment.mapper.PaymentMapper;
+import com.eardream.global.exception.BusinessException;
+import com.eardream.global.exception.ErrorCode;
+import com.eardream.global.outbox.OutboxEventPublisher;
+import com.eardream.global.outbox.OutboxEventType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PaymentStateMachine 단위 테스트")
+class PaymentStateMachineTest {
+
+    @Mock
+    private PaymentMapper paymentMapper;
+
+    @Mock
+    private OutboxEventPublisher outboxEventPublisher;
+
+    @InjectMocks
+    private PaymentStateMachine paymentStateMachine;
+
+    private Payment payment(Payment.PaymentStatus status, long version) {
+        return Payment.builder()
+                .paymentId("pay-1")
+                .userId("1")
+                .amount(new BigDecimal("29900"))
+                .status(status)
+                .version(version)
+                .build();
+    }
+
+    @Test
+    @DisplayName("상태 전이 성공 - 버전 증가 및 일시 기록")
+    void transition_Success() {
+        // given
+        Payment approved = payment(Payment.PaymentStatus.APPROVED, 3L);
+        given(paymentMapper.updatePaymentStatus(any(Payment.class), eq(Payment.PaymentStatus.APPROVED), eq(3L)))
+                .willReturn(1);
+
+        // when
+        Payment result = paymentStateMachine.transition(approved, Payment.PaymentStatus.CANCELLED, null);
+
+        // then
+        assertThat(result.getStatus()).isEqualTo(Payment.PaymentStatus.CANCELLED);
+        assertThat(result.getVersion()).isEqualTo(4L);
+        assertThat(result.getCancelledAt()).isNotNull();
+        verify(outboxEventPublisher).append(eq("PAYMENT"), eq("pay-1"), eq(OutboxEventType.PAYMENT_CANCELLED), any());
+    }
+
+    @Test
+    @DisplayName("이미 대상 상태인 경우 - 업데이트 없이 반환")
+    void transition_AlreadyInTargetStatus() {
+        // given
+        Payment cancelled = payment(Payment.PaymentStatus.CANCELLED, 5L);
+
+        // when
+        Payment result = paymentStateMachine.transition(cancelled, Payment.PaymentStatus.CANCELLED, null);
+
+        // then
+        assertThat(result.getVersion()).isEqualTo(5L);
+        verify(paymentMapper, never()).updatePaymentStatus(any(), any(), any());
+        verify(outboxEventPublisher, never()).append(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("허용되지 않는 전이 - 예외 발생")
+    void transition_InvalidTransition() {
+        // given
+        Payment failed = payment(Payment.PaymentStatus.FAILED, 1L);
+
+        // when & then
+        assertThatThrownBy(() -> paymentStateMachine.transition(failed, Payment.PaymentStatus.APPROVED, null))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage(ErrorCode.PAYMENT_INVALID_STATUS_TRANSITION.getMessage());
+        verify(paymentMapper, never()).updatePaymentStatus(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("동시 변경 충돌 - 최신 상태가 대상 상태이면 재시도 후 그대로 반환")
+    void transition_ConflictResolvedByConcurrentUpdate() {
+        // given
+        Payment approved = payment(Payment.PaymentStatus.APPROVED, 1L);
+        given(paymentMapper.updatePaymentStatus(any(Payment.class), eq(Payment.PaymentStatus.APPROVED), eq(1L)))
+                .willReturn(0);
+        given(paymentMapper.findPaymentById("pay-1"))
+                .willReturn(Optional.of(payment(Payment.PaymentStatus.CANCELLED, 2L)));
+
+        // when
+        Payment result = paymentStateMachine.transition(approved, Payment.PaymentStatus.CANCELLED, null);
+
+        // then
+        assertThat(result.getStatus()).isEqualTo(Payment.PaymentStatus.CANCELLED);
+        assertThat(result.getVersion()).isEqualTo(2L);
+        verify(paymentMapper, times(1)).updatePaymentStatus(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("동시 변경 충돌 지속 - 재시도 한도 초과 시 예외 발생")
+    void transition_ConflictExhausted() {
+        // given
+        given(paymentMapper.updatePaymentStatus(any(Payment.class), eq(Payment.PaymentStatus.PENDING), any()))
+                .willReturn(0);
+        given(paymentMapper.findPaymentById("pay-1"))
+                .willAnswer(invocation -> Optional.of(payment(Payment.PaymentStatus.PENDING, 7L)));
+
+        // when & then
+        assertThatThrownBy(() -> paymentStateMachine.transition(
+                payment(Payment.PaymentStatus.PENDING, 6L), Payment.PaymentStatus.APPROVED, null))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage(ErrorCode.PAYMENT_STATUS_CONFLICT.getMessage());
+        verify(paymentMapper, times(3)).updatePaymentStatus(any(), any(), any());
+    }
+}
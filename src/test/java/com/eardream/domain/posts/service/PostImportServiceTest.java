@@ -0,0 +1,156 @@
+package com.eardream.domain.posts.service;
+
+import com.eardream.domain.families.service.FamilyMembershipIndex;
+import com.eardream.domain.posts.dto.PostImportProgressDto;
+import com.eardream.domain.posts.entity.Post;
+import com.eardream.domain.posts.entity.PostImage;
+import com.eardream.domain.posts.mapper.PostMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PostImportService 단위 테스트")
+class PostImportServiceTest {
+
+	@Mock
+	private SqlSessionTemplate batchSession;
+
+	@Mock
+	private PostMapper batchMapper;
+
+	@Mock
+	private FamilyMembershipIndex familyMembershipIndex;
+
+	@Mock
+	private PrintImagePreprocessor printImagePreprocessor;
+
+	private PostImportService postImportService;
+
+	@BeforeEach
+	void setUp() {
+		postImportService = new PostImportService(batchSession, new TransactionTemplate(mock(PlatformTransactionManager.class)),
+				familyMembershipIndex, printImagePreprocessor, new ObjectMapper().findAndRegisterModules(), 2, 10);
+	}
+
+	private static ByteArrayInputStream manifest(String text) {
+		return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+	}
+
+	@Test
+	@DisplayName("NDJSON 가져오기 - 배치마다 ID 를 한 번에 할당하고 진행 상황 보고, 검증 실패 항목은 건너뜀")
+	void importPosts_BatchesRecordsAndReportsProgress() {
+		// given
+		given(batchSession.getMapper(PostMapper.class)).willReturn(batchMapper);
+		given(familyMembershipIndex.isMember(7L, 1L)).willReturn(true);
+		given(familyMembershipIndex.isMember(8L, 1L)).willReturn(false);
+		given(batchMapper.allocatePostIds(2)).willReturn(List.of(100L, 101L));
+		given(batchMapper.allocatePostIds(1)).willReturn(List.of(102L));
+		String ndjson = """
+				{"userId":7,"title":"첫 소식","createdAt":"2024-03-05T10:00:00","images":[{"imageUrl":"/uploads/images/a.jpg"},{"imageUrl":"/uploads/images/b.jpg"}]}
+				{"userId":8,"title":"가족이 아님"}
+				{"userId":7,"title":"둘째 소식","postMonth":"2024-04"}
+				{"userId":7,"title":"셋째 소식"}
+				""";
+		List<PostImportProgressDto> reports = new ArrayList<>();
+
+		// when
+		PostImportProgressDto result = postImportService.importPosts(1L, manifest(ndjson),
+				progress -> reports.add(PostImportProgressDto.builder()
+						.imported(progress.getImported())
+						.done(progress.isDone())
+						.build()));
+
+		// then
+		assertThat(result.getProcessed()).isEqualTo(4);
+		assertThat(result.getImported()).isEqualTo(3);
+		assertThat(result.getImportedImages()).isEqualTo(2);
+		assertThat(result.getSkipped()).isEqualTo(1);
+		assertThat(result.getErrors()).singleElement().asString().startsWith("2번째 항목");
+		assertThat(result.getFailure()).isNull();
+		assertThat(reports).extracting(PostImportProgressDto::getImported).containsExactly(2L, 3L);
+		assertThat(reports).extracting(PostImportProgressDto::isDone).containsExactly(false, true);
+
+		ArgumentCaptor<Post> posts = ArgumentCaptor.forClass(Post.class);
+		verify(batchMapper, times(3)).insertImportedPost(posts.capture());
+		assertThat(posts.getAllValues()).extracting(Post::getId).containsExactly(100L, 101L, 102L);
+		assertThat(posts.getAllValues().get(0).getPostMonth()).isEqualTo("2024-03");
+		assertThat(posts.getAllValues().get(1).getPostMonth()).isEqualTo("2024-04");
+
+		ArgumentCaptor<PostImage> images = ArgumentCaptor.forClass(PostImage.class);
+		verify(batchMapper, times(2)).insertImportedPostImage(images.capture());
+		assertThat(images.getAllValues()).extracting(PostImage::getPostId).containsOnly(100L);
+		assertThat(images.getAllValues()).extracting(PostImage::getImageOrder).containsExactly(1, 2);
+		verify(batchSession, times(2)).flushStatements();
+	}
+
+	@Test
+	@DisplayName("JSON 배열 가져오기 - 깨진 항목에서 중단해도 앞선 유효 항목은 저장")
+	void importPosts_CommitsValidRecordsBeforeMalformedEntry() {
+		// given
+		given(batchSession.getMapper(PostMapper.class)).willReturn(batchMapper);
+		given(familyMembershipIndex.isMember(anyLong(), eq(1L))).willReturn(true);
+		given(batchMapper.allocatePostIds(anyInt())).willReturn(List.of(100L));
+		String json = "[{\"userId\":7,\"title\":\"첫 소식\"}, {\"userId\":7,\"title\": ]";
+
+		// when
+		PostImportProgressDto result = postImportService.importPosts(1L, manifest(json), progress -> { });
+
+		// then
+		assertThat(result.getImported()).isEqualTo(1);
+		assertThat(result.isDone()).isTrue();
+		assertThat(result.getFailure()).startsWith("2번째 항목을 읽을 수 없습니다");
+		verify(batchMapper).insertImportedPost(any(Post.class));
+	}
+
+	@Test
+	@DisplayName("검증 - 글자 수는 맞아도 UTF-8 바이트가 컬럼 길이를 넘는 항목은 건너뛰고 배치는 저장")
+	void importPosts_SkipsRecordsOverColumnByteLength() {
+		// given
+		given(batchSession.getMapper(PostMapper.class)).willReturn(batchMapper);
+		given(familyMembershipIndex.isMember(7L, 1L)).willReturn(true);
+		given(batchMapper.allocatePostIds(1)).willReturn(List.of(100L));
+		String koreanTitle = "가".repeat(100); // 100자, 300바이트
+		String koreanContent = "나".repeat(200); // 200자, 600바이트
+		String ndjson = "{\"userId\":7,\"title\":\"" + koreanTitle + "\"}\n"
+				+ "{\"userId\":7,\"title\":\"소식\",\"content\":\"" + koreanContent + "\"}\n"
+				+ "{\"userId\":7,\"title\":\"소식\",\"images\":[{\"imageUrl\":\"/uploads/a.jpg\",\"imageOrder\":5}]}\n"
+				+ "{\"userId\":7,\"title\":\"" + "가".repeat(66) + "\"}\n";
+
+		// when
+		PostImportProgressDto result = postImportService.importPosts(1L, manifest(ndjson), progress -> { });
+
+		// then
+		assertThat(result.getImported()).isEqualTo(1);
+		assertThat(result.getSkipped()).isEqualTo(3);
+		assertThat(result.getErrors()).hasSize(3);
+		assertThat(result.getErrors().get(0)).startsWith("1번째 항목: 제목은");
+		assertThat(result.getErrors().get(1)).startsWith("2번째 항목: 내용은");
+		assertThat(result.getErrors().get(2)).startsWith("3번째 항목: 사진 순서는");
+		assertThat(result.getFailure()).isNull();
+		verify(batchMapper).insertImportedPost(any(Post.class));
+	}
+}
@@ -0,0 +1,109 @@
+package com.eardream.domain.posts.service;
+
+import com.eardream.domain.posts.dto.PostDto;
+import com.eardream.domain.posts.dto.PostImageDto;
+import com.eardream.domain.posts.entity.Post;
+import com.eardream.domain.posts.entity.PostImage;
+import com.eardream.domain.posts.mapper.PostMapper;
+import com.eardream.global.common.ListVersion;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PostService 단위 테스트")
+class PostServiceTest {
+
+	@Mock
+	private PostMapper postMapper;
+
+	@Mock
+	private PrintImagePreprocessor printImagePreprocessor;
+
+	@InjectMocks
+	private PostService postService;
+
+	@Test
+	@DisplayName("가족 소식 피드 - 작성자 요약 포함")
+	void getPostsByFamily_IncludesAuthor() {
+		// given
+		Post post = Post.builder()
+				.id(10L)
+				.familyId(1L)
+				.userId(7L)
+				.title("제목")
+				.postMonth("2025-09")
+				.authorName("홍길동")
+				.authorProfileImageUrl("profile.jpg")
+				.build();
+		given(postMapper.findPostsByFamilyId(1L)).willReturn(List.of(post));
+		given(postMapper.findImagesByPostId(anyLong())).willReturn(List.of());
+
+		// when
+		List<PostDto> result = postService.getPostsByFamily(1L);
+
+		// then
+		assertThat(result).hasSize(1);
+		assertThat(result.get(0).getAuthor().getUserId()).isEqualTo(7L);
+		assertThat(result.get(0).getAuthor().getName()).isEqualTo("홍길동");
+		assertThat(result.get(0).getAuthor().getProfileImageUrl()).isEqualTo("profile.jpg");
+	}
+
+	@Test
+	@DisplayName("소식 작성 - 사진은 커밋 후 인쇄용 전처리 예약")
+	void createPost_SubmitsImagesForPrintPreprocessing() {
+		// given
+		List<PostImageDto> images = List.of(PostImageDto.builder().imageUrl("/uploads/images/a.jpg").imageOrder(1).build());
+		given(postMapper.insertPost(any(Post.class))).willAnswer(invocation -> {
+			invocation.<Post>getArgument(0).setId(10L);
+			return 1;
+		});
+		given(postMapper.findPostById(10L)).willReturn(Optional.of(Post.builder().id(10L).userId(7L).build()));
+		given(postMapper.findImagesByPostId(10L)).willReturn(List.of());
+
+		// when
+		postService.createPost(1L, 7L, "제목", "내용", images);
+
+		// then
+		verify(postMapper).insertPostImage(any(PostImage.class));
+		verify(printImagePreprocessor).submitAfterCommit(images);
+	}
+
+	@Test
+	@DisplayName("소식 목록 버전 - 행 수/수정 시각이 바뀌면 ETag 도 바뀜")
+	void getPostsVersion_EtagTracksCountAndUpdatedAt() {
+		// given
+		LocalDateTime updatedAt = LocalDateTime.of(2025, 9, 1, 12, 0);
+		given(postMapper.findListVersionByFamilyId(1L))
+				.willReturn(new ListVersion(3L, updatedAt))
+				.willReturn(new ListVersion(3L, updatedAt))
+				.willReturn(new ListVersion(2L, updatedAt))
+				.willReturn(new ListVersion(3L, updatedAt.plusSeconds(1)));
+
+		// when
+		String first = postService.getPostsVersion(1L).toEtag("posts");
+		String same = postService.getPostsVersion(1L).toEtag("posts");
+		String deleted = postService.getPostsVersion(1L).toEtag("posts");
+		String edited = postService.getPostsVersion(1L).toEtag("posts");
+
+		// then
+		assertThat(first).startsWith("W/\"").isEqualTo(same);
+		assertThat(deleted).isNotEqualTo(first);
+		assertThat(edited).isNotEqualTo(first);
+		verify(postMapper, never()).findPostsByFamilyId(anyLong());
+	}
+}
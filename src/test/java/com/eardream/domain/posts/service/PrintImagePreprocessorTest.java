@@ -0,0 +1,79 @@
+package com.eardream.domain.posts.service;
+
+import com.eardream.domain.posts.dto.PostImageDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.task.SyncTaskExecutor;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PrintImagePreprocessor 단위 테스트")
+class PrintImagePreprocessorTest {
+
+	@TempDir
+	Path uploadDir;
+
+	/**
+	 * EXIF 방향 6(시계 방향 90도 회전 필요) APP1 세그먼트를 넣은 JPEG
+	 */
+	private byte[] jpegWithOrientation6(int width, int height) throws Exception {
+		ByteArrayOutputStream jpeg = new ByteArrayOutputStream();
+		ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "jpg", jpeg);
+		byte[] body = jpeg.toByteArray();
+
+		byte[] exif = {
+				'E', 'x', 'i', 'f', 0, 0,
+				'M', 'M', 0, 42, 0, 0, 0, 8,           // TIFF 헤더 (big endian, IFD0 오프셋 8)
+				0, 1,                                   // 항목 1개
+				0x01, 0x12, 0, 3, 0, 0, 0, 1, 0, 6, 0, 0, // Orientation = 6
+				0, 0, 0, 0
+		};
+		ByteArrayOutputStream result = new ByteArrayOutputStream();
+		result.write(body, 0, 2); // SOI
+		result.write(0xFF);
+		result.write(0xE1);
+		result.write((exif.length + 2) >> 8);
+		result.write((exif.length + 2) & 0xFF);
+		result.write(exif);
+		result.write(body, 2, body.length - 2);
+		return result.toByteArray();
+	}
+
+	@Test
+	@DisplayName("인쇄용 파생 이미지 - 방향 보정 후 긴 변 제한으로 축소")
+	void preprocess_NormalizesOrientationAndSize() throws Exception {
+		// given
+		Files.createDirectories(uploadDir.resolve("images"));
+		Files.write(uploadDir.resolve("images/photo.jpg"), jpegWithOrientation6(400, 200));
+		PrintImagePreprocessor preprocessor = new PrintImagePreprocessor(new SyncTaskExecutor(), uploadDir.toString(), 100, 300, 0.9f);
+
+		// when
+		preprocessor.submitAfterCommit(List.of(PostImageDto.builder().imageUrl("/uploads/images/photo.jpg").build()));
+
+		// then
+		Path derivative = uploadDir.resolve("print/images/photo.jpg.jpg");
+		assertThat(derivative).exists();
+		BufferedImage image = ImageIO.read(derivative.toFile());
+		assertThat(image.getWidth()).isEqualTo(50);
+		assertThat(image.getHeight()).isEqualTo(100);
+	}
+
+	@Test
+	@DisplayName("인쇄용 파생 이미지 - 업로드 디렉터리 밖 경로는 처리하지 않음")
+	void preprocess_IgnoresPathsOutsideUploads() throws Exception {
+		// given
+		PrintImagePreprocessor preprocessor = new PrintImagePreprocessor(new SyncTaskExecutor(), uploadDir.toString(), 100, 300, 0.9f);
+
+		// when & then
+		assertThat(preprocessor.preprocess("/uploads/../secret.jpg")).isNull();
+		assertThat(preprocessor.preprocess("https://example.com/a.jpg")).isNull();
+	}
+}
@@ -0,0 +1,107 @@
+package com.eardream.domain.publications.service;
+
+import com.eardream.domain.publications.entity.Publication;
+import com.eardream.domain.publications.entity.Publication.PublicationStatus;
+import com.eardream.domain.publications.mapper.PublicationMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DeliveryTrackingPoller 단위 테스트")
+class DeliveryTrackingPollerTest {
+
+	@Mock
+	private PublicationMapper publicationMapper;
+
+	@Mock
+	private ObjectProvider<CarrierTrackingClient> clients;
+
+	// 대기하면 그만큼 시각이 흐르는 가짜 시계
+	private final AtomicLong nanoTime = new AtomicLong();
+	private final List<Long> sleeps = new ArrayList<>();
+
+	private DeliveryTrackingPoller poller(LocalCarrierSimulator simulator, long cycleBudgetMs) {
+		given(clients.orderedStream()).willReturn(Stream.of(simulator));
+		return new DeliveryTrackingPoller(publicationMapper, clients, 5000, 60, 1440, cycleBudgetMs,
+				nanoTime::get, nanos -> {
+					sleeps.add(nanos);
+					nanoTime.addAndGet(nanos);
+				});
+	}
+
+	private static List<Publication> shipments(String carrierId, long fromId, int count) {
+		List<Publication> result = new ArrayList<>();
+		for (long id = fromId; id < fromId + count; id++) {
+			result.add(Publication.builder().id(id).carrierId(carrierId).trackingNumber("TN" + id).build());
+		}
+		return result;
+	}
+
+	@Test
+	@DisplayName("택배사별 배치 조회 - 배송 완료는 일괄 DELIVERED, 나머지는 다음 조회 예약")
+	void pollOnce_BatchesPerCarrier() {
+		// given
+		LocalCarrierSimulator simulator = new LocalCarrierSimulator("local", 100, 10, Long.MAX_VALUE, () -> 0L);
+		simulator.markDelivered("TN1");
+		simulator.markDelivered("TN150");
+		List<Publication> due = new ArrayList<>(shipments("local", 1, 250));
+		due.addAll(shipments("unknown", 1000, 2));
+		given(publicationMapper.findShipmentsDueForTracking(5000)).willReturn(due);
+		given(publicationMapper.updateStatusByIds(any(), any(), any())).willReturn(2);
+
+		// when
+		int requests = poller(simulator, 50000).pollOnce();
+
+		// then
+		assertThat(requests).isEqualTo(3);
+		assertThat(simulator.requestCount()).isEqualTo(3);
+		assertThat(sleeps).isEmpty();
+		verify(publicationMapper).updateStatusByIds(List.of(1L, 150L), List.of(PublicationStatus.SHIPPED), PublicationStatus.DELIVERED);
+
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<List<Long>> rescheduled = ArgumentCaptor.forClass(List.class);
+		verify(publicationMapper).rescheduleTracking(rescheduled.capture(), eq(3600L), eq(86400L));
+		assertThat(rescheduled.getValue()).hasSize(248).doesNotContain(1L, 150L, 1000L, 1001L);
+		// 조회할 수 없는 택배사는 조회 횟수와 관계없이 최대 간격으로 예약
+		verify(publicationMapper).rescheduleTracking(List.of(1000L, 1001L), 86400L, 86400L);
+	}
+
+	@Test
+	@DisplayName("택배사 요청 제한 - 요청 간격을 기다리며 조회하고 주기 예산을 넘는 분량은 다음 주기로 미룸")
+	void pollOnce_PacesRequestsWithinCycleBudget() {
+		// given
+		LocalCarrierSimulator simulator = new LocalCarrierSimulator("local", 100, 1, Long.MAX_VALUE, () -> 0L);
+		given(publicationMapper.findShipmentsDueForTracking(5000)).willReturn(shipments("local", 1, 350));
+
+		// when
+		int requests = poller(simulator, 2500).pollOnce();
+
+		// then
+		assertThat(requests).isEqualTo(3);
+		assertThat(sleeps).containsExactly(TimeUnit.SECONDS.toNanos(1), TimeUnit.SECONDS.toNanos(1));
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<List<Long>> rescheduled = ArgumentCaptor.forClass(List.class);
+		verify(publicationMapper).rescheduleTracking(rescheduled.capture(), anyLong(), anyLong());
+		assertThat(rescheduled.getValue()).hasSize(300).doesNotContain(301L);
+		verify(publicationMapper, never()).updateStatusByIds(any(), any(), any());
+	}
+}
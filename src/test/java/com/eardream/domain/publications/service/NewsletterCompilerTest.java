@@ -0,0 +1,107 @@
+package com.eardream.domain.publications.service;
+
+import com.eardream.domain.families.dto.FamilyDto;
+import com.eardream.domain.families.service.FamilyService;
+import com.eardream.domain.posts.dto.PostAuthorDto;
+import com.eardream.domain.posts.dto.PostDto;
+import com.eardream.domain.posts.dto.PostImageDto;
+import com.eardream.domain.posts.service.PostService;
+import com.eardream.domain.publications.dto.CompilationResultDto;
+import com.eardream.domain.publications.mapper.PublicationMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NewsletterCompiler 단위 테스트")
+class NewsletterCompilerTest {
+
+	private static final String MONTH = "2025-09";
+
+	@Mock
+	private PublicationMapper publicationMapper;
+
+	@Mock
+	private FamilyService familyService;
+
+	@Mock
+	private PostService postService;
+
+	@TempDir
+	Path uploadDir;
+
+	private NewsletterCompiler compiler;
+
+	@BeforeEach
+	void setUp() {
+		NewsletterPdfRenderer renderer = new NewsletterPdfRenderer("", 400, uploadDir.toString());
+		compiler = new NewsletterCompiler(publicationMapper, familyService, postService, renderer, 2, 1, 30L, uploadDir.toString());
+	}
+
+	@AfterEach
+	void tearDown() {
+		compiler.shutdown();
+	}
+
+	private PostDto post(String imageUrl) {
+		return PostDto.builder()
+				.id(1L)
+				.title("Family trip")
+				.content("We went to the sea.\nIt was a sunny day.")
+				.author(PostAuthorDto.builder().userId(7L).name("Hong").build())
+				.createdAt(LocalDateTime.of(2025, 9, 3, 10, 0))
+				.images(List.of(PostImageDto.builder().imageUrl(imageUrl).imageOrder(1).build()))
+				.build();
+	}
+
+	@Test
+	@DisplayName("가족별 병렬 편집 - PDF 생성 후 READY, 실패는 FAILED, 발송된 소식지는 건너뜀")
+	void compile_RecordsProgressPerFamily() throws Exception {
+		// given
+		Files.createDirectories(uploadDir.resolve("images"));
+		ImageIO.write(new BufferedImage(1200, 800, BufferedImage.TYPE_INT_RGB), "jpg",
+				uploadDir.resolve("images/photo.jpg").toFile());
+
+		given(publicationMapper.markPreparing(1L, MONTH, 30L)).willReturn(1);
+		given(publicationMapper.markPreparing(2L, MONTH, 30L)).willReturn(1);
+		given(publicationMapper.markPreparing(3L, MONTH, 30L)).willReturn(0);
+		given(familyService.getFamily(1L)).willReturn(FamilyDto.builder().familyId(1L).familyName("Hong family").build());
+		given(familyService.getFamily(2L)).willThrow(new IllegalArgumentException("가족을 찾을 수 없습니다: 2"));
+		given(postService.getPostsByFamilyAndMonth(1L, MONTH)).willReturn(List.of(post("/uploads/images/photo.jpg")));
+
+		// when
+		CompilationResultDto result = compiler.compile(List.of(1L, 2L, 3L), MONTH);
+
+		// then
+		assertThat(result.getSucceeded()).isEqualTo(1);
+		assertThat(result.getFailed()).isEqualTo(1);
+		assertThat(result.getSkipped()).isEqualTo(1);
+
+		Path pdf = uploadDir.resolve("pdfs/1/" + MONTH + ".pdf");
+		assertThat(pdf).exists();
+		assertThat(new String(Files.readAllBytes(pdf), 0, 5)).isEqualTo("%PDF-");
+		assertThat(uploadDir.resolve("pdfs/1/" + MONTH + ".pdf.tmp")).doesNotExist();
+
+		verify(publicationMapper).markReady(1L, MONTH, "/uploads/pdfs/1/" + MONTH + ".pdf");
+		verify(publicationMapper).markFailed(2L, MONTH);
+		verify(publicationMapper, never()).markReady(eq(3L), eq(MONTH), org.mockito.ArgumentMatchers.any());
+	}
+}
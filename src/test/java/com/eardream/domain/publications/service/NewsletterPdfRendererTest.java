@@ -0,0 +1,61 @@
+package com.eardream.domain.publications.service;
+
+import com.eardream.domain.posts.dto.PostDto;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.io.MemoryUsageSetting;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("NewsletterPdfRenderer 단위 테스트")
+class NewsletterPdfRendererTest {
+
+	@TempDir
+	Path uploadDir;
+
+	private PostDto post(long id, LocalDateTime updatedAt) {
+		return PostDto.builder()
+				.id(id)
+				.title("Post " + id)
+				.content("Hello")
+				.createdAt(LocalDateTime.of(2025, 9, 1, 9, 0))
+				.updatedAt(updatedAt)
+				.build();
+	}
+
+	@Test
+	@DisplayName("조각 캐시 - 바뀐 소식만 다시 렌더링하고 쓰이지 않는 조각은 정리")
+	void render_ReusesUnchangedFragments() throws Exception {
+		// given
+		NewsletterPdfRenderer renderer = new NewsletterPdfRenderer("", 400, uploadDir.toString());
+		Path fragments = uploadDir.resolve("fragments");
+		Path output = uploadDir.resolve("out.pdf");
+		LocalDateTime original = LocalDateTime.of(2025, 9, 2, 9, 0);
+		renderer.render("Hong family", "2025-09", List.of(post(1L, original), post(2L, original)), fragments, output,
+				MemoryUsageSetting.setupMainMemoryOnly().streamCache);
+
+		// when
+		NewsletterPdfRenderer.RenderResult result = renderer.render("Hong family", "2025-09",
+				List.of(post(1L, original), post(2L, original.plusHours(1))), fragments, output,
+				MemoryUsageSetting.setupMainMemoryOnly().streamCache);
+
+		// then
+		assertThat(result.rendered()).isEqualTo(1);
+		assertThat(result.reused()).isEqualTo(1);
+		try (Stream<Path> files = Files.list(fragments)) {
+			assertThat(files.count()).isEqualTo(2);
+		}
+		try (PDDocument document = Loader.loadPDF(output.toFile())) {
+			assertThat(document.getNumberOfPages()).isEqualTo(3);
+		}
+	}
+}
@@ -0,0 +1,96 @@
+package com.eardream.domain.publications.service;
+
+import com.eardream.domain.publications.mapper.PublicationMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PublicationScheduler 단위 테스트")
+class PublicationSchedulerTest {
+
+	private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+
+	@Mock
+	private PublicationMapper publicationMapper;
+
+	@Mock
+	private NewsletterCompiler newsletterCompiler;
+
+	@Mock
+	private TaskScheduler taskScheduler;
+
+	private PublicationScheduler scheduler;
+
+	@BeforeEach
+	void setUp() {
+		scheduler = new PublicationScheduler(publicationMapper, newsletterCompiler, taskScheduler, "Asia/Seoul", 0, 2);
+	}
+
+	@AfterEach
+	void tearDown() {
+		scheduler.shutdown();
+	}
+
+	@Test
+	@DisplayName("다음 마감 시각 - 마감일 당일이면 그날 자정, 지났으면 다음 달")
+	void nextCutoff() {
+		// given (2026-10 둘째 주 일요일 = 10/11, 넷째 주 일요일 = 10/25, 2026-11 둘째 주 일요일 = 11/8)
+		ZonedDateTime onDeadline = ZonedDateTime.of(2026, 10, 11, 10, 0, 0, 0, SEOUL);
+		ZonedDateTime afterCutoff = ZonedDateTime.of(2026, 10, 12, 0, 0, 0, 0, SEOUL);
+
+		// when & then
+		assertThat(scheduler.nextCutoff(2, onDeadline))
+				.isEqualTo(ZonedDateTime.of(2026, 10, 12, 0, 0, 0, 0, SEOUL));
+		assertThat(scheduler.nextCutoff(4, onDeadline))
+				.isEqualTo(ZonedDateTime.of(2026, 10, 26, 0, 0, 0, 0, SEOUL));
+		assertThat(scheduler.nextCutoff(2, afterCutoff))
+				.isEqualTo(ZonedDateTime.of(2026, 11, 9, 0, 0, 0, 0, SEOUL));
+	}
+
+	@Test
+	@DisplayName("주차 편집 - 마감 대상 가족만 id 키셋 배치로 넘김")
+	void runCohort_BatchesDueFamiliesByKeyset() {
+		// given
+		given(publicationMapper.findDueFamilyIds(2, "2026-10", 0L, 2)).willReturn(List.of(3L, 7L));
+		given(publicationMapper.findDueFamilyIds(2, "2026-10", 7L, 2)).willReturn(List.of(9L));
+
+		// when
+		int total = scheduler.runCohort(2, "2026-10");
+
+		// then
+		assertThat(total).isEqualTo(3);
+		verify(newsletterCompiler).compile(List.of(3L, 7L), "2026-10");
+		verify(newsletterCompiler).compile(List.of(9L), "2026-10");
+		verify(publicationMapper, never()).findDueFamilyIds(2, "2026-10", 9L, 2);
+	}
+
+	@Test
+	@DisplayName("주차 편집 - 대상이 없으면 편집하지 않음")
+	void runCohort_NoDueFamilies() {
+		// given
+		given(publicationMapper.findDueFamilyIds(4, "2026-10", 0L, 2)).willReturn(List.of());
+
+		// when
+		int total = scheduler.runCohort(4, "2026-10");
+
+		// then
+		assertThat(total).isZero();
+		verify(newsletterCompiler, never()).compile(any(), any());
+	}
+}
@@ -0,0 +1,162 @@
+package com.eardream.domain.publications.service;
+
+import com.eardream.domain.publications.dto.PublicationBulkResultDto;
+import com.eardream.domain.publications.dto.PublicationPageDto;
+import com.eardream.domain.publications.dto.PublicationStatusUpdateRequest;
+import com.eardream.domain.publications.dto.TrackingNumberEntry;
+import com.eardream.domain.publications.dto.TrackingNumberImportRequest;
+import com.eardream.domain.publications.entity.Publication;
+import com.eardream.domain.publications.entity.Publication.PublicationStatus;
+import com.eardream.domain.publications.mapper.PublicationMapper;
+import com.eardream.global.exception.BusinessException;
+import org.apache.ibatis.executor.BatchResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mybatis.spring.SqlSessionTemplate;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PublicationService 단위 테스트")
+class PublicationServiceTest {
+
+	@Mock
+	private PublicationMapper publicationMapper;
+
+	@Mock
+	private SqlSessionTemplate batchSession;
+
+	@Mock
+	private PublicationMapper batchMapper;
+
+	private PublicationService publicationService;
+
+	@BeforeEach
+	void setUp() {
+		publicationService = new PublicationService(publicationMapper, batchSession, 2);
+	}
+
+	@Test
+	@DisplayName("월별 목록 - 한 건 더 조회해 다음 커서 계산")
+	void getPublications_ReturnsNextCursor() {
+		// given
+		given(publicationMapper.findByMonthAfterId("2025-09", null, 10L, 3)).willReturn(List.of(
+				Publication.builder().id(11L).build(),
+				Publication.builder().id(12L).build(),
+				Publication.builder().id(15L).build()));
+
+		// when
+		PublicationPageDto page = publicationService.getPublications("2025-09", null, 10L, 2);
+
+		// then
+		assertThat(page.getItems()).extracting("id").containsExactly(11L, 12L);
+		assertThat(page.getNextCursor()).isEqualTo(12L);
+	}
+
+	@Test
+	@DisplayName("상태 일괄 변경 - IN 목록 제한 단위로 나눠 전이 가능한 상태만 조건으로 반영")
+	void updateStatuses_ChunksByInListLimit() {
+		// given
+		List<Long> ids = LongStream.rangeClosed(1, 1500).boxed().toList();
+		given(publicationMapper.updateStatusByIds(anyList(), eq(List.of(PublicationStatus.SHIPPED)), eq(PublicationStatus.DELIVERED)))
+				.willReturn(1000, 480);
+
+		// when
+		PublicationBulkResultDto result = publicationService.updateStatuses(PublicationStatusUpdateRequest.builder()
+				.publicationIds(ids)
+				.status(PublicationStatus.DELIVERED)
+				.build());
+
+		// then
+		assertThat(result.getRequested()).isEqualTo(1500);
+		assertThat(result.getUpdated()).isEqualTo(1480);
+		verify(publicationMapper).updateStatusByIds(argThat(chunk -> chunk.size() == 1000), any(), any());
+		verify(publicationMapper).updateStatusByIds(argThat(chunk -> chunk.size() == 500), any(), any());
+	}
+
+	@Test
+	@DisplayName("상태 일괄 변경 실패 - 편집기가 관리하는 상태로는 변경 불가")
+	void updateStatuses_RejectsCompilerOwnedStatus() {
+		// given
+		PublicationStatusUpdateRequest request = PublicationStatusUpdateRequest.builder()
+				.publicationIds(List.of(1L))
+				.status(PublicationStatus.READY)
+				.build();
+
+		// when & then
+		assertThatThrownBy(() -> publicationService.updateStatuses(request))
+				.isInstanceOf(BusinessException.class);
+		verify(publicationMapper, never()).updateStatusByIds(any(), any(), any());
+	}
+
+	@Test
+	@DisplayName("운송장 일괄 등록 - 배치 단위로 실행하고 반영되지 않은 발행은 건너뜀으로 보고")
+	void importTrackingNumbers_FlushesInBatches() {
+		// given
+		TrackingNumberEntry first = entry(1L);
+		TrackingNumberEntry second = entry(2L);
+		TrackingNumberEntry third = entry(3L);
+		given(batchSession.getMapper(PublicationMapper.class)).willReturn(batchMapper);
+		given(batchSession.flushStatements()).willReturn(
+				List.of(batchResult(new int[]{1, 0}, first, second)),
+				List.of(batchResult(new int[]{1}, third)));
+
+		// when
+		PublicationBulkResultDto result = publicationService.importTrackingNumbers(
+				TrackingNumberImportRequest.builder().entries(List.of(first, second, third)).build());
+
+		// then
+		assertThat(result.getRequested()).isEqualTo(3);
+		assertThat(result.getUpdated()).isEqualTo(2);
+		assertThat(result.getSkippedIds()).containsExactly(2L);
+		verify(batchMapper, times(3)).updateTrackingNumber(any());
+		verify(batchSession, times(2)).flushStatements();
+	}
+
+	@Test
+	@DisplayName("운송장 일괄 등록 실패 - 같은 발행이 중복되면 실행하지 않음")
+	void importTrackingNumbers_RejectsDuplicates() {
+		// given
+		TrackingNumberImportRequest request = TrackingNumberImportRequest.builder()
+				.entries(List.of(entry(1L), entry(1L)))
+				.build();
+
+		// when & then
+		assertThatThrownBy(() -> publicationService.importTrackingNumbers(request))
+				.isInstanceOf(BusinessException.class);
+		verify(batchSession, never()).flushStatements();
+	}
+
+	private static TrackingNumberEntry entry(Long publicationId) {
+		return TrackingNumberEntry.builder()
+				.publicationId(publicationId)
+				.carrierId("kr.cjlogistics")
+				.trackingNumber("6000" + publicationId)
+				.build();
+	}
+
+	private static BatchResult batchResult(int[] counts, TrackingNumberEntry... entries) {
+		BatchResult result = new BatchResult(null, "UPDATE publications");
+		for (TrackingNumberEntry entry : entries) {
+			result.addParameterObject(entry);
+		}
+		result.setUpdateCounts(counts);
+		return result;
+	}
+}
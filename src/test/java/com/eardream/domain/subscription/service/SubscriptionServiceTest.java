@@ -5,7 +5,10 @@ import com.eardream.domain.subscription.dto.SubscriptionResponse;
 import com.eardream.domain.subscription.dto.SubscriptionUpdateRequest;
 import com.eardream.domain.subscription.entity.Subscription;
 import com.eardream.domain.subscription.mapper.SubscriptionMapper;
+import com.eardream.global.counter.LiveCounterRegistry;
 import com.eardream.global.exception.BusinessException;
+import com.eardream.global.outbox.OutboxEventPublisher;
+import com.eardream.global.outbox.OutboxEventType;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -24,6 +27,7 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
@@ -36,6 +40,12 @@ class SubscriptionServiceTest {
     @Mock
     private SubscriptionMapper subscriptionMapper;
 
+    @Mock
+    private OutboxEventPublisher outboxEventPublisher;
+
+    @Mock
+    private LiveCounterRegistry liveCounterRegistry;
+
     @InjectMocks
     private SubscriptionService subscriptionService;
 
@@ -224,6 +234,8 @@ class SubscriptionServiceTest {
         // Then
         verify(subscriptionMapper).findById(1L);
         verify(subscriptionMapper).cancelSubscription(1L);
+        verify(outboxEventPublisher).append(eq("SUBSCRIPTION"), eq("1"),
+                eq(OutboxEventType.SUBSCRIPTION_CANCELLED), any());
     }
 
     @Test
@@ -252,6 +264,8 @@ class SubscriptionServiceTest {
     @DisplayName("구독 일시중지 성공")
     void pauseSubscription_Success() {
         // Given
+        given(subscriptionMapper.findById(1L))
+                .willReturn(Optional.of(mockSubscription));
         given(subscriptionMapper.pauseSubscription(1L))
                 .willReturn(1);
 
@@ -260,12 +274,16 @@ class SubscriptionServiceTest {
 
         // Then
         verify(subscriptionMapper).pauseSubscription(1L);
+        verify(outboxEventPublisher).append(eq("SUBSCRIPTION"), eq("1"),
+                eq(OutboxEventType.SUBSCRIPTION_PAUSED), argThat(payload -> Long.valueOf(1L).equals(payload.get("familyId"))));
     }
 
     @Test
     @DisplayName("구독 재개 성공")
     void resumeSubscription_Success() {
         // Given
+        given(subscriptionMapper.findById(1L))
+                .willReturn(Optional.of(mockSubscription));
         given(subscriptionMapper.resumeSubscription(1L))
                 .willReturn(1);
 
@@ -274,6 +292,8 @@ class SubscriptionServiceTest {
 
         // Then
         verify(subscriptionMapper).resumeSubscription(1L);
+        verify(outboxEventPublisher).append(eq("SUBSCRIPTION"), eq("1"),
+                eq(OutboxEventType.SUBSCRIPTION_RESUMED), argThat(payload -> Long.valueOf(1L).equals(payload.get("familyId"))));
     }
 
     @Test
@@ -3,6 +3,7 @@ package com.eardream.domain.user.service;
 import com.eardream.domain.user.dto.CreateUserRequest;
 import com.eardream.domain.user.dto.UpdateUserRequest;
 import com.eardream.domain.user.dto.UserDto;
+import com.eardream.domain.user.dto.UserUpsertResult;
 import com.eardream.domain.user.entity.User;
 import com.eardream.domain.user.mapper.UserMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -12,6 +13,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
 
 import java.time.LocalDate;
 import java.util.Optional;
@@ -165,6 +167,66 @@ class UserServiceTest {
                 .hasMessage("사용자를 찾을 수 없습니다");
     }
 
+    @Test
+    @DisplayName("카카오 사용자 upsert - 신규 생성")
+    void upsertKakaoUser_Created() {
+        // given
+        User created = User.createFromKakao("kakao456", "김철수");
+        created.setId(2L);
+        when(userMapper.mergeByKakaoId(any(User.class))).thenReturn(1);
+        when(userMapper.findByKakaoId("kakao456")).thenReturn(Optional.of(created));
+
+        // when
+        UserUpsertResult result = userService.upsertKakaoUser(createRequest);
+
+        // then
+        assertThat(result.isNew()).isTrue();
+        assertThat(result.getUser().getUserId()).isEqualTo(2L);
+        verify(userMapper, never()).insertUser(any(User.class));
+    }
+
+    @Test
+    @DisplayName("카카오 사용자 upsert - 기존 사용자")
+    void upsertKakaoUser_Existing() {
+        // given
+        when(userMapper.mergeByKakaoId(any(User.class))).thenReturn(0);
+        when(userMapper.findByKakaoId("kakao123")).thenReturn(Optional.of(testUser));
+
+        // when
+        UserUpsertResult result = userService.upsertKakaoUser(
+                CreateUserRequest.builder().kakaoId("kakao123").name("홍길동").build());
+
+        // then
+        assertThat(result.isNew()).isFalse();
+        assertThat(result.getUser().getUserId()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("카카오 사용자 upsert - 동시 생성 경합 시 기존 사용자로 처리")
+    void upsertKakaoUser_ConcurrentInsert() {
+        // given
+        when(userMapper.mergeByKakaoId(any(User.class))).thenThrow(new DuplicateKeyException("ORA-00001"));
+        when(userMapper.findByKakaoId("kakao123")).thenReturn(Optional.of(testUser));
+
+        // when
+        UserUpsertResult result = userService.upsertKakaoUser(
+                CreateUserRequest.builder().kakaoId("kakao123").name("홍길동").build());
+
+        // then
+        assertThat(result.isNew()).isFalse();
+        assertThat(result.getUser().getKakaoId()).isEqualTo("kakao123");
+    }
+
+    @Test
+    @DisplayName("Kakao ID로 사용자 조회 (Optional) - 사용자 없음")
+    void findUserByKakaoId_Empty() {
+        // given
+        when(userMapper.findByKakaoId("unknown")).thenReturn(Optional.empty());
+
+        // when & then
+        assertThat(userService.findUserByKakaoId("unknown")).isEmpty();
+    }
+
     @Test
     @DisplayName("Kakao ID 존재 여부 확인 - 존재함")
     void existsByKakaoId_Exists() {
@@ -0,0 +1,94 @@
+package com.eardream.global.counter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LiveCounterRegistry 단위 테스트")
+class LiveCounterRegistryTest {
+
+    @Mock
+    private CounterMapper counterMapper;
+
+    private SimpleMeterRegistry meterRegistry;
+    private LiveCounterRegistry liveCounterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        liveCounterRegistry = new LiveCounterRegistry(counterMapper, meterRegistry, 300000);
+    }
+
+    @Test
+    @DisplayName("최초 조회 시 원천 COUNT로 적재 후 증감은 메모리에서 반영")
+    void get_LoadsOnceThenIncrements() {
+        // given
+        AtomicInteger sourceCalls = new AtomicInteger();
+        liveCounterRegistry.register("family.total", () -> {
+            sourceCalls.incrementAndGet();
+            return 5L;
+        });
+        given(counterMapper.findByKey("family.total")).willReturn(Optional.empty());
+
+        // when
+        liveCounterRegistry.get("family.total");
+        liveCounterRegistry.add("family.total", 1);
+        long result = liveCounterRegistry.get("family.total");
+
+        // then
+        assertThat(result).isEqualTo(6L);
+        assertThat(sourceCalls.get()).isEqualTo(1);
+        assertThat(meterRegistry.get("eardream.counter").tag("key", "family.total").gauge().value()).isEqualTo(6.0);
+    }
+
+    @Test
+    @DisplayName("최근 재계산된 요약값이 있으면 원천 COUNT 없이 적재")
+    void get_UsesFreshSummary() {
+        // given
+        liveCounterRegistry.register("subscription.total", () -> {
+            throw new AssertionError("원천 COUNT를 호출하면 안 됩니다");
+        });
+        given(counterMapper.findByKey("subscription.total")).willReturn(Optional.of(
+                CounterSummary.builder()
+                        .counterKey("subscription.total")
+                        .counterValue(42L)
+                        .reconciledAt(LocalDateTime.now().minusMinutes(1))
+                        .build()));
+
+        // when
+        long result = liveCounterRegistry.get("subscription.total");
+
+        // then
+        assertThat(result).isEqualTo(42L);
+    }
+
+    @Test
+    @DisplayName("재계산 - 원천 COUNT로 보정하고 요약 테이블 저장")
+    void reconcile_CorrectsDrift() {
+        // given
+        liveCounterRegistry.register("family.total", () -> 10L);
+        given(counterMapper.findByKey("family.total")).willReturn(Optional.empty());
+        liveCounterRegistry.get("family.total");
+        liveCounterRegistry.add("family.total", 3);
+
+        // when
+        liveCounterRegistry.reconcile();
+
+        // then
+        assertThat(liveCounterRegistry.get("family.total")).isEqualTo(10L);
+        verify(counterMapper).upsert("family.total", 10L);
+    }
+}
@@ -0,0 +1,88 @@
+package com.eardream.global.crypto;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("FieldEncryptor 단위 테스트")
+class FieldEncryptorTest {
+
+    private FieldEncryptor encryptor;
+
+    @BeforeEach
+    void setUp() {
+        encryptor = new FieldEncryptor(Base64.getEncoder().encodeToString(new byte[32]));
+    }
+
+    @Test
+    @DisplayName("암호화 후 복호화 - 원문 복원, 매번 다른 암호문")
+    void encryptDecrypt_RoundTrip() {
+        // when
+        String first = encryptor.encrypt("서울시 강남구");
+        String second = encryptor.encrypt("서울시 강남구");
+
+        // then
+        assertThat(first).startsWith(FieldEncryptor.PREFIX).isNotEqualTo(second);
+        assertThat(encryptor.decrypt(first)).isEqualTo("서울시 강남구");
+        assertThat(encryptor.decrypt(second)).isEqualTo("서울시 강남구");
+    }
+
+    @Test
+    @DisplayName("null 및 기존 평문 - 그대로 반환")
+    void decrypt_PassThroughLegacyPlaintext() {
+        assertThat(encryptor.encrypt(null)).isNull();
+        assertThat(encryptor.decrypt(null)).isNull();
+        assertThat(encryptor.decrypt("010-1234-5678")).isEqualTo("010-1234-5678");
+    }
+
+    @Test
+    @DisplayName("변조된 암호문 - 복호화 실패")
+    void decrypt_TamperedCiphertext() {
+        // given
+        String encrypted = encryptor.encrypt("010-1234-5678");
+        byte[] payload = Base64.getDecoder().decode(encrypted.substring(FieldEncryptor.PREFIX.length()));
+        payload[payload.length - 1] ^= 1;
+        String tampered = FieldEncryptor.PREFIX + Base64.getEncoder().encodeToString(payload);
+
+        // when & then
+        assertThatThrownBy(() -> encryptor.decrypt(tampered))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("잘못된 키 길이 - 기동 실패")
+    void constructor_InvalidKeyLength() {
+        assertThatThrownBy(() -> new FieldEncryptor(Base64.getEncoder().encodeToString(new byte[16])))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("동시 사용 - 스레드별 Cipher 로 안전하게 처리")
+    void encryptDecrypt_Concurrent() throws Exception {
+        // given
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<Boolean>> results = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < 200; i++) {
+            String plaintext = "010-0000-" + i;
+            results.add(executor.submit(() -> plaintext.equals(encryptor.decrypt(encryptor.encrypt(plaintext)))));
+        }
+
+        // then
+        for (Future<Boolean> result : results) {
+            assertThat(result.get()).isTrue();
+        }
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,70 @@
+package com.eardream.global.outbox;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxPoller 단위 테스트")
+class OutboxPollerTest {
+
+    @Mock
+    private OutboxMapper outboxMapper;
+
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private OutboxPoller outboxPoller;
+
+    @BeforeEach
+    void setUp() {
+        outboxPoller = new OutboxPoller(outboxMapper, applicationEventPublisher, transactionManager);
+        ReflectionTestUtils.setField(outboxPoller, "batchSize", 100);
+        ReflectionTestUtils.setField(outboxPoller, "maxBatchesPerRun", 10);
+        ReflectionTestUtils.setField(outboxPoller, "maxAttempts", 10);
+        ReflectionTestUtils.setField(outboxPoller, "baseBackoffSeconds", 5L);
+        ReflectionTestUtils.setField(outboxPoller, "maxBackoffSeconds", 3600L);
+    }
+
+    @Test
+    @DisplayName("리스너 실패 - 별도 트랜잭션에서 실행하고 백오프와 함께 실패 기록")
+    void poll_ListenerFailure_RecordsBackoffInLockingTransaction() {
+        // given
+        OutboxEvent ok = OutboxEvent.builder().id(1L).eventType(OutboxEventType.PAYMENT_APPROVED).build();
+        OutboxEvent failing = OutboxEvent.builder().id(2L).eventType(OutboxEventType.PAYMENT_APPROVED).build();
+        given(outboxMapper.lockPendingBatch(100)).willReturn(List.of(ok, failing));
+        willThrow(new IllegalStateException("listener down")).given(applicationEventPublisher).publishEvent(failing);
+
+        // when
+        outboxPoller.poll();
+
+        // then
+        verify(transactionManager, times(2)).getTransaction(argThat((TransactionDefinition definition) ->
+                definition.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+        verify(outboxMapper).markPublished(List.of(1L));
+        verify(outboxMapper).markAttemptFailed(eq(2L), anyString(), eq(10), eq(5L), eq(3600L));
+        verify(outboxMapper, never()).markAttemptFailed(eq(1L), any(), any(Integer.class), any(Long.class), any(Long.class));
+    }
+}
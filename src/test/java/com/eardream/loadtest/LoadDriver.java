@@ -0,0 +1,87 @@
+package com.eardream.loadtest;
+
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+/**
+ * 고정 동시성 부하 발생기
+ * 반복마다 소요 시간을 기록해 처리량과 p50/p99 지연을 계산한다.
+ */
+public final class LoadDriver {
+
+    private LoadDriver() {
+    }
+
+    /**
+     * 부하 실행
+     *
+     * @param name        시나리오 이름
+     * @param concurrency 동시 실행 스레드 수
+     * @param iterations  총 실행 횟수 (task에 0부터 순번 전달)
+     * @param task        한 번의 요청 (예외 발생 시 실패로 집계)
+     */
+    public static LoadReport run(String name, int concurrency, int iterations, IntConsumer task) {
+        long[] latencies = new long[iterations];
+        AtomicInteger failures = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+
+        long started = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            int iteration = i;
+            executor.execute(() -> {
+                long begin = System.nanoTime();
+                try {
+                    task.accept(iteration);
+                } catch (RuntimeException e) {
+                    failures.incrementAndGet();
+                } finally {
+                    latencies[iteration] = System.nanoTime() - begin;
+                }
+            });
+        }
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(10, TimeUnit.MINUTES)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        long elapsed = System.nanoTime() - started;
+
+        Arrays.sort(latencies);
+        return new LoadReport(name, concurrency, iterations, failures.get(), elapsed,
+                percentile(latencies, 0.50), percentile(latencies, 0.99));
+    }
+
+    private static long percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0L;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    /**
+     * 부하 실행 결과
+     */
+    public record LoadReport(String name, int concurrency, int iterations, int failures,
+                             long elapsedNanos, long p50Nanos, long p99Nanos) {
+
+        public double throughputPerSecond() {
+            return elapsedNanos == 0 ? 0 : iterations / (elapsedNanos / 1_000_000_000.0);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-8s 동시성=%d 요청=%d 실패=%d 처리량=%.1f/s p50=%.1fms p99=%.1fms",
+                    name, concurrency, iterations, failures, throughputPerSecond(),
+                    p50Nanos / 1_000_000.0, p99Nanos / 1_000_000.0);
+        }
+    }
+}
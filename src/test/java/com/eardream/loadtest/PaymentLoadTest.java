@@ -0,0 +1,153 @@
+package com.eardream.loadtest;
+
+import com.eardream.domain.payment.dto.BillingKeyRegisterRequestDto;
+import com.eardream.domain.payment.dto.PaymentCompleteRequestDto;
+import com.eardream.domain.payment.dto.SubscriptionPaymentRequestDto;
+import com.eardream.domain.payment.service.PaymentService;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 결제 경로 부하 테스트 (H2 + 내장 PortOne 시뮬레이터)
+ * 기본 test 태스크에서는 제외되며 ./gradlew loadTest 로 실행한다.
+ * 조정 가능한 시스템 프로퍼티:
+ * loadtest.concurrency, loadtest.iterations, loadtest.latency-ms, loadtest.jitter-ms, loadtest.error-rate
+ */
+@Slf4j
+@Tag("load")
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+@SpringBootTest
+@ActiveProfiles("loadtest")
+@DisplayName("결제 경로 부하 테스트")
+class PaymentLoadTest {
+
+    private static final int CONCURRENCY = Integer.getInteger("loadtest.concurrency", 16);
+    private static final int ITERATIONS = Integer.getInteger("loadtest.iterations", 500);
+    private static final double ERROR_RATE = Double.parseDouble(System.getProperty("loadtest.error-rate", "0"));
+
+    private static PortOneSimulator simulator;
+
+    @Autowired
+    private PaymentService paymentService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${portone.webhook-secret}")
+    private String webhookSecret;
+
+    private String runId;
+    private String userId;
+    private String familyId;
+
+    @DynamicPropertySource
+    static void portOneProperties(DynamicPropertyRegistry registry) {
+        simulator = PortOneSimulator.start(
+                Integer.getInteger("loadtest.latency-ms", 30),
+                Integer.getInteger("loadtest.jitter-ms", 20),
+                ERROR_RATE,
+                CONCURRENCY * 2);
+        registry.add("portone.api-url", simulator::baseUrl);
+    }
+
+    @AfterAll
+    static void stopSimulator() {
+        if (simulator != null) {
+            simulator.close();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        runId = UUID.randomUUID().toString().substring(0, 8);
+        jdbcTemplate.update("INSERT INTO users (kakao_id, name) VALUES (?, ?)", "load-" + runId, "부하테스트");
+        Long user = jdbcTemplate.queryForObject("SELECT id FROM users WHERE kakao_id = ?", Long.class, "load-" + runId);
+        jdbcTemplate.update("INSERT INTO families (user_id, family_name, monthly_deadline, invite_code) VALUES (?, ?, 2, ?)",
+                user, "부하테스트 가족", runId.substring(0, 6).toUpperCase());
+        Long family = jdbcTemplate.queryForObject("SELECT id FROM families WHERE user_id = ?", Long.class, user);
+
+        userId = String.valueOf(user);
+        familyId = String.valueOf(family);
+
+        paymentService.registerBillingKey(BillingKeyRegisterRequestDto.builder()
+                .billingKey("sim-billing-key-" + runId)
+                .customerUid("customer-" + runId)
+                .cardName("시뮬레이터카드")
+                .cardNumber("1234-****-****-5678")
+                .familyId(familyId)
+                .build(), userId);
+    }
+
+    @Test
+    @DisplayName("결제 검증 / 정기결제 / 웹훅 처리량과 지연 측정")
+    void paymentFlows() {
+        // 결제 검증: 포트원 토큰 + 결제 조회 후 저장
+        LoadDriver.LoadReport verify = LoadDriver.run("verify", CONCURRENCY, ITERATIONS, i ->
+                paymentService.verifyAndSavePayment(PaymentCompleteRequestDto.builder()
+                        .paymentId(paymentId(i))
+                        .impUid("imp-" + runId + "-" + i)
+                        .merchantUid("merchant-" + runId + "-" + i)
+                        .familyId(familyId)
+                        .build(), userId));
+
+        // 정기결제: 활성 빌링키 조회 + 포트원 재결제 + 저장
+        LoadDriver.LoadReport billing = LoadDriver.run("billing", CONCURRENCY, ITERATIONS, i ->
+                paymentService.executeSubscriptionPayment(SubscriptionPaymentRequestDto.builder()
+                        .familyId(familyId)
+                        .amount(new BigDecimal("29900"))
+                        .orderName("이어드림 월간 구독")
+                        .build()));
+
+        // 웹훅: 검증 단계에서 저장된 결제를 취소 상태로 전이
+        LoadDriver.LoadReport webhook = LoadDriver.run("webhook", CONCURRENCY, ITERATIONS, i -> {
+            String body = "{\"type\":\"Transaction.Cancelled\",\"data\":{\"paymentId\":\"" + paymentId(i) + "\"}}";
+            paymentService.handleWebhook(body, sign(body));
+        });
+
+        log.info("PortOne 시뮬레이터 요청 수: {}", simulator.requestCounts());
+        log.info("{}", verify);
+        log.info("{}", billing);
+        log.info("{}", webhook);
+
+        if (ERROR_RATE == 0) {
+            assertThat(verify.failures()).isZero();
+            assertThat(billing.failures()).isZero();
+            assertThat(webhook.failures()).isZero();
+        }
+    }
+
+    private String paymentId(int iteration) {
+        return "load-" + runId + "-" + iteration;
+    }
+
+    private String sign(String body) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(webhookSecret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            return Base64.getEncoder().encodeToString(mac.doFinal(body.getBytes(StandardCharsets.UTF_8)));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
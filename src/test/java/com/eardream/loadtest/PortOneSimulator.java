@@ -0,0 +1,173 @@
+package com.eardream.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 포트원 V2 API 시뮬레이터 (부하 테스트용 내장 HTTP 서버)
+ * PortOneService가 호출하는 엔드포인트만 흉내 내며, 지연과 오류 비율을 주입할 수 있다.
+ * - POST   /login/api-secret
+ * - GET    /payments/{impUid}
+ * - POST   /payments/again
+ * - POST   /payments/{transactionId}/cancel
+ * - DELETE /billing-keys/{billingKey}
+ */
+@Slf4j
+public class PortOneSimulator implements AutoCloseable {
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final int latencyMillis;
+    private final int jitterMillis;
+    private final double errorRate;
+    private final Map<String, AtomicLong> requestCounts = new ConcurrentHashMap<>();
+
+    private PortOneSimulator(int latencyMillis, int jitterMillis, double errorRate, int workerThreads) throws IOException {
+        this.latencyMillis = latencyMillis;
+        this.jitterMillis = jitterMillis;
+        this.errorRate = errorRate;
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        this.executor = Executors.newFixedThreadPool(workerThreads);
+        this.server.setExecutor(executor);
+        this.server.createContext("/login/api-secret", this::handleLogin);
+        this.server.createContext("/payments/", this::handlePayments);
+        this.server.createContext("/billing-keys/", this::handleBillingKeys);
+    }
+
+    /**
+     * 시뮬레이터 시작 (임의 포트)
+     */
+    public static PortOneSimulator start(int latencyMillis, int jitterMillis, double errorRate, int workerThreads) {
+        try {
+            PortOneSimulator simulator = new PortOneSimulator(latencyMillis, jitterMillis, errorRate, workerThreads);
+            simulator.server.start();
+            log.info("PortOne 시뮬레이터 시작 - {}, 지연: {}±{}ms, 오류율: {}",
+                    simulator.baseUrl(), latencyMillis, jitterMillis, errorRate);
+            return simulator;
+        } catch (IOException e) {
+            throw new IllegalStateException("PortOne 시뮬레이터 시작 실패", e);
+        }
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    /**
+     * 엔드포인트별 요청 수
+     */
+    public Map<String, Long> requestCounts() {
+        Map<String, Long> snapshot = new ConcurrentHashMap<>();
+        requestCounts.forEach((key, count) -> snapshot.put(key, count.get()));
+        return snapshot;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handleLogin(HttpExchange exchange) throws IOException {
+        if (!simulate(exchange, "login")) {
+            return;
+        }
+        respond(exchange, 200, "{\"accessToken\":\"sim-access-token\",\"refreshToken\":\"sim-refresh-token\"}");
+    }
+
+    private void handlePayments(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        String method = exchange.getRequestMethod();
+
+        if ("POST".equals(method) && "/payments/again".equals(path)) {
+            if (!simulate(exchange, "payments.again")) {
+                return;
+            }
+            respond(exchange, 200, "{\"status\":\"paid\",\"impUid\":\"sim-" + UUID.randomUUID() + "\","
+                    + "\"cardName\":\"시뮬레이터카드\",\"cardNumber\":\"1234-****-****-5678\"}");
+            return;
+        }
+        if ("POST".equals(method) && path.endsWith("/cancel")) {
+            if (!simulate(exchange, "payments.cancel")) {
+                return;
+            }
+            respond(exchange, 200, "{\"status\":\"cancelled\"}");
+            return;
+        }
+        if ("GET".equals(method)) {
+            if (!simulate(exchange, "payments.get")) {
+                return;
+            }
+            String impUid = path.substring("/payments/".length());
+            respond(exchange, 200, "{\"status\":\"paid\",\"impUid\":\"" + impUid + "\","
+                    + "\"merchantUid\":\"merchant-" + impUid + "\",\"amount\":\"29900\",\"payMethod\":\"card\","
+                    + "\"buyerName\":\"부하테스트\",\"buyerEmail\":\"load@eardream.test\","
+                    + "\"buyerTel\":\"010-0000-0000\",\"name\":\"이어드림 월간 구독\"}");
+            return;
+        }
+        respond(exchange, 404, "{\"message\":\"not found\"}");
+    }
+
+    private void handleBillingKeys(HttpExchange exchange) throws IOException {
+        if (!"DELETE".equals(exchange.getRequestMethod())) {
+            respond(exchange, 404, "{\"message\":\"not found\"}");
+            return;
+        }
+        if (!simulate(exchange, "billing-keys.delete")) {
+            return;
+        }
+        respond(exchange, 200, "{}");
+    }
+
+    /**
+     * 요청 집계, 지연 주입, 오류 주입 (오류 응답을 보냈으면 false)
+     */
+    private boolean simulate(HttpExchange exchange, String endpoint) throws IOException {
+        requestCounts.computeIfAbsent(endpoint, key -> new AtomicLong()).incrementAndGet();
+        drain(exchange.getRequestBody());
+
+        int delay = latencyMillis + (jitterMillis > 0 ? ThreadLocalRandom.current().nextInt(jitterMillis + 1) : 0);
+        if (delay > 0) {
+            try {
+                Thread.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+            respond(exchange, 500, "{\"message\":\"simulated failure\"}");
+            return false;
+        }
+        return true;
+    }
+
+    private static void drain(InputStream body) throws IOException {
+        try (body) {
+            body.readAllBytes();
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=UTF-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}